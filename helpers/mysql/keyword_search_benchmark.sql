@@ -0,0 +1,136 @@
+-- 키워드 검색 벤치마크: title LIKE '%키워드%' vs FULLTEXT(ngram) MATCH ... AGAINST
+--
+-- 실행 방법 (운영 DB가 아닌 로컬/개발 DB에서 실행)
+--   mysql -u root -p moitda < helpers/mysql/keyword_search_benchmark.sql
+--
+-- meeting 테이블과 같은 구조의 meeting_bench 테이블에 100만 건을 생성한 뒤
+-- MeetingRepository.findPageByKeyword / findPageByFullText 와 같은 쿼리를 EXPLAIN ANALYZE로 비교한다.
+-- 결과의 actual time(ms)과 rows를 비교하면 되고, 끝나면 맨 아래 DROP TABLE로 정리한다.
+
+DROP TABLE IF EXISTS meeting_bench;
+
+CREATE TABLE meeting_bench
+(
+    meeting_id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id                BIGINT       NOT NULL,
+    username               VARCHAR(255) NOT NULL,
+    category_id            BIGINT       NOT NULL,
+    title                  VARCHAR(255) NOT NULL,
+    participants_count     INT          NOT NULL,
+    max_participants_count INT          NOT NULL,
+    road_address_name      VARCHAR(255) NOT NULL,
+    place_name             VARCHAR(255),
+    detailed_address       VARCHAR(255),
+    location_point         POINT        NOT NULL SRID 4326,
+    content                TEXT,
+    approval_required      BIT          NOT NULL,
+    appointment_time       VARCHAR(255) NOT NULL,
+    end_time               VARCHAR(255),
+    create_at              DATETIME(6),
+    update_at              DATETIME(6),
+    is_deleted             BIT          NOT NULL
+);
+
+-- 100만 건 생성 (인덱스는 적재 후 생성해야 훨씬 빠름)
+SET SESSION cte_max_recursion_depth = 1000000;
+
+INSERT INTO meeting_bench (user_id, username, category_id, title, participants_count, max_participants_count,
+                           road_address_name, place_name, detailed_address, location_point, content,
+                           approval_required, appointment_time, end_time, create_at, update_at, is_deleted)
+WITH RECURSIVE seq AS (SELECT 1 AS n
+                       UNION ALL
+                       SELECT n + 1 FROM seq WHERE n < 1000000)
+SELECT n % 5000 + 1,
+       CONCAT('user', n % 5000 + 1),
+       n % 8 + 1,
+       CONCAT(ELT(n % 10 + 1, '강남', '홍대', '성수', '잠실', '판교', '신촌', '건대', '여의도', '해운대', '광안리'), ' ',
+              ELT(n % 12 + 1, '러닝', '보드게임', '스터디', '맛집 탐방', '독서', '클라이밍', '등산', '코딩', '영어 회화', '사진 출사',
+                  '테니스', '방탈출'), ' ',
+              ELT(n % 5 + 1, '모임', '번개', '같이 해요', '멤버 모집', '정기 모임')),
+       n % 10 + 1,
+       10,
+       ELT(n % 4 + 1, '서울 강남구 테헤란로 1', '서울 마포구 양화로 2', '서울 송파구 올림픽로 3', '부산 해운대구 해운대로 4'),
+       '장소',
+       '상세 주소',
+       -- 서울 중심 약 ±0.15도 범위에 분산
+       ST_GeomFromText(CONCAT('POINT(', 126.85 + (n * 7919 % 30000) / 100000, ' ', 37.45 + (n * 104729 % 30000) / 100000, ')'),
+                       4326, 'axis-order=long-lat'),
+       CONCAT('함께 ', ELT(n % 12 + 1, '달리기', '보드게임', '공부', '맛집', '책', '클라이밍', '산행', '프로그래밍', '회화',
+                        '사진', '테니스', '방탈출'), ' 하실 분을 찾습니다. 초보자도 환영합니다. #', n),
+       n % 3 = 0,
+       DATE_FORMAT(NOW() + INTERVAL (n % 720) HOUR, '%Y-%m-%dT%H:%i'),
+       IF(n % 10 = 0, DATE_FORMAT(NOW(), '%Y-%m-%dT%H:%i'), NULL),
+       NOW(6),
+       NOW(6),
+       FALSE
+FROM seq;
+
+CREATE SPATIAL INDEX idx_meeting_bench_location_point ON meeting_bench (location_point);
+CREATE FULLTEXT INDEX ft_meeting_bench_title_content ON meeting_bench (title, content) WITH PARSER ngram;
+ANALYZE TABLE meeting_bench;
+
+SET @point = ST_GeomFromText('POINT(127.0276 37.4979)', 4326, 'axis-order=long-lat'); -- 강남역
+SET @keyword = '보드게임';
+
+-- 1. LIKE 검색 (findPageByKeyword, countPageByKeyword)
+EXPLAIN ANALYZE
+SELECT *
+FROM meeting_bench
+WHERE is_deleted = FALSE
+  AND end_time IS NULL
+  AND title LIKE CONCAT('%', @keyword, '%')
+ORDER BY ST_Distance_Sphere(location_point, @point) ASC
+LIMIT 20;
+
+EXPLAIN ANALYZE
+SELECT COUNT(*)
+FROM meeting_bench
+WHERE is_deleted = FALSE
+  AND end_time IS NULL
+  AND title LIKE CONCAT('%', @keyword, '%');
+
+-- 2. FULLTEXT 검색 (findPageByFullText, countPageByFullText), 서비스와 같이 구문 검색으로 전달
+SET @phrase = CONCAT('"', @keyword, '"');
+
+EXPLAIN ANALYZE
+SELECT *
+FROM meeting_bench
+WHERE is_deleted = FALSE
+  AND end_time IS NULL
+  AND MATCH(title, content) AGAINST(@phrase IN BOOLEAN MODE)
+ORDER BY MATCH(title, content) AGAINST(@phrase IN BOOLEAN MODE) / (1 + ST_Distance_Sphere(location_point, @point) / 1000) DESC,
+         meeting_id DESC
+LIMIT 20;
+
+EXPLAIN ANALYZE
+SELECT COUNT(*)
+FROM meeting_bench
+WHERE is_deleted = FALSE
+  AND end_time IS NULL
+  AND MATCH(title, content) AGAINST(@phrase IN BOOLEAN MODE);
+
+-- 3. 결과가 적은 키워드 (LIKE는 여전히 전체 스캔, FULLTEXT는 인덱스에서 바로 좁혀짐)
+SET @keyword = '방탈출 정기';
+SET @phrase = CONCAT('"', @keyword, '"');
+
+EXPLAIN ANALYZE
+SELECT *
+FROM meeting_bench
+WHERE is_deleted = FALSE
+  AND end_time IS NULL
+  AND title LIKE CONCAT('%', @keyword, '%')
+ORDER BY ST_Distance_Sphere(location_point, @point) ASC
+LIMIT 20;
+
+EXPLAIN ANALYZE
+SELECT *
+FROM meeting_bench
+WHERE is_deleted = FALSE
+  AND end_time IS NULL
+  AND MATCH(title, content) AGAINST(@phrase IN BOOLEAN MODE)
+ORDER BY MATCH(title, content) AGAINST(@phrase IN BOOLEAN MODE) / (1 + ST_Distance_Sphere(location_point, @point) / 1000) DESC,
+         meeting_id DESC
+LIMIT 20;
+
+-- 정리
+-- DROP TABLE meeting_bench;
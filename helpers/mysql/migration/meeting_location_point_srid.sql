@@ -0,0 +1,49 @@
+-- meeting.location_point 를 SPATIAL INDEX 가 가능한 POINT NOT NULL SRID 4326 으로 변경
+--
+-- 배포 전 필수 단계: 컬럼이 POINT NOT NULL SRID 4326 이 아니면 애플리케이션이 기동하지 않는다. (MeetingSchemaInitializer)
+-- 실행 방법 (점검 시간에 백업 후 실행, 애플리케이션은 이후 재시작하면 idx_meeting_location_point 가 있는지 확인만 한다)
+--   mysql -u root -p moitda < helpers/mysql/migration/meeting_location_point_srid.sql
+--
+-- 위치가 없는(location_point IS NULL) 미팅이 있으면 좌표를 임의로 만들지 않고 중단한다.
+-- 1번 조회 결과의 미팅은 road_address_name 으로 실제 좌표를 찾아 넣거나 종료/삭제 처리한 뒤 다시 실행한다.
+-- 검색 조건은 SRID 4326 으로 만들므로, SRID 0 좌표가 남아 있으면 위치 검색(MBRContains + ST_Distance_Sphere)이 SRID 불일치로 실패한다.
+
+-- 1. 위치가 없는 미팅 확인
+SELECT meeting_id, title, road_address_name, is_deleted, end_time
+FROM meeting
+WHERE location_point IS NULL;
+
+-- 2. SRID 가 다른 미팅 수 확인 (0 이 아닌 좌표계라면 변경하지 말고 먼저 확인)
+SELECT ST_SRID(location_point) AS srid, COUNT(*) AS meetings
+FROM meeting
+WHERE location_point IS NOT NULL
+GROUP BY ST_SRID(location_point);
+
+DROP PROCEDURE IF EXISTS migrate_meeting_location_point;
+
+DELIMITER //
+CREATE PROCEDURE migrate_meeting_location_point()
+BEGIN
+    IF EXISTS (SELECT 1 FROM meeting WHERE location_point IS NULL) THEN
+        SIGNAL SQLSTATE '45000'
+            SET MESSAGE_TEXT = 'meeting.location_point 가 NULL 인 미팅이 있습니다. 실제 좌표를 채우거나 정리한 뒤 다시 실행하세요.';
+    END IF;
+    IF EXISTS (SELECT 1 FROM meeting WHERE ST_SRID(location_point) NOT IN (0, 4326)) THEN
+        SIGNAL SQLSTATE '45000'
+            SET MESSAGE_TEXT = 'meeting.location_point 에 0, 4326 이 아닌 SRID 가 있습니다. 좌표계를 확인하세요.';
+    END IF;
+
+    -- SRID 0 으로 저장된 좌표도 내부 저장 순서는 (경도, 위도) 그대로이므로 좌표 변환 없이 SRID 만 변경
+    UPDATE meeting
+    SET location_point = ST_SRID(location_point, 4326)
+    WHERE ST_SRID(location_point) = 0;
+
+    ALTER TABLE meeting MODIFY location_point POINT NOT NULL SRID 4326;
+END //
+DELIMITER ;
+
+CALL migrate_meeting_location_point();
+DROP PROCEDURE migrate_meeting_location_point;
+
+-- 3. 인덱스 생성 (애플리케이션 시작 시에도 없으면 생성)
+CREATE SPATIAL INDEX idx_meeting_location_point ON meeting (location_point);
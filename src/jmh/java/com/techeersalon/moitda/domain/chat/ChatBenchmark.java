@@ -0,0 +1,115 @@
+package com.techeersalon.moitda.domain.chat;
+
+import com.techeersalon.moitda.domain.chat.dto.mapper.ChatMapper;
+import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageRes;
+import com.techeersalon.moitda.domain.chat.entity.ChatMessage;
+import com.techeersalon.moitda.domain.chat.service.RedisListSubscriber;
+import com.techeersalon.moitda.domain.user.dto.response.UserProfileRes;
+import com.techeersalon.moitda.domain.user.service.UserService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+
+/*
+ * 채팅 메세지 응답 변환, 채팅방 목록 publish 메세지 정리 비용
+ * toChatMessageDto, toChatMessageDtoList 의 유저 조회는 mock 으로 대체했으므로 DB 조회 비용은 포함하지 않는다.
+ * roomCount 는 한 유저에게 발행되는 채팅방 목록 크기
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatBenchmark {
+
+    private static final int HISTORY_SIZE = 50;
+
+    @Param({"10", "100"})
+    private int roomCount;
+
+    private ChatMapper chatMapper;
+    private ChatMessage chatMessage;
+    private List<ChatMessage> chatHistory;
+    private String publishedRoomList;
+
+    @Setup
+    public void setUp() {
+        UserService userService = Mockito.mock(UserService.class);
+        UserProfileRes profile = UserProfileRes.builder()
+                .username("user")
+                .profileImage("https://moitda.s3.ap-northeast-2.amazonaws.com/profile/1.png")
+                .build();
+        doReturn(profile).when(userService).findUserProfileForChat(anyLong());
+        doReturn(Map.of(1L, profile, 2L, profile, 3L, profile)).when(userService).findUserProfilesForChat(anyCollection());
+        chatMapper = new ChatMapper();
+        ReflectionTestUtils.setField(chatMapper, "userService", userService);
+
+        chatMessage = ChatMessage.builder()
+                .id(1L)
+                .userid(1L)
+                .meetingId(1L)
+                .message("안녕하세요! 내일 몇 시에 만나나요?")
+                .messageType(ChatMessage.MessageType.TALK)
+                .build();
+
+        // 채팅방 첫 페이지 크기의 메세지를 3명이 번갈아 보낸 내역
+        chatHistory = new ArrayList<>();
+        for (long i = 1; i <= HISTORY_SIZE; i++) {
+            chatHistory.add(ChatMessage.builder()
+                    .id(i)
+                    .userid(i % 3 + 1)
+                    .meetingId(1L)
+                    .message("메세지 " + i)
+                    .messageType(ChatMessage.MessageType.TALK)
+                    .build());
+        }
+
+        publishedRoomList = publishedRoomList(roomCount);
+    }
+
+    // RedisTemplate(GenericJackson2JsonRedisSerializer)이 채팅방 목록을 발행할 때의 형식
+    private String publishedRoomList(int roomCount) {
+        StringBuilder json = new StringBuilder("[\"java.util.ArrayList\",[");
+        for (int i = 1; i <= roomCount; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("{\"@class\":\"com.techeersalon.moitda.domain.chat.dto.response.ChatRoomRes\",")
+                    .append("\"id\":").append(i).append(",\"last_message\":").append(i * 10L).append(',')
+                    .append("\"members\":[\"java.util.ArrayList\",[")
+                    .append("{\"@class\":\"com.techeersalon.moitda.domain.chat.dto.response.ChatRoomRes$MemberDetail\",\"id\":1,\"name\":\"user1\"},")
+                    .append("{\"@class\":\"com.techeersalon.moitda.domain.chat.dto.response.ChatRoomRes$MemberDetail\",\"id\":2,\"name\":\"user2\"}")
+                    .append("]]}");
+        }
+        return json.append("]]").toString();
+    }
+
+    @Benchmark
+    public ChatMessageRes toChatMessageDto() {
+        return chatMapper.toChatMessageDto(chatMessage);
+    }
+
+    @Benchmark
+    public List<ChatMessageRes> toChatMessageDtoList() {
+        return chatMapper.toChatMessageDtoList(chatHistory);
+    }
+
+    @Benchmark
+    public String removeUnwantedElements() {
+        return RedisListSubscriber.removeUnwantedElements(publishedRoomList);
+    }
+}
@@ -0,0 +1,113 @@
+package com.techeersalon.moitda.domain.meetings.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techeersalon.moitda.domain.meetings.dto.mapper.MeetingParticipantListMapper;
+import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import com.techeersalon.moitda.domain.meetings.entity.MeetingImage;
+import com.techeersalon.moitda.domain.user.entity.User;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 미팅 목록, 상세 조회 응답 변환 비용
+ * pageSize 는 검색 페이지 한 번에 내려가는 미팅 수 (GetSearchPageRes 직렬화 크기)
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MeetingResponseBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Meeting meeting;
+    private MeetingImage image;
+    private User owner;
+    private List<MeetingParticipantListMapper> participantList;
+    private List<MeetingParticipantListMapper> waitingList;
+    private List<MeetingImage> imageList;
+    private GetSearchPageRes searchPage;
+
+    @Setup
+    public void setUp() {
+        meeting = Meeting.builder()
+                .id(1L)
+                .userId(1L)
+                .username("owner")
+                .categoryId(1L)
+                .title("한강 러닝 같이 하실 분")
+                .content("저녁 8시에 여의도 한강공원에서 5km 러닝합니다.")
+                .participantsCount(5)
+                .maxParticipantsCount(10)
+                .roadAddressName("서울 영등포구 여의동로 330")
+                .placeName("여의도한강공원")
+                .detailedAddress("물빛광장 앞")
+                .locationPoint(new GeometryFactory(new PrecisionModel(), Meeting.LOCATION_SRID)
+                        .createPoint(new Coordinate(126.9341, 37.5284)))
+                .approvalRequired(false)
+                .appointmentTime("2024-06-01T20:00")
+                .endTime("2024-06-01T21:00")
+                .build();
+        image = new MeetingImage("https://moitda.s3.ap-northeast-2.amazonaws.com/meeting/1.png", 1L);
+        owner = User.builder()
+                .id(1L)
+                .username("owner")
+                .profileImage("https://moitda.s3.ap-northeast-2.amazonaws.com/profile/1.png")
+                .mannerStat(40)
+                .build();
+
+        participantList = new ArrayList<>();
+        for (long userId = 1; userId <= 5; userId++) {
+            participantList.add(participant(userId, false));
+        }
+        waitingList = List.of(participant(6L, true), participant(7L, true));
+        imageList = List.of(image);
+
+        List<GetLatestMeetingListRes> meetingList = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            meetingList.add(GetLatestMeetingListRes.from(meeting, image));
+        }
+        searchPage = GetSearchPageRes.of(meetingList, 0, pageSize, true, 1_000L);
+    }
+
+    private MeetingParticipantListMapper participant(Long userId, boolean isWaiting) {
+        return MeetingParticipantListMapper.builder()
+                .userId(userId)
+                .username("user" + userId)
+                .profileImage("https://moitda.s3.ap-northeast-2.amazonaws.com/profile/" + userId + ".png")
+                .isWaiting(isWaiting)
+                .build();
+    }
+
+    @Benchmark
+    public GetLatestMeetingListRes latestMeetingListFrom() {
+        return GetLatestMeetingListRes.from(meeting, image);
+    }
+
+    @Benchmark
+    public GetMeetingDetailRes meetingDetailOf() {
+        GetMeetingDetailRes detail = GetMeetingDetailRes.of(meeting, owner, participantList, waitingList, imageList);
+        detail.applyViewer(3L);
+        return detail;
+    }
+
+    @Benchmark
+    public String serializeSearchPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(searchPage);
+    }
+}
@@ -0,0 +1,56 @@
+package com.techeersalon.moitda.global.jwt;
+
+import com.techeersalon.moitda.global.jwt.Service.JwtService;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 인증 필터의 요청당 비용 (토큰 추출 -> 검증 -> AuthUser 생성 -> SecurityContext 저장)
+ * verifiedTokenCacheEnabled=false 는 매 요청 서명 검증, true 는 같은 토큰이 반복되는 경우
+ * TokenDenylist 는 꺼두었으므로 Redis 왕복 비용은 포함하지 않는다.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean verifiedTokenCacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final FilterChain filterChain = (servletRequest, servletResponse) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = JwtBenchmarkSupport.jwtService(verifiedTokenCacheEnabled);
+
+        filter = new JwtAuthenticationFilter(jwtService, null, new AuthUserCache(60_000), new TokenDenylist(null, false));
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + jwtService.createAccessToken(JwtBenchmarkSupport.user()));
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        filter.checkAccessTokenAndAuthentication(request, response, filterChain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
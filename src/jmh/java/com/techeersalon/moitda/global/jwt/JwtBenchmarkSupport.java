@@ -0,0 +1,40 @@
+package com.techeersalon.moitda.global.jwt;
+
+import com.techeersalon.moitda.domain.user.entity.Role;
+import com.techeersalon.moitda.domain.user.entity.SocialType;
+import com.techeersalon.moitda.domain.user.entity.User;
+import com.techeersalon.moitda.global.jwt.Service.JwtService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+// 스프링 컨텍스트 없이 application.yml 과 같은 설정으로 JwtService 생성
+final class JwtBenchmarkSupport {
+
+    private JwtBenchmarkSupport() {
+    }
+
+    static JwtService jwtService(boolean verifiedTokenCacheEnabled) {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+
+        JwtService jwtService = new JwtService(null, new VerifiedTokenCache(verifiedTokenCacheEnabled, 30_000));
+        ReflectionTestUtils.setField(jwtService, "secretKey", Base64.getEncoder().encodeToString(secret));
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpirationPeriod", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpirationPeriod", 1_209_600_000L);
+        ReflectionTestUtils.setField(jwtService, "accessHeader", "Authorization");
+        ReflectionTestUtils.setField(jwtService, "refreshHeader", "Authorization-refresh");
+        jwtService.init();
+        return jwtService;
+    }
+
+    static User user() {
+        return User.builder()
+                .id(1L)
+                .email("user@naver.com")
+                .socialType(SocialType.NAVER)
+                .role(Role.USER)
+                .build();
+    }
+}
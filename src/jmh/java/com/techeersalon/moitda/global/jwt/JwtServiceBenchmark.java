@@ -0,0 +1,58 @@
+package com.techeersalon.moitda.global.jwt;
+
+import com.techeersalon.moitda.domain.user.entity.User;
+import com.techeersalon.moitda.global.jwt.Service.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * JwtService 토큰 발급, 검증 비용
+ * 검증은 VerifiedTokenCache 를 끈 상태로 매번 서명 검증과 claim 파싱을 수행한다.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = JwtBenchmarkSupport.jwtService(false);
+        user = JwtBenchmarkSupport.user();
+        accessToken = jwtService.createAccessToken(user);
+        refreshToken = jwtService.createRefreshToken();
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtService.createAccessToken(user);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtService.createRefreshToken();
+    }
+
+    @Benchmark
+    public Optional<Claims> verifyAccessToken() {
+        return jwtService.verifyAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean isRefreshTokenValid() {
+        return jwtService.isTokenValid(refreshToken);
+    }
+}
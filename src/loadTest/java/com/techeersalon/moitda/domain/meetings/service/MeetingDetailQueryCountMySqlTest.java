@@ -0,0 +1,145 @@
+package com.techeersalon.moitda.domain.meetings.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.techeersalon.moitda.domain.meetings.dto.response.GetMeetingDetailRes;
+import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import com.techeersalon.moitda.domain.meetings.entity.MeetingParticipant;
+import com.techeersalon.moitda.domain.meetings.index.MeetingKeywordIndex;
+import com.techeersalon.moitda.domain.meetings.index.MeetingLocationIndex;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingImageRepository;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingParticipantRepository;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingRepository;
+import com.techeersalon.moitda.domain.user.entity.Role;
+import com.techeersalon.moitda.domain.user.entity.SocialType;
+import com.techeersalon.moitda.domain.user.entity.User;
+import com.techeersalon.moitda.domain.user.repository.UserRepository;
+import com.techeersalon.moitda.domain.user.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/*
+ * 미팅 상세 조회가 참가자 수와 관계없이 같은 수의 SQL 만 실행하는지 실제 MySQL 에서 확인 (Docker 필요, ./gradlew loadTest)
+ * 레포지토리 안의 숨은 쿼리나 지연 로딩까지 세도록 Hibernate 통계의 prepared statement 수를 비교한다.
+ * */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("loadtest")
+@Testcontainers
+class MeetingDetailQueryCountMySqlTest {
+
+    private static final int PARTICIPANTS = 120;
+    private static final int WAITING = 30;
+    // 미팅, 이미지, 참가자(대기자 포함), 유저 각 1번
+    private static final long DETAIL_QUERY_COUNT = 4;
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("moitda");
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingParticipantRepository meetingParticipantRepository;
+    @Autowired
+    private MeetingImageRepository meetingImageRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user(int index) {
+        return User.builder()
+                .username("user" + index)
+                .email("user" + index + "@loadtest.invalid")
+                .profileImage("profile" + index)
+                .mannerStat(40)
+                .role(Role.USER)
+                .socialType(SocialType.KAKAO)
+                .build();
+    }
+
+    private MeetingService meetingService() {
+        return new MeetingService(meetingRepository, meetingParticipantRepository, mock(UserService.class), userRepository,
+                meetingImageRepository, mock(AmazonS3.class), mock(MeetingLocationIndex.class), mock(MeetingKeywordIndex.class),
+                mock(SearchCountCache.class), mock(MeetingDetailCache.class), mock(MeetingAdmissionQueue.class));
+    }
+
+    @Test
+    @DisplayName("참가자 120명, 대기자 30명인 미팅 상세 조회도 SQL 4번으로 처리")
+    void findMeetingById_statementCountIsFixed() {
+        //given
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS + WAITING; i++) {
+            users.add(entityManager.persist(user(i)));
+        }
+        User owner = users.get(0);
+        Meeting meeting = entityManager.persist(Meeting.builder()
+                .userId(owner.getId())
+                .username(owner.getUsername())
+                .categoryId(1L)
+                .title("title")
+                .participantsCount(PARTICIPANTS)
+                .maxParticipantsCount(PARTICIPANTS)
+                .roadAddressName("서울 중구 세종대로 110")
+                .locationPoint(new GeometryFactory(new PrecisionModel(), Meeting.LOCATION_SRID)
+                        .createPoint(new Coordinate(126.9780, 37.5665)))
+                .approvalRequired(true)
+                .appointmentTime("2024-06-01T12:00")
+                .build());
+        for (int i = 0; i < users.size(); i++) {
+            entityManager.persist(MeetingParticipant.builder()
+                    .meetingId(meeting.getId())
+                    .userId(users.get(i).getId())
+                    .username(users.get(i).getUsername())
+                    .isWaiting(i >= PARTICIPANTS)
+                    .isReviewed(false)
+                    .build());
+        }
+        // 영속성 컨텍스트에 남은 엔티티로 조회가 대신 처리되지 않도록 비움
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        GetMeetingDetailRes result = meetingService().findMeetingById(meeting.getId());
+
+        //then
+        assertThat(result.getParticipantList()).hasSize(PARTICIPANTS);
+        assertThat(result.getWaitingList()).hasSize(WAITING);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(DETAIL_QUERY_COUNT);
+    }
+}
@@ -0,0 +1,118 @@
+package com.techeersalon.moitda.domain.meetings.service;
+
+import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 위치 검색의 MBRContains 사전 필터가 기존 쿼리(ST_Distance_Sphere 만 사용)와 같은 미팅을 반환하는지 실제 MySQL 에서 확인
+ * (Docker 필요, ./gradlew loadTest)
+ *
+ * 중심 좌표 주변 4km 안에 무작위 미팅과 반경 경계(1500m 전후)의 미팅을 만들고,
+ * 같은 중심에 대해 두 쿼리의 결과 id 목록(거리순)이 같은지 비교한다.
+ * */
+@Testcontainers
+class NearbyEnvelopePrefilterMySqlTest {
+
+    private static final double RADIUS_METERS = 1500;
+    private static final double EARTH_RADIUS_METERS = 6370986;
+    private static final int RANDOM_MEETINGS = 5_000;
+
+    private static final String OLD_QUERY = "SELECT meeting_id FROM meeting WHERE is_deleted = false AND end_time IS NULL " +
+            "AND ST_Distance_Sphere(location_point, ST_GeomFromText(?, 4326, 'axis-order=long-lat')) <= 1500 " +
+            "ORDER BY ST_Distance_Sphere(location_point, ST_GeomFromText(?, 4326, 'axis-order=long-lat')), meeting_id";
+    private static final String PREFILTER_QUERY = "SELECT meeting_id FROM meeting WHERE is_deleted = false AND end_time IS NULL " +
+            "AND MBRContains(ST_GeomFromText(?, 4326, 'axis-order=long-lat'), location_point) " +
+            "AND ST_Distance_Sphere(location_point, ST_GeomFromText(?, 4326, 'axis-order=long-lat')) <= 1500 " +
+            "ORDER BY ST_Distance_Sphere(location_point, ST_GeomFromText(?, 4326, 'axis-order=long-lat')), meeting_id";
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), Meeting.LOCATION_SRID);
+    // 서울 시청, 부산역, 위도가 높은 지역(경도 폭이 좁아지는 경우)
+    private static final List<Point> CENTERS = List.of(
+            point(126.9780, 37.5665),
+            point(129.0403, 35.1151),
+            point(24.9384, 60.1699));
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createMeetings() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+        jdbcTemplate.execute("CREATE TABLE meeting (" +
+                "meeting_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "location_point POINT NOT NULL SRID 4326, " +
+                "end_time VARCHAR(255), " +
+                "is_deleted BIT NOT NULL)");
+        jdbcTemplate.execute("CREATE SPATIAL INDEX idx_meeting_location_point ON meeting (location_point)");
+
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        for (Point center : CENTERS) {
+            for (int i = 0; i < RANDOM_MEETINGS; i++) {
+                rows.add(row(offset(center, random.nextDouble() * 4000, random.nextDouble() * 360), random.nextInt(10) == 0));
+            }
+            // 반경 경계 바로 안쪽과 바깥쪽, 8 방향
+            for (int bearing = 0; bearing < 360; bearing += 45) {
+                rows.add(row(offset(center, RADIUS_METERS - 1, bearing), false));
+                rows.add(row(offset(center, RADIUS_METERS + 1, bearing), false));
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO meeting (location_point, is_deleted) " +
+                "VALUES (ST_GeomFromText(?, 4326, 'axis-order=long-lat'), ?)", rows);
+    }
+
+    @Test
+    @DisplayName("MBRContains 사전 필터를 추가해도 반경 안의 미팅과 거리순 정렬이 기존 쿼리와 같음")
+    void prefilter_returnsSameMeetings() {
+        for (Point center : CENTERS) {
+            String point = center.toText();
+            String envelope = MeetingService.mappingEnvelope(center, RADIUS_METERS).toText();
+
+            List<Long> expected = jdbcTemplate.queryForList(OLD_QUERY, Long.class, point, point);
+            List<Long> actual = jdbcTemplate.queryForList(PREFILTER_QUERY, Long.class, envelope, point, point);
+
+            assertThat(expected).isNotEmpty();
+            assertThat(actual).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static Point point(double longitude, double latitude) {
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(longitude, latitude));
+    }
+
+    // 구면 위에서 중심으로부터 distance(m), bearing(도) 만큼 떨어진 좌표
+    private static Point offset(Point center, double distance, double bearing) {
+        double angular = distance / EARTH_RADIUS_METERS;
+        double theta = Math.toRadians(bearing);
+        double lat1 = Math.toRadians(center.getY());
+        double lon1 = Math.toRadians(center.getX());
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular) + Math.cos(lat1) * Math.sin(angular) * Math.cos(theta));
+        double lon2 = lon1 + Math.atan2(Math.sin(theta) * Math.sin(angular) * Math.cos(lat1),
+                Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+        return point(Math.toDegrees(lon2), Math.toDegrees(lat2));
+    }
+
+    private static Object[] row(Point point, boolean deleted) {
+        return new Object[]{point.toText(), deleted};
+    }
+}
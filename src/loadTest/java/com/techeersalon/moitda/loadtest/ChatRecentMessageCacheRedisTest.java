@@ -0,0 +1,119 @@
+package com.techeersalon.moitda.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageRes;
+import com.techeersalon.moitda.domain.chat.service.ChatRecentMessageCache;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * ChatRecentMessageCache 의 Lua 스크립트를 실제 Redis 에서 확인 (Docker 필요, ./gradlew loadTest)
+ * */
+@Testcontainers
+class ChatRecentMessageCacheRedisTest {
+
+    private static final int SIZE = 3;
+    private static final long TTL_SECONDS = 600;
+    private static final String KEY = "chat:recent-messages:1";
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private ChatRecentMessageCache cache;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(KEY);
+        cache = new ChatRecentMessageCache(stringRedisTemplate, new ObjectMapper(), SIZE, TTL_SECONDS);
+    }
+
+    private ChatMessageRes message(long id) {
+        return ChatMessageRes.builder().Id(id).userid(1L).content("message" + id).build();
+    }
+
+    private List<Long> latestIds(int count) {
+        return cache.getLatest(1L, count).orElseThrow().stream().map(ChatMessageRes::getId).toList();
+    }
+
+    @Test
+    @DisplayName("DB 에서 채우기 전에 추가된 메세지는 조회되지 않다가, 채울 때 합쳐짐")
+    void append_beforeFill_isMerged() {
+        cache.append(1L, message(30L));
+        assertThat(cache.getLatest(1L, SIZE)).isEmpty();
+
+        // DB 조회 이후 보낸 30 은 DB 결과에 없음
+        cache.fill(1L, List.of(message(20L), message(10L)));
+
+        assertThat(latestIds(SIZE)).containsExactly(30L, 20L, 10L);
+    }
+
+    @Test
+    @DisplayName("같은 id 의 메세지는 한 번만 저장")
+    void fill_skipsMessagesAlreadyAppended() {
+        cache.append(1L, message(20L));
+        cache.fill(1L, List.of(ChatMessageRes.builder().Id(20L).userid(1L).content("db 에서 읽은 같은 메세지").build(),
+                message(10L)));
+
+        assertThat(latestIds(SIZE)).containsExactly(20L, 10L);
+    }
+
+    @Test
+    @DisplayName("최신 size 개만 남기고, 채웠다는 표시는 지워지지 않음")
+    void append_trimsToSizeAndKeepsMarker() {
+        cache.fill(1L, List.of(message(3L), message(2L), message(1L)));
+        cache.append(1L, message(4L));
+        cache.append(1L, message(5L));
+
+        assertThat(latestIds(SIZE)).containsExactly(5L, 4L, 3L);
+        assertThat(stringRedisTemplate.opsForZSet().size(KEY)).isEqualTo(SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("메세지가 없는 채팅방도 채운 뒤에는 캐시에서 빈 목록으로 응답")
+    void fill_emptyRoom() {
+        cache.fill(1L, List.of());
+
+        assertThat(cache.getLatest(1L, SIZE)).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("새 메세지를 추가해도 만료 시간을 연장하지 않음")
+    void append_doesNotExtendTtl() {
+        cache.fill(1L, List.of(message(1L)));
+        stringRedisTemplate.expire(KEY, 5, TimeUnit.SECONDS);
+
+        cache.append(1L, message(2L));
+
+        assertThat(stringRedisTemplate.getExpire(KEY, TimeUnit.SECONDS)).isLessThanOrEqualTo(5);
+    }
+}
@@ -0,0 +1,93 @@
+package com.techeersalon.moitda.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 엔드포인트별 응답 시간 기록, p50 / p99 / 처리량 집계
+ * 처리량은 해당 엔드포인트의 첫 요청 시작부터 마지막 응답까지의 구간 기준
+ * */
+public class LoadTestMetrics {
+
+    private final Map<String, Recorder> recorders = new TreeMap<>();
+
+    public synchronized Recorder recorder(String name) {
+        return recorders.computeIfAbsent(name, key -> new Recorder());
+    }
+
+    public void record(String name, long startNanos, long endNanos, boolean success) {
+        recorder(name).record(startNanos, endNanos, success);
+    }
+
+    public synchronized String report(String scenario) {
+        StringBuilder report = new StringBuilder();
+        report.append("== ").append(scenario).append(" ==\n");
+        report.append(String.format("%-28s %10s %8s %10s %10s %10s %12s%n",
+                "endpoint", "requests", "errors", "p50(ms)", "p99(ms)", "max(ms)", "throughput/s"));
+        recorders.forEach((name, recorder) -> report.append(recorder.summary(name)));
+        return report.toString();
+    }
+
+    public void writeReport(String scenario) throws IOException {
+        String report = report(scenario);
+        System.out.println(report);
+
+        Path dir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve(scenario + ".txt"), report, StandardCharsets.UTF_8);
+    }
+
+    public static class Recorder {
+        private final List<Long> latencies = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+        private long firstStart = Long.MAX_VALUE;
+        private long lastEnd = Long.MIN_VALUE;
+
+        public synchronized void record(long startNanos, long endNanos, boolean success) {
+            if (!success) {
+                errors.incrementAndGet();
+            }
+            latencies.add(endNanos - startNanos);
+            firstStart = Math.min(firstStart, startNanos);
+            lastEnd = Math.max(lastEnd, endNanos);
+        }
+
+        public synchronized long count() {
+            return latencies.size();
+        }
+
+        public long errors() {
+            return errors.get();
+        }
+
+        synchronized String summary(String name) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            double seconds = sorted.length == 0 ? 0 : (lastEnd - firstStart) / 1_000_000_000.0;
+            return String.format("%-28s %10d %8d %10.2f %10.2f %10.2f %12.1f%n",
+                    name,
+                    sorted.length,
+                    errors.get(),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0,
+                    seconds == 0 ? 0 : sorted.length / seconds);
+        }
+
+        private double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
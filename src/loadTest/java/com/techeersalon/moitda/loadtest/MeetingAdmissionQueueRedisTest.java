@@ -0,0 +1,115 @@
+package com.techeersalon.moitda.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techeersalon.moitda.domain.meetings.dto.response.AdmissionStatus;
+import com.techeersalon.moitda.domain.meetings.service.MeetingAdmissionQueue;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * MeetingAdmissionQueue 의 처리 중 목록과 복구 스크립트를 실제 Redis 에서 확인 (Docker 필요, ./gradlew loadTest)
+ * */
+@Testcontainers
+class MeetingAdmissionQueueRedisTest {
+
+    private static final Long MEETING_ID = 7L;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    // 신청을 꺼낸 뒤 종료된 인스턴스
+    private MeetingAdmissionQueue stopped;
+    // 응답이 없는 워커를 바로 복구하는 인스턴스
+    private MeetingAdmissionQueue alive;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        stopped = new MeetingAdmissionQueue(stringRedisTemplate, new ObjectMapper(), 600, 60000);
+        alive = new MeetingAdmissionQueue(stringRedisTemplate, new ObjectMapper(), 600, 0);
+    }
+
+    @Test
+    @DisplayName("꺼낸 뒤 결과를 저장하지 못한 신청은 다른 인스턴스가 원래 순서로 대기열에 되돌림")
+    void recover_requeuesEntriesOfStoppedWorker() {
+        stopped.enqueue(MEETING_ID, 1L);
+        stopped.enqueue(MEETING_ID, 2L);
+        stopped.enqueue(MEETING_ID, 3L);
+
+        List<TypedTuple<String>> polled = stopped.poll(MEETING_ID, 2);
+
+        assertThat(polled).extracting(TypedTuple::getValue).containsExactly("1", "2");
+        assertThat(alive.status(MEETING_ID, 3L).getPosition()).isEqualTo(1L);
+
+        int restored = alive.recover();
+
+        assertThat(restored).isEqualTo(2);
+        assertThat(alive.status(MEETING_ID, 1L).getPosition()).isEqualTo(1L);
+        assertThat(alive.status(MEETING_ID, 2L).getPosition()).isEqualTo(2L);
+        assertThat(alive.status(MEETING_ID, 3L).getPosition()).isEqualTo(3L);
+        assertThat(alive.activeMeetingIds()).containsExactly(MEETING_ID);
+        // 이미 되돌린 신청은 다시 되돌리지 않음
+        assertThat(alive.recover()).isZero();
+    }
+
+    @Test
+    @DisplayName("결과를 저장한 신청은 처리 중 목록에서 지워져 되돌리지 않음")
+    void complete_removesProcessingEntries() {
+        stopped.enqueue(MEETING_ID, 1L);
+        stopped.poll(MEETING_ID, 1);
+
+        stopped.complete(MEETING_ID, Map.of(1L, AdmissionStatus.ADMITTED));
+
+        assertThat(alive.recover()).isZero();
+        assertThat(alive.status(MEETING_ID, 1L).getStatus()).isEqualTo(AdmissionStatus.ADMITTED);
+    }
+
+    @Test
+    @DisplayName("처리에 실패해 되돌린 신청은 복구에서 다시 되돌리지 않음")
+    void requeue_removesProcessingEntries() {
+        stopped.enqueue(MEETING_ID, 1L);
+        stopped.enqueue(MEETING_ID, 2L);
+        List<TypedTuple<String>> polled = stopped.poll(MEETING_ID, 2);
+
+        stopped.requeue(MEETING_ID, polled);
+
+        assertThat(alive.recover()).isZero();
+        assertThat(alive.status(MEETING_ID, 1L).getPosition()).isEqualTo(1L);
+        assertThat(alive.status(MEETING_ID, 2L).getPosition()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,90 @@
+package com.techeersalon.moitda.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techeersalon.moitda.domain.meetings.dto.response.GetMeetingDetailRes;
+import com.techeersalon.moitda.domain.meetings.service.MeetingDetailCache;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * MeetingDetailCache 의 버전 비교 저장을 실제 Redis 에서 확인 (Docker 필요, ./gradlew loadTest)
+ * */
+@Testcontainers
+class MeetingDetailCacheRedisTest {
+
+    private static final Long MEETING_ID = 1L;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private MeetingDetailCache cache;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        cache = new MeetingDetailCache(stringRedisTemplate, new ObjectMapper().findAndRegisterModules(), 300);
+    }
+
+    private GetMeetingDetailRes detail(String title) {
+        return GetMeetingDetailRes.builder()
+                .title(title)
+                .build();
+    }
+
+    @Test
+    @DisplayName("조회 이후 삭제가 없었으면 저장")
+    void put_sameVersion() {
+        String version = cache.version(MEETING_ID);
+
+        cache.put(MEETING_ID, detail("loaded"), version);
+
+        assertThat(cache.get(MEETING_ID)).hasValueSatisfying(cached -> assertThat(cached.getTitle()).isEqualTo("loaded"));
+    }
+
+    @Test
+    @DisplayName("조회와 저장 사이에 삭제되었으면 이전 값을 저장하지 않음")
+    void put_evictedWhileLoading() {
+        cache.put(MEETING_ID, detail("old"), cache.version(MEETING_ID));
+        String version = cache.version(MEETING_ID);
+
+        // 조회 중 다른 요청의 참가 신청이 커밋되어 삭제 (트랜잭션 밖이라 바로 실행)
+        cache.evict(MEETING_ID);
+        cache.put(MEETING_ID, detail("stale"), version);
+
+        assertThat(cache.get(MEETING_ID)).isEmpty();
+        // 삭제 이후 받은 버전으로는 다시 저장
+        cache.put(MEETING_ID, detail("fresh"), cache.version(MEETING_ID));
+        assertThat(cache.get(MEETING_ID)).hasValueSatisfying(cached -> assertThat(cached.getTitle()).isEqualTo("fresh"));
+    }
+}
@@ -0,0 +1,393 @@
+package com.techeersalon.moitda.loadtest;
+
+import com.techeersalon.moitda.domain.meetings.index.MeetingKeywordIndexLoader;
+import com.techeersalon.moitda.domain.meetings.index.MeetingLocationIndexLoader;
+import com.techeersalon.moitda.domain.user.repository.UserRepository;
+import com.techeersalon.moitda.global.common.SnowflakeIdGenerator;
+import com.techeersalon.moitda.global.jwt.Service.JwtService;
+import com.techeersalon.moitda.global.seed.SeedCity;
+import com.techeersalon.moitda.global.seed.SyntheticDataGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 릴리즈 전 부하 테스트 (./gradlew loadTest)
+ * MySQL(공간 인덱스 포함), Redis 를 Testcontainers 로 띄우고 애플리케이션 전체를 실제 포트로 실행한다.
+ * 결과(p50, p99, 처리량)는 콘솔과 build/reports/loadtest/{시나리오}.txt 에 남긴다.
+ *
+ * 규모는 -Ploadtest.xxx 로 조정
+ *   users, meetings             : 생성할 유저, 미팅 수 (데이터는 seed 프로필과 같은 SyntheticDataGenerator 로 생성)
+ *   duration-seconds, concurrency : 검색/상세 조회 혼합 부하 시간과 동시 사용자 수
+ *   join-capacity, join-applicants : 선착순 미팅 정원과 동시에 신청하는 유저 수
+ *   chat-rooms, chat-subscribers, chat-messages : 채팅방 수, 방마다 구독자 수, 방마다 보내는 메세지 수
+ * */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MoitdaLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 1_000);
+    private static final int MEETINGS = Integer.getInteger("loadtest.meetings", 5_000);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int JOIN_CAPACITY = Integer.getInteger("loadtest.join-capacity", 50);
+    private static final int JOIN_APPLICANTS = Integer.getInteger("loadtest.join-applicants", 500);
+    private static final int CHAT_ROOMS = Integer.getInteger("loadtest.chat-rooms", 10);
+    private static final int CHAT_SUBSCRIBERS = Integer.getInteger("loadtest.chat-subscribers", 20);
+    private static final int CHAT_MESSAGES = Integer.getInteger("loadtest.chat-messages", 50);
+    private static final int SEED_PARTICIPANTS_PER_MEETING = 5;
+    private static final int SEED_MESSAGES_PER_ROOM = 10;
+
+    private static final String LATENCY_PREFIX = "lt:";
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("moitda")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeetingLocationIndexLoader meetingLocationIndexLoader;
+    @Autowired
+    private MeetingKeywordIndexLoader meetingKeywordIndexLoader;
+    @Autowired
+    private SnowflakeIdGenerator snowflakeIdGenerator;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private SyntheticDataGenerator generator;
+    private List<Long> userIds;
+    private List<Long> meetingIds;
+    private List<Long> chatRoomIds;
+    private final Map<Long, String> accessTokens = new HashMap<>();
+
+    @BeforeAll
+    void seed() {
+        long start = System.nanoTime();
+        generator = new SyntheticDataGenerator(jdbcTemplate, snowflakeIdGenerator, 1_000, 42L);
+        SyntheticDataGenerator.IdRange users = generator.insertUsers(USERS);
+        // 첫 번째 미팅은 참가 신청 부하용 선착순 미팅
+        meetingIds = generator.insertMeetings(MEETINGS, users, 1, SEED_PARTICIPANTS_PER_MEETING, SEED_MESSAGES_PER_ROOM).toList();
+        userIds = users.toList();
+        chatRoomIds = jdbcTemplate.queryForList("SELECT chatroom_id FROM chat_room ORDER BY chatroom_id LIMIT ?", Long.class, CHAT_ROOMS);
+
+        // JDBC 로 넣은 데이터는 인덱스에 반영되지 않으므로 다시 생성
+        meetingLocationIndexLoader.rebuild();
+        meetingKeywordIndexLoader.rebuild();
+
+        userRepository.findAllById(userIds)
+                .forEach(user -> accessTokens.put(user.getId(), jwtService.createAccessToken(user)));
+
+        System.out.printf("seed: users=%d, meetings=%d, chatRooms=%d (%.1fs)%n",
+                userIds.size(), meetingIds.size(), chatRoomIds.size(), (System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("주변 검색, 상세 조회 혼합 부하")
+    void searchAndDetail() throws Exception {
+        LoadTestMetrics metrics = new LoadTestMetrics();
+
+        runFor(Duration.ofSeconds(DURATION_SECONDS), CONCURRENCY, random -> {
+            String token = accessTokens.get(userIds.get(random.nextInt(userIds.size())));
+            int pick = random.nextInt(100);
+            if (pick < 50) {
+                double[] point = randomPoint(random);
+                get(metrics, "GET /scroll/near", String.format(Locale.ROOT,
+                        "/api/v1/meetings/scroll/near?latitude=%.6f&longitude=%.6f&size=20", point[0], point[1]), token);
+            } else if (pick < 70) {
+                double[] point = randomPoint(random);
+                get(metrics, "GET /search/ (page)", String.format(Locale.ROOT,
+                        "/api/v1/meetings/search/?latitude=%.6f&longitude=%.6f&page=0&size=20", point[0], point[1]), token);
+            } else {
+                Long meetingId = meetingIds.get(random.nextInt(meetingIds.size()));
+                get(metrics, "GET /{meetingId}", "/api/v1/meetings/" + meetingId, token);
+            }
+        });
+
+        metrics.writeReport("search-and-detail");
+        assertErrorRateBelow(metrics, "GET /scroll/near", 0.01);
+        assertErrorRateBelow(metrics, "GET /search/ (page)", 0.01);
+        assertErrorRateBelow(metrics, "GET /{meetingId}", 0.01);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("선착순 미팅 동시 참가 신청 시 정원 초과 없음")
+    void joinBurst() throws Exception {
+        Long meetingId = meetingIds.get(0);
+        generator.updateMaxParticipants(meetingId, JOIN_CAPACITY);
+        Integer initialCount = jdbcTemplate.queryForObject(
+                "SELECT participants_count FROM meeting WHERE meeting_id = ?", Integer.class, meetingId);
+        List<Long> existing = jdbcTemplate.queryForList(
+                "SELECT user_id FROM meeting_participant WHERE meeting_id = ?", Long.class, meetingId);
+
+        List<Long> applicants = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (!existing.contains(userId) && applicants.size() < JOIN_APPLICANTS) {
+                applicants.add(userId);
+            }
+        }
+
+        LoadTestMetrics metrics = new LoadTestMetrics();
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(applicants.size(), 200));
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long applicant : applicants) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int status = send(metrics, "POST /participant/{id}", HttpRequest.newBuilder()
+                        .uri(uri("/api/v1/meetings/participant/" + meetingId))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .header("Authorization", "Bearer " + accessTokens.get(applicant)));
+                if (status / 100 == 2) {
+                    admitted.incrementAndGet();
+                } else if (status / 100 == 4) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        metrics.writeReport("join-burst");
+
+        Integer participantsCount = jdbcTemplate.queryForObject(
+                "SELECT participants_count FROM meeting WHERE meeting_id = ?", Integer.class, meetingId);
+        Integer approvedRows = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM meeting_participant WHERE meeting_id = ? AND is_deleted = false AND is_waiting = false",
+                Integer.class, meetingId);
+        int expected = Math.min(JOIN_CAPACITY, applicants.size() + initialCount);
+        System.out.printf("join-burst: applicants=%d, admitted=%d, rejected=%d, participants_count=%d, approved rows=%d%n",
+                applicants.size(), admitted.get(), rejected.get(), participantsCount, approvedRows);
+
+        // 정원 초과(oversell) 없이 정확히 정원까지만 입장, 카운터와 실제 참가자 row 일치
+        assertThat(participantsCount).isEqualTo(expected);
+        assertThat(approvedRows).isEqualTo(participantsCount);
+        assertThat(admitted.get() + initialCount).isEqualTo(participantsCount);
+        // 2xx 가 아닌 응답은 모두 정원 마감 같은 4xx 여야 함 (5xx, 연결 실패 없음)
+        assertThat(metrics.recorder("POST /participant/{id}").errors()).isEqualTo(rejected.get());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("채팅방 메세지 fan-out")
+    void chatFanOut() throws Exception {
+        LoadTestMetrics metrics = new LoadTestMetrics();
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        int expectedDeliveries = chatRoomIds.size() * CHAT_SUBSCRIBERS * CHAT_MESSAGES;
+        CountDownLatch delivered = new CountDownLatch(expectedDeliveries);
+        List<StompSession> sessions = new ArrayList<>();
+
+        int userIndex = 0;
+        for (Long roomId : chatRoomIds) {
+            for (int i = 0; i < CHAT_SUBSCRIBERS; i++) {
+                Long userId = userIds.get(userIndex++ % userIds.size());
+                StompSession session = connect(stompClient, accessTokens.get(userId));
+                session.subscribe("/sub/chat/room/" + roomId, new StompFrameHandler() {
+                    @Override
+                    public Type getPayloadType(StompHeaders headers) {
+                        return Map.class;
+                    }
+
+                    @Override
+                    public void handleFrame(StompHeaders headers, Object payload) {
+                        Object content = ((Map<?, ?>) payload).get("content");
+                        if (content != null && content.toString().startsWith(LATENCY_PREFIX)) {
+                            long sentAt = Long.parseLong(content.toString().substring(LATENCY_PREFIX.length()));
+                            metrics.record("STOMP delivery", sentAt, System.nanoTime(), true);
+                            delivered.countDown();
+                        }
+                    }
+                });
+                sessions.add(session);
+            }
+        }
+        // 구독 등록이 브로커에 반영될 시간
+        Thread.sleep(1_000);
+
+        ExecutorService senders = Executors.newFixedThreadPool(chatRoomIds.size());
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long roomId : chatRoomIds) {
+            Long senderId = jdbcTemplate.queryForObject(
+                    "SELECT m.user_id FROM chat_room c JOIN meeting m ON m.meeting_id = c.meeting_id WHERE c.chatroom_id = ?",
+                    Long.class, roomId);
+            String token = accessTokens.get(senderId);
+            futures.add(senders.submit(() -> {
+                StompSession session = connect(stompClient, token);
+                for (int i = 0; i < CHAT_MESSAGES; i++) {
+                    StompHeaders headers = new StompHeaders();
+                    headers.setDestination("/pub/chat/room/" + roomId);
+                    headers.add("Authorization", "Bearer " + token);
+                    long sentAt = System.nanoTime();
+                    session.send(headers, Map.of("message", LATENCY_PREFIX + sentAt, "type", "TALK"));
+                    metrics.record("STOMP send", sentAt, System.nanoTime(), true);
+                    Thread.sleep(20);
+                }
+                session.disconnect();
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        senders.shutdown();
+
+        boolean completed = delivered.await(60, TimeUnit.SECONDS);
+        sessions.forEach(StompSession::disconnect);
+
+        metrics.writeReport("chat-fan-out");
+        System.out.printf("chat-fan-out: expected deliveries=%d, missing=%d%n", expectedDeliveries, delivered.getCount());
+        assertThat(completed).isTrue();
+    }
+
+    private StompSession connect(WebSocketStompClient stompClient, String token) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+        return stompClient.connectAsync("ws://localhost:" + port + "/ws", new WebSocketHttpHeaders(), connectHeaders,
+                new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+    }
+
+    // concurrency 개의 가상 사용자가 duration 동안 task 를 반복 실행
+    private void runFor(Duration duration, int concurrency, Consumer<Random> task) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> {
+                Random random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    task.accept(random);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+
+    private double[] randomPoint(Random random) {
+        // 미팅과 같은 분포로 검색 좌표 생성
+        SeedCity city = SeedCity.pick(random);
+        return new double[]{city.randomLatitude(random), city.randomLongitude(random)};
+    }
+
+    private void get(LoadTestMetrics metrics, String name, String path, String token) {
+        send(metrics, name, HttpRequest.newBuilder()
+                .uri(uri(path))
+                .GET()
+                .header("Authorization", "Bearer " + token));
+    }
+
+    // 2xx 만 성공으로 기록, 응답 코드 반환 (연결 실패는 -1)
+    private int send(LoadTestMetrics metrics, String name, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request.timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            metrics.record(name, start, System.nanoTime(), response.statusCode() / 100 == 2);
+            return response.statusCode();
+        } catch (IOException e) {
+            metrics.record(name, start, System.nanoTime(), false);
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metrics.record(name, start, System.nanoTime(), false);
+            return -1;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void assertErrorRateBelow(LoadTestMetrics metrics, String name, double maxErrorRate) {
+        LoadTestMetrics.Recorder recorder = metrics.recorder(name);
+        assertThat(recorder.count()).isPositive();
+        assertThat((double) recorder.errors() / recorder.count()).isLessThan(maxErrorRate);
+    }
+}
@@ -0,0 +1,130 @@
+package com.techeersalon.moitda.loadtest;
+
+import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import com.techeersalon.moitda.domain.meetings.index.MeetingLocation;
+import com.techeersalon.moitda.domain.meetings.index.RedisMeetingLocationIndex;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * RedisMeetingLocationIndex 의 복구 스크립트를 실제 Redis 에서 확인 (Docker 필요, ./gradlew loadTest)
+ * */
+@Testcontainers
+class RedisMeetingLocationIndexRedisTest {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), Meeting.LOCATION_SRID);
+    // 서울 시청
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private RedisMeetingLocationIndex index;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        index = new RedisMeetingLocationIndex(stringRedisTemplate);
+    }
+
+    private MeetingLocation location(Long id, Long categoryId, double latitude, double longitude) {
+        Meeting meeting = Meeting.builder()
+                .id(id)
+                .categoryId(categoryId)
+                .participantsCount(1)
+                .maxParticipantsCount(10)
+                .appointmentTime("2024-06-01T12:00")
+                .locationPoint(GEOMETRY_FACTORY.createPoint(new Coordinate(longitude, latitude)))
+                .build();
+        return MeetingLocation.from(meeting);
+    }
+
+    @Test
+    @DisplayName("DB 와 다른 미팅만 고치고, 없어진 미팅과 카테고리 변경을 반영")
+    void rebuild_repairsDrift() {
+        index.upsert(location(1L, 1L, LATITUDE + 0.001, LONGITUDE));
+        index.upsert(location(2L, 1L, LATITUDE + 0.002, LONGITUDE));
+        long snapshotVersion = index.snapshotVersion();
+
+        // DB: 1번은 카테고리 2로 변경, 2번은 종료, 3번은 인덱스에 누락
+        long drift = index.reconcile(List.of(
+                location(1L, 2L, LATITUDE + 0.001, LONGITUDE),
+                location(3L, 1L, LATITUDE + 0.003, LONGITUDE)), snapshotVersion);
+
+        assertThat(drift).isEqualTo(3);
+        assertThat(index.findNearby(LATITUDE, LONGITUDE, 1500, null)).containsExactly(1L, 3L);
+        assertThat(index.findNearby(LATITUDE, LONGITUDE, 1500, 1L)).containsExactly(3L);
+        assertThat(index.findNearby(LATITUDE, LONGITUDE, 1500, 2L)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("DB 조회 이후 upsert, remove 된 미팅은 다른 인스턴스의 재생성에서 되돌리지 않음")
+    void rebuild_keepsChangesAfterSnapshot() {
+        index.upsert(location(1L, 1L, LATITUDE + 0.001, LONGITUDE));
+        index.upsert(location(2L, 1L, LATITUDE + 0.002, LONGITUDE));
+        long snapshotVersion = index.snapshotVersion();
+        List<MeetingLocation> loaded = List.of(
+                location(1L, 1L, LATITUDE + 0.001, LONGITUDE),
+                location(2L, 1L, LATITUDE + 0.002, LONGITUDE));
+
+        // 재생성 중 들어온 after-commit 변경
+        RedisMeetingLocationIndex other = new RedisMeetingLocationIndex(stringRedisTemplate);
+        other.upsert(location(1L, 1L, LATITUDE + 0.050, LONGITUDE));
+        other.remove(2L);
+        other.upsert(location(3L, 1L, LATITUDE + 0.003, LONGITUDE));
+
+        index.rebuild(loaded, snapshotVersion);
+
+        assertThat(index.findNearby(LATITUDE, LONGITUDE, 1500, null)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("더 최신 snapshot 으로 이미 복구했으면 오래된 snapshot 의 복구는 건너뜀")
+    void reconcile_skipsOlderSnapshot() {
+        long oldSnapshot = index.snapshotVersion();
+        index.upsert(location(1L, 1L, LATITUDE + 0.001, LONGITUDE));
+        index.reconcile(List.of(location(1L, 1L, LATITUDE + 0.001, LONGITUDE)), index.snapshotVersion());
+
+        long drift = index.reconcile(List.of(), oldSnapshot);
+
+        assertThat(drift).isZero();
+        assertThat(index.findNearby(LATITUDE, LONGITUDE, 1500, null)).containsExactly(1L);
+    }
+}
@@ -2,6 +2,7 @@ package com.techeersalon.moitda.domain.chat.controller;
 
 import com.techeersalon.moitda.domain.chat.entity.ChatRoom;
 import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageRes;
+import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageSliceRes;
 import com.techeersalon.moitda.domain.chat.dto.response.ChatRoomRes;
 import com.techeersalon.moitda.domain.chat.service.ChatMessageService;
 import com.techeersalon.moitda.domain.chat.service.ChatRoomService;
@@ -60,6 +61,18 @@ public class ChatController {
         return ResponseEntity.notFound().build();
     }
 
+    @Operation(description = "ScrollMessagesByRoom", summary = "채팅방의 내역 커서 기반 조회 (before 메세지 이전, 최신순, before 에는 next_cursor 문자열을 그대로 전달)")
+    @GetMapping("/rooms/{room_id}/messages")
+    public ResponseEntity<SuccessResponse> scrollMessagesByChatRoom(@PathVariable("room_id") Long roomId,
+                                                                    @RequestParam(value = "before", required = false) Long before,
+                                                                    @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (chatRoomService.findById(roomId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        ChatMessageSliceRes response = chatMessageService.scrollMessageList(roomId, before, size);
+        return ResponseEntity.ok(SuccessResponse.of(MESSAGE_GET_SUCCESS, response));
+    }
+
     @Operation(description = "", summary = "채팅방에 유저 추가")
     @PatchMapping("/rooms/{room_id}")
     public ResponseEntity<SuccessResponse> addUsertoChatRoom(@PathVariable("room_id") Long roomId, @RequestBody @Valid Long userId) {
@@ -7,6 +7,7 @@ import com.techeersalon.moitda.domain.chat.dto.request.ChatMessageReq;
 import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageRes;
 import com.techeersalon.moitda.domain.chat.dto.response.ChatRoomRes;
 import com.techeersalon.moitda.domain.chat.exception.MessageNotFoundException;
+import com.techeersalon.moitda.domain.chat.repository.ChatMessageRow;
 import com.techeersalon.moitda.domain.user.dto.response.UserProfileRes;
 import com.techeersalon.moitda.domain.user.entity.User;
 import com.techeersalon.moitda.domain.user.service.UserService;
@@ -18,6 +19,8 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.time.LocalTime.now;
@@ -32,6 +35,8 @@ public class ChatMapper {
     public static ChatMessage toChatMessage(User user, Long meetingId, ChatMessageReq request) {
         return ChatMessage.builder()
                 .userid(user.getId())
+                .senderName(user.getUsername())
+                .senderProfileImage(user.getProfileImage())
                 .meetingId(meetingId)
                 .message(request.getMessage())
                 .messageType(request.getType())
@@ -40,19 +45,37 @@ public class ChatMapper {
     }
 
     public ChatMessageRes toChatMessageDto(ChatMessage chatMessage) {
-        // userId를 사용하여 사용자 정보를 조회합니다.
+        if (chatMessage.hasSenderSnapshot()) {
+            return toChatMessageDto(chatMessage, chatMessage.getSenderName(), chatMessage.getSenderProfileImage());
+        }
+        // 발신자 정보 없이 저장된 이전 메세지는 userId를 사용하여 사용자 정보를 조회합니다.
         UserProfileRes userProfile = userService.findUserProfileForChat(chatMessage.getUserid());
+        return toChatMessageDto(chatMessage, userProfile.getUsername(), userProfile.getProfileImage());
+    }
 
+    private ChatMessageRes toChatMessageDto(ChatMessage chatMessage, String sender, String profileImage) {
         return ChatMessageRes.builder()
                 .Id(chatMessage.getId())
                 .userid(chatMessage.getUserid())
-                .sender(userProfile.getUsername())
-                .profileImage(userProfile.getProfileImage())
+                .sender(sender)
+                .profileImage(profileImage)
                 .content(chatMessage.getMessage())
                 .sendDate(String.valueOf(chatMessage.getCreateAt()))
                 .build();
     }
 
+    // 저장 전(write-behind) 메세지는 함께 넘어온 발신자 정보로 바로 응답 생성
+    public static ChatMessageRes toChatMessageDto(ChatMessageRow row) {
+        return ChatMessageRes.builder()
+                .Id(row.getId())
+                .userid(row.getUserId())
+                .sender(row.getSenderName())
+                .profileImage(row.getSenderProfileImage())
+                .content(row.getMessage())
+                .sendDate(String.valueOf(row.getCreateAt()))
+                .build();
+    }
+
     public static ChatRoomRes toChatRoomDto(ChatRoom chatRoom) {
         return ChatRoomRes.builder()
                 .id(chatRoom.getId())
@@ -73,10 +96,23 @@ public class ChatMapper {
     }
 
 
+    // 발신자 정보가 저장된 메세지는 조회 없이 변환, 없는 이전 메세지의 발신자만 중복 없이 한 번에 조회
     public List<ChatMessageRes> toChatMessageDtoList(List<ChatMessage> messages) {
-        ChatMapper chatMapper = new ChatMapper();;
+        Set<Long> unresolvedSenderIds = messages.stream()
+                .filter(message -> !message.hasSenderSnapshot())
+                .map(ChatMessage::getUserid)
+                .collect(Collectors.toSet());
+        Map<Long, UserProfileRes> senders = unresolvedSenderIds.isEmpty()
+                ? Map.of()
+                : userService.findUserProfilesForChat(unresolvedSenderIds);
         return messages.stream()
-                .map(this::toChatMessageDto)
+                .map(message -> {
+                    if (message.hasSenderSnapshot()) {
+                        return toChatMessageDto(message, message.getSenderName(), message.getSenderProfileImage());
+                    }
+                    UserProfileRes userProfile = senders.get(message.getUserid());
+                    return toChatMessageDto(message, userProfile.getUsername(), userProfile.getProfileImage());
+                })
                 .collect(Collectors.toList());
     }
 
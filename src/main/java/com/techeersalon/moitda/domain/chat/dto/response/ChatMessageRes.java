@@ -1,7 +1,10 @@
 package com.techeersalon.moitda.domain.chat.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.*;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -10,6 +13,9 @@ import lombok.*;
 @Builder
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class ChatMessageRes {
+    // Snowflake id 는 2^53 보다 커서 JS number 로 받으면 값이 바뀌므로 문자열로 응답
+    @JsonProperty("id")
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long Id;
     private Long userid;
     private String sender;
@@ -0,0 +1,40 @@
+package com.techeersalon.moitda.domain.chat.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 채팅 내역 커서 기반 조회 결과, next_cursor 를 before 로 넘기면 더 이전 메세지 조회
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatMessageSliceRes {
+    private List<ChatMessageRes> messageList;
+    private Integer elementsPerPage;
+    @JsonSerialize(using = ToStringSerializer.class) // 메세지 id 와 같이 문자열로 응답 (JS number 정밀도)
+    private Long nextCursor;
+    private Boolean hasNext;
+
+    // 최신순 size + 1 개를 받아 size 개만 담고, 남는 메세지가 있으면 마지막 메세지 id 를 다음 커서로 사용
+    public static ChatMessageSliceRes of(List<ChatMessageRes> messages, int size) {
+        boolean hasNext = messages.size() > size;
+        List<ChatMessageRes> slice = hasNext ? messages.subList(0, size) : messages;
+        return ChatMessageSliceRes.builder()
+                .messageList(slice)
+                .elementsPerPage(size)
+                .nextCursor(hasNext ? slice.get(slice.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
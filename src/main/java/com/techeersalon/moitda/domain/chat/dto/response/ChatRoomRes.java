@@ -2,6 +2,8 @@ package com.techeersalon.moitda.domain.chat.dto.response;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -14,6 +16,7 @@ import java.util.List;
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class ChatRoomRes {
     private Long id;
+    @JsonSerialize(using = ToStringSerializer.class) // 채팅 메세지 Snowflake id, ChatMessageRes.id 와 같이 문자열로 응답
     private Long lastMessage;
     private List<MemberDetail> members; // 채팅방 멤버 정보
 
@@ -1,6 +1,7 @@
 package com.techeersalon.moitda.domain.chat.entity;
 
 import com.techeersalon.moitda.global.common.BaseEntity;
+import com.techeersalon.moitda.global.common.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -12,12 +13,16 @@ import org.hibernate.annotations.Where;
 @AllArgsConstructor
 @NoArgsConstructor
 //@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_chat_message_meeting_id_id", columnList = "meeting_Id, id"),
+        @Index(name = "idx_chat_message_user_id", columnList = "user_Id")
+})
 @SQLDelete(sql = "UPDATE chat_message SET is_deleted = true WHERE chat_message_id = ?")
 @Where(clause = "is_deleted = false")
 public class ChatMessage extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id; // pk
+    @SnowflakeId
+    private Long id; // pk, 시간 순으로 증가
 
     @Column(name = "user_Id")
     private Long userid;
@@ -29,6 +34,13 @@ public class ChatMessage extends BaseEntity {
     @Column(name = "meeting_Id")
     private Long meetingId;
 
+    // 보낸 시점의 발신자 이름, 프로필 이미지 (조회 시 users 조회 없이 응답, 프로필 변경 시 ChatSenderSnapshotUpdater 가 갱신)
+    @Column(name = "sender_name")
+    private String senderName;
+
+    @Column(name = "sender_profile_image", length = 512)
+    private String senderProfileImage;
+
 
     public enum MessageType {
         ENTER, TALK
@@ -37,4 +49,9 @@ public class ChatMessage extends BaseEntity {
     @Column(nullable = false)
     private MessageType messageType;
 
+    // 발신자 정보를 저장하기 전에 생성된 메세지는 users 에서 조회해야 함
+    public boolean hasSenderSnapshot() {
+        return senderName != null;
+    }
+
 }
\ No newline at end of file
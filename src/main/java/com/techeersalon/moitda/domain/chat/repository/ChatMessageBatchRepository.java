@@ -0,0 +1,49 @@
+package com.techeersalon.moitda.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 채팅 메세지 JDBC batch 저장 (write-behind)
+ * id 는 발행 시점에 정해지므로 같은 메세지가 다시 전달되어도 한 번만 저장된다.
+ * INSERT IGNORE 는 길이 초과, NOT NULL 위반까지 경고로 바꿔 잘못된 row 를 조용히 저장하거나 버리므로
+ * 중복 id 만 ON DUPLICATE KEY UPDATE 로 무시하고 나머지 오류는 그대로 예외로 던진다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void saveAll(List<ChatMessageRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object[]> messages = new ArrayList<>(rows.size());
+        Map<Long, Long> lastMessageIds = new HashMap<>();
+        for (ChatMessageRow row : rows) {
+            Timestamp createAt = Timestamp.valueOf(row.getCreateAt());
+            messages.add(new Object[]{row.getId(), row.getUserId(), row.getSenderName(), row.getSenderProfileImage(),
+                    row.getMessage(), row.getRoomId(), row.getMessageType().ordinal(), createAt, createAt});
+            lastMessageIds.merge(row.getRoomId(), row.getId(), Math::max);
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO chat_message (id, user_id, sender_name, sender_profile_image, message, " +
+                "meeting_id, message_type, create_at, update_at, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false) " +
+                "ON DUPLICATE KEY UPDATE id = id", messages);
+
+        // 채팅방마다 batch 안의 가장 최근 메세지로 한 번만 갱신, 순서가 뒤바뀌어 도착해도 더 오래된 id 로 덮어쓰지 않음
+        List<Object[]> rooms = new ArrayList<>(lastMessageIds.size());
+        lastMessageIds.forEach((roomId, messageId) -> rooms.add(new Object[]{messageId, roomId, messageId}));
+        jdbcTemplate.batchUpdate("UPDATE chat_room SET last_message_id = ? " +
+                "WHERE chatroom_id = ? AND (last_message_id IS NULL OR last_message_id < ?)", rooms);
+    }
+}
@@ -10,6 +10,8 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     /** ChatMessage 목록조회 - 조건정렬순, ChatRoom 검색 */
     List<ChatMessage> findByMeetingId(Long meetingId);
     Page<ChatMessage> findPagesByMeetingId(Long meetingId, Pageable pageable);
+    /** ChatMessage 커서 조회 - beforeId 보다 이전 메세지를 최신순으로, count 쿼리 없음 (meeting_id, id 인덱스 사용) */
+    List<ChatMessage> findByMeetingIdAndIdLessThanOrderByIdDesc(Long meetingId, Long beforeId, Pageable pageable);
 //  Page<ChatMessage> findAll(Pageable pageable);
     /** ChatMessage 검색조회 - 기본정렬순, Message 검색 */
 //    List<ChatMessage> findAllByMessageContaining(String message);
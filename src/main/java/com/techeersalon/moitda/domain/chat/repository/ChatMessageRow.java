@@ -0,0 +1,29 @@
+package com.techeersalon.moitda.domain.chat.repository;
+
+import com.techeersalon.moitda.domain.chat.entity.ChatMessage;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// write-behind 로 모아서 저장하는 채팅 메세지 (chat_message 한 row)
+@Getter
+@Builder
+public class ChatMessageRow {
+
+    private final Long id;
+
+    private final Long userId;
+
+    private final String senderName;
+
+    private final String senderProfileImage;
+
+    private final Long roomId;
+
+    private final String message;
+
+    private final ChatMessage.MessageType messageType;
+
+    private final LocalDateTime createAt;
+}
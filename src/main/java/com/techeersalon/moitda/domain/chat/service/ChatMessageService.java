@@ -3,16 +3,23 @@ package com.techeersalon.moitda.domain.chat.service;
 import com.techeersalon.moitda.domain.chat.dto.mapper.ChatMapper;
 import com.techeersalon.moitda.domain.chat.dto.request.ChatMessageReq;
 import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageRes;
+import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageSliceRes;
 import com.techeersalon.moitda.domain.chat.entity.ChatMessage;
 import com.techeersalon.moitda.domain.chat.entity.ChatRoom;
 import com.techeersalon.moitda.domain.chat.exception.ChatRoomNotFoundException;
 import com.techeersalon.moitda.domain.chat.exception.MessageNotFoundException;
 import com.techeersalon.moitda.domain.chat.repository.ChatMessageRepository;
+import com.techeersalon.moitda.domain.chat.repository.ChatMessageRow;
 import com.techeersalon.moitda.domain.chat.repository.ChatRoomRepository;
 import com.techeersalon.moitda.domain.user.entity.User;
+import com.techeersalon.moitda.global.common.AfterCommitExecutor;
+import com.techeersalon.moitda.global.common.SnowflakeIdGenerator;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,17 +31,31 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class ChatMessageService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+    // 캐시를 채울 때 훑어보는 저장 대기 메세지 수 (DB 장애로 stream 이 길어져도 조회 비용을 제한)
+    private static final int UNSAVED_SCAN_LIMIT = 10_000;
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatMapper chatMapper;
+    private final ChatMessageStream chatMessageStream;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final ChatRecentMessageCache chatRecentMessageCache;
 
+    // true 면 메세지를 바로 발행하고 저장은 ChatMessageWriteBehindWorker 가 모아서 처리
+    @Value("${chat.write-behind.enabled:false}")
+    private boolean writeBehindEnabled;
 
 
 
@@ -45,11 +66,41 @@ public class ChatMessageService {
      */
     @Transactional
     public ChatMessageRes createChatMessage(User sender, Long roomId, ChatMessageReq messageRequestDto) {
+        if (writeBehindEnabled) {
+            return appendChatMessage(sender, roomId, messageRequestDto);
+        }
         this.chatRoomRepository.findById(roomId).orElseThrow(ChatRoomNotFoundException::new);
         ChatMessage entity = chatMapper.toChatMessage(sender, roomId, messageRequestDto);
         ChatMessage chatMessage = chatMessageRepository.save(entity);
         this.updateLastChatMessage(roomId, chatMessage.getId());
-        return chatMapper.toChatMessageDto(chatMessage);
+        ChatMessageRes chatMessageRes = chatMapper.toChatMessageDto(chatMessage);
+        AfterCommitExecutor.execute(() -> chatRecentMessageCache.append(roomId, chatMessageRes));
+        return chatMessageRes;
+    }
+
+
+    /*
+     * write-behind: 시간 순 id 를 미리 정해 저장 대기 stream 에 넣고 바로 응답 생성
+     * chat_message 저장과 chat_room.last_message_id 갱신은 워커가 batch 로 처리한다.
+     * */
+    private ChatMessageRes appendChatMessage(User sender, Long roomId, ChatMessageReq messageRequestDto) {
+        if (!this.chatRoomRepository.existsById(roomId)) {
+            throw new ChatRoomNotFoundException();
+        }
+        ChatMessageRow row = ChatMessageRow.builder()
+                .id(snowflakeIdGenerator.nextId())
+                .userId(sender.getId())
+                .senderName(sender.getUsername())
+                .senderProfileImage(sender.getProfileImage())
+                .roomId(roomId)
+                .message(messageRequestDto.getMessage())
+                .messageType(messageRequestDto.getType() == null ? ChatMessage.MessageType.TALK : messageRequestDto.getType())
+                .createAt(LocalDateTime.now())
+                .build();
+        chatMessageStream.append(row);
+        ChatMessageRes chatMessageRes = ChatMapper.toChatMessageDto(row);
+        chatRecentMessageCache.append(roomId, chatMessageRes);
+        return chatMessageRes;
     }
 
 
@@ -59,6 +110,7 @@ public class ChatMessageService {
         ChatMessage chatMessageEntity = this.chatMessageRepository.findById(chatMessageId).orElseThrow(
                 MessageNotFoundException::new);
         this.chatMessageRepository.delete(chatMessageEntity);
+        chatRecentMessageCache.evict(chatMessageEntity.getMeetingId());
     }
 
 
@@ -73,6 +125,15 @@ public class ChatMessageService {
     /*채팅방 메시지 조회 무한 스크롤*/
     @Transactional
     public List<ChatMessageRes> getLatestMessageList(Long meetingId, int page, int pageSize){
+        // 첫 페이지는 최근 메세지 캐시에서 응답
+        if (page == 0 && pageSize <= chatRecentMessageCache.size()) {
+            List<ChatMessageRes> recent = recentMessages(meetingId, pageSize);
+            if (recent.isEmpty()) {
+                throw new MessageNotFoundException();
+            }
+            return recent;
+        }
+
         Pageable pageable = PageRequest.of(page, pageSize, Sort.by(Sort.Order.desc("createAt")));
         Page<ChatMessage> chatMessages = chatMessageRepository.findPagesByMeetingId(meetingId, pageable);
 
@@ -80,6 +141,51 @@ public class ChatMessageService {
         // return meetings.map(GetLatestMeetingListResponse::of);
     }
 
+    /*
+     * 채팅방 메세지 커서 기반 조회 (무한 스크롤)
+     * before 메세지보다 이전 메세지를 id 역순으로 size + 1 개 조회해 다음 페이지 여부를 판단한다.
+     * OFFSET 이 없어 깊이 스크롤해도 비용이 같고, 새 메세지가 와도 결과가 밀리지 않는다.
+     * */
+    @Transactional
+    public ChatMessageSliceRes scrollMessageList(Long roomId, Long before, int size) {
+        size = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        if (before == null && size + 1 <= chatRecentMessageCache.size()) {
+            return ChatMessageSliceRes.of(recentMessages(roomId, size + 1), size);
+        }
+        List<ChatMessage> chatMessages = chatMessageRepository.findByMeetingIdAndIdLessThanOrderByIdDesc(
+                roomId, before == null ? Long.MAX_VALUE : before, PageRequest.of(0, size + 1));
+        return ChatMessageSliceRes.of(chatMapper.toChatMessageDtoList(chatMessages), size);
+    }
+
+    /*
+     * 최신 메세지 count 개 (최신순, count 는 캐시 크기 이하)
+     * 캐시가 없으면 저장 대기 중인 메세지를 먼저, DB 를 그 다음에 읽어 캐시를 채운다.
+     * (이 순서여야 두 조회 사이에 저장된 메세지가 어느 쪽에서도 빠지지 않음)
+     * */
+    private List<ChatMessageRes> recentMessages(Long roomId, int count) {
+        Optional<List<ChatMessageRes>> cached = chatRecentMessageCache.getLatest(roomId, count);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        int cacheSize = chatRecentMessageCache.size();
+        Map<Long, ChatMessageRes> latest = new TreeMap<>(Comparator.reverseOrder());
+        if (writeBehindEnabled) {
+            try {
+                chatMessageStream.unsavedRows(roomId, UNSAVED_SCAN_LIMIT)
+                        .forEach(row -> latest.put(row.getId(), ChatMapper.toChatMessageDto(row)));
+            } catch (DataAccessException e) {
+                log.warn("저장 대기 중인 채팅 메세지 조회 실패: roomId = {}, {}", roomId, e.getMessage());
+            }
+        }
+        chatMapper.toChatMessageDtoList(chatMessageRepository.findByMeetingIdAndIdLessThanOrderByIdDesc(
+                        roomId, Long.MAX_VALUE, PageRequest.of(0, cacheSize)))
+                .forEach(message -> latest.putIfAbsent(message.getId(), message));
+
+        List<ChatMessageRes> latestMessages = latest.values().stream().limit(cacheSize).toList();
+        chatRecentMessageCache.fill(roomId, latestMessages);
+        return latestMessages.subList(0, Math.min(count, latestMessages.size()));
+    }
+
     public void updateLastChatMessage(Long roomId, Long messageId){
         ChatRoom chatRoom = this.chatRoomRepository.findById(roomId).orElseThrow(
                 ChatRoomNotFoundException::new);
@@ -0,0 +1,157 @@
+package com.techeersalon.moitda.domain.chat.service;
+
+import com.techeersalon.moitda.domain.chat.entity.ChatMessage;
+import com.techeersalon.moitda.domain.chat.repository.ChatMessageRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 저장 대기 중인 채팅 메세지 (Redis Stream)
+ *
+ * chat:message:stream        - 발행한 메세지를 저장 전까지 보관하는 stream
+ * chat-message-writer (group) - 여러 인스턴스의 ChatMessageWriteBehindWorker 가 나눠서 읽는 consumer group
+ * chat:message:dead          - 저장할 수 없는 메세지(길이 초과, 없는 채팅방 등)를 옮겨두는 stream, 확인 후 수동 처리
+ *
+ * 저장을 마친 메세지는 ack 후 stream 에서 삭제한다.
+ * 저장 전에 워커가 죽으면 pending 으로 남아 재시작 후 같은 consumer 가, 또는 일정 시간 후 다른 consumer 가 가져간다.
+ * */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ChatMessageStream {
+
+    private static final String STREAM_KEY = "chat:message:stream";
+    private static final String GROUP = "chat-message-writer";
+    private static final String DEAD_LETTER_KEY = "chat:message:dead";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void createGroupIfMissing() {
+        try {
+            stringRedisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (DataAccessException e) {
+            // 이미 그룹이 있으면 BUSYGROUP 에러
+            if (!String.valueOf(e.getMessage()).contains("BUSYGROUP")) {
+                log.warn("채팅 메세지 stream 그룹 생성 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    public void append(ChatMessageRow row) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("id", row.getId().toString());
+        fields.put("userId", row.getUserId().toString());
+        if (row.getSenderName() != null) {
+            fields.put("senderName", row.getSenderName());
+        }
+        if (row.getSenderProfileImage() != null) {
+            fields.put("senderProfileImage", row.getSenderProfileImage());
+        }
+        fields.put("roomId", row.getRoomId().toString());
+        fields.put("message", row.getMessage() == null ? "" : row.getMessage());
+        fields.put("messageType", row.getMessageType().name());
+        fields.put("createAt", row.getCreateAt().toString());
+        stringRedisTemplate.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(fields));
+    }
+
+    // 아직 아무 consumer 도 가져가지 않은 메세지
+    public List<MapRecord<String, Object, Object>> readNew(String consumer, int count) {
+        return read(consumer, count, ReadOffset.lastConsumed());
+    }
+
+    // 이 consumer 가 가져갔지만 ack 하지 못한 메세지 (저장 실패, 재시작)
+    public List<MapRecord<String, Object, Object>> readPending(String consumer, int count) {
+        return read(consumer, count, ReadOffset.from("0"));
+    }
+
+    // 다른 consumer 가 minIdle 이상 처리하지 못한 메세지를 가져옴 (인스턴스 종료 등)
+    public List<MapRecord<String, Object, Object>> claimIdle(String consumer, Duration minIdle, int count) {
+        PendingMessages pending = stringRedisTemplate.opsForStream().pending(STREAM_KEY, GROUP, Range.unbounded(), count);
+        RecordId[] idleIds = pending.stream()
+                .filter(message -> !consumer.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idleIds.length == 0) {
+            return Collections.emptyList();
+        }
+        List<MapRecord<String, Object, Object>> claimed = stringRedisTemplate.opsForStream()
+                .claim(STREAM_KEY, GROUP, consumer, XClaimOptions.minIdle(minIdle).ids(idleIds));
+        return claimed == null ? Collections.emptyList() : claimed;
+    }
+
+    public void acknowledge(List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        RecordId[] ids = recordIds.toArray(RecordId[]::new);
+        stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+        stringRedisTemplate.opsForStream().delete(STREAM_KEY, ids);
+    }
+
+    // 아직 저장되지 않은 채팅방 메세지 (저장이 끝난 메세지는 stream 에서 삭제되므로 보통 flush 주기 동안 쌓인 만큼만 남아 있음)
+    public List<ChatMessageRow> unsavedRows(Long roomId, int limit) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(STREAM_KEY, Range.unbounded(), Limit.limit().count(limit));
+        if (records == null) {
+            return Collections.emptyList();
+        }
+        String room = roomId.toString();
+        return records.stream()
+                .filter(record -> room.equals(String.valueOf(record.getValue().get("roomId"))))
+                .map(this::toRow)
+                .toList();
+    }
+
+    // 다시 저장해도 실패할 메세지를 원래 내용 그대로 옮겨 둠 (이후 acknowledge 로 stream 에서 삭제)
+    public void moveToDeadLetter(MapRecord<String, Object, Object> record, String reason) {
+        Map<Object, Object> fields = new HashMap<>(record.getValue());
+        fields.put("recordId", record.getId().getValue());
+        fields.put("reason", reason == null ? "" : reason);
+        stringRedisTemplate.opsForStream().add(StreamRecords.newRecord().in(DEAD_LETTER_KEY).ofMap(fields));
+    }
+
+    public ChatMessageRow toRow(MapRecord<String, Object, Object> record) {
+        Map<Object, Object> fields = record.getValue();
+        return ChatMessageRow.builder()
+                .id(Long.valueOf(fields.get("id").toString()))
+                .userId(Long.valueOf(fields.get("userId").toString()))
+                .senderName(fields.containsKey("senderName") ? fields.get("senderName").toString() : null)
+                .senderProfileImage(fields.containsKey("senderProfileImage") ? fields.get("senderProfileImage").toString() : null)
+                .roomId(Long.valueOf(fields.get("roomId").toString()))
+                .message(fields.get("message").toString())
+                .messageType(ChatMessage.MessageType.valueOf(fields.get("messageType").toString()))
+                .createAt(LocalDateTime.parse(fields.get("createAt").toString()))
+                .build();
+    }
+
+    private List<MapRecord<String, Object, Object>> read(String consumer, int count, ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumer),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM_KEY, offset));
+        return records == null ? Collections.emptyList() : records;
+    }
+}
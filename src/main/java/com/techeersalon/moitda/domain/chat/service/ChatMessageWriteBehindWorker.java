@@ -0,0 +1,107 @@
+package com.techeersalon.moitda.domain.chat.service;
+
+import com.techeersalon.moitda.domain.chat.repository.ChatMessageBatchRepository;
+import com.techeersalon.moitda.domain.chat.repository.ChatMessageRow;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 채팅 메세지 write-behind 저장
+ * ChatMessageStream 에 쌓인 메세지를 batch-size 개씩 꺼내 chat_message 에 JDBC batch 로 저장한다.
+ * 메세지 발행은 저장을 기다리지 않으므로 채팅 지연이 MySQL 커밋 시간에 묶이지 않는다.
+ * 데이터 오류로 batch 가 실패하면 한 건씩 다시 저장하고, 그래도 실패한 메세지만 dead letter stream 으로 옮긴다.
+ * (DB 연결 실패 같은 오류는 ack 하지 않고 다음 주기에 다시 저장)
+ * */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "chat.write-behind.enabled", havingValue = "true")
+public class ChatMessageWriteBehindWorker {
+
+    private final ChatMessageStream chatMessageStream;
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final String consumer;
+    private final int batchSize;
+    private final Duration claimIdle;
+
+    public ChatMessageWriteBehindWorker(ChatMessageStream chatMessageStream,
+                                        ChatMessageBatchRepository chatMessageBatchRepository,
+                                        @Value("${chat.write-behind.consumer-name:${HOSTNAME:moitda}}") String consumer,
+                                        @Value("${chat.write-behind.batch-size:500}") int batchSize,
+                                        @Value("${chat.write-behind.claim-idle-ms:60000}") long claimIdleMs) {
+        this.chatMessageStream = chatMessageStream;
+        this.chatMessageBatchRepository = chatMessageBatchRepository;
+        this.consumer = consumer;
+        this.batchSize = batchSize;
+        this.claimIdle = Duration.ofMillis(claimIdleMs);
+    }
+
+    @PostConstruct
+    public void init() {
+        chatMessageStream.createGroupIfMissing();
+    }
+
+    @Scheduled(fixedDelayString = "${chat.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        try {
+            // 이전에 저장하지 못한 메세지부터 다시 저장
+            save(chatMessageStream.readPending(consumer, batchSize));
+            save(chatMessageStream.claimIdle(consumer, claimIdle, batchSize));
+
+            List<MapRecord<String, Object, Object>> records;
+            do {
+                records = chatMessageStream.readNew(consumer, batchSize);
+                save(records);
+            } while (records.size() == batchSize);
+        } catch (DataAccessException e) {
+            // 저장하지 못한 메세지는 ack 되지 않고 pending 으로 남아 다음 주기에 다시 저장
+            log.warn("채팅 메세지 저장 실패: {}", e.getMessage());
+            if (String.valueOf(e.getMessage()).contains("NOGROUP")) {
+                chatMessageStream.createGroupIfMissing();
+            }
+        }
+    }
+
+    private void save(List<MapRecord<String, Object, Object>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        List<ChatMessageRow> rows = new ArrayList<>(records.size());
+        List<RecordId> recordIds = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            rows.add(chatMessageStream.toRow(record));
+            recordIds.add(record.getId());
+        }
+        try {
+            chatMessageBatchRepository.saveAll(rows);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("채팅 메세지 batch 저장 실패, 한 건씩 다시 저장: {}", e.getMessage());
+            saveEach(records, rows);
+        }
+        chatMessageStream.acknowledge(recordIds);
+        log.debug("채팅 메세지 {}개 저장", rows.size());
+    }
+
+    private void saveEach(List<MapRecord<String, Object, Object>> records, List<ChatMessageRow> rows) {
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                chatMessageBatchRepository.saveAll(List.of(rows.get(i)));
+            } catch (DataIntegrityViolationException e) {
+                log.error("채팅 메세지 저장 불가, dead letter 로 이동: id = {}, roomId = {}, {}",
+                        rows.get(i).getId(), rows.get(i).getRoomId(), e.getMessage());
+                chatMessageStream.moveToDeadLetter(records.get(i), e.getMessage());
+            }
+        }
+    }
+}
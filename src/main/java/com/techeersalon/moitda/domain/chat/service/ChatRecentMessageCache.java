@@ -0,0 +1,153 @@
+package com.techeersalon.moitda.domain.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageRes;
+import com.techeersalon.moitda.global.common.AfterCommitExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 채팅방별 최근 메세지 Redis 캐시 (응답 형태 ChatMessageRes 그대로 저장)
+ *
+ * chat:recent-messages:{roomId} - sorted set, member 는 "19자리 id + json" 이고 score 는 모두 0 이라 사전 순(= id 순)으로 정렬
+ *                                빈 member 는 DB 에서 채웠다는 표시 (표시가 없으면 새 메세지만 들어 있을 수 있음, 항상 가장 앞 순서)
+ *
+ * 새 메세지는 캐시가 없어도 추가하고, DB 에서 채울 때는 덮어쓰지 않고 합친다.
+ * 그래서 DB 조회와 채우기 사이에 보낸 메세지, 아직 저장되지 않은 write-behind 메세지도 캐시에서 빠지지 않는다.
+ * 어느 경우든 최신 size 개만 남기고, 만료 시간은 key 를 만들 때만 지정해 연장하지 않는다.
+ * (Redis 오류로 추가하지 못한 메세지가 있어도 ttl 이 지나면 DB 에서 다시 채워짐)
+ * Redis 장애 시에는 캐시 없이 DB에서 조회하도록 예외를 삼킨다.
+ * */
+@Component
+@Slf4j
+public class ChatRecentMessageCache {
+
+    private static final String KEY_PREFIX = "chat:recent-messages:";
+    private static final int ID_WIDTH = 19;
+
+    /*
+     * 메세지 추가 후 최신 size 개만 남김, 같은 id 의 메세지가 이미 있으면 추가하지 않음 (발행 시 추가한 메세지를 DB 에서 다시 채울 때)
+     * ARGV[1]: ttl(초), ARGV[2]: size, ARGV[3]: DB 에서 채운 경우 '1', ARGV[4..]: member
+     * */
+    private static final RedisScript<Long> ADD = new DefaultRedisScript<>(
+            "local created = redis.call('EXISTS', KEYS[1]) == 0 " +
+                    "for i = 4, #ARGV do " +
+                    "  local id = string.sub(ARGV[i], 1, " + ID_WIDTH + ") " +
+                    "  if #redis.call('ZRANGEBYLEX', KEYS[1], '[' .. id, '[' .. id .. '\\255', 'LIMIT', 0, 1) == 0 then " +
+                    "    redis.call('ZADD', KEYS[1], 0, ARGV[i]) end " +
+                    "end " +
+                    "if ARGV[3] == '1' then redis.call('ZADD', KEYS[1], 0, '') end " +
+                    "local marker = redis.call('ZSCORE', KEYS[1], '') and 1 or 0 " +
+                    "local excess = redis.call('ZCARD', KEYS[1]) - marker - tonumber(ARGV[2]) " +
+                    "if excess > 0 then redis.call('ZREMRANGEBYRANK', KEYS[1], marker, marker + excess - 1) end " +
+                    "if created then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+                    "return 1",
+            Long.class);
+    // DB 에서 채운 캐시만 최신순으로 ARGV[1] 개 반환, 채우지 않았으면 nil
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LATEST = new DefaultRedisScript<>(
+            "if not redis.call('ZSCORE', KEYS[1], '') then return false end " +
+                    "local messages = {} " +
+                    "for _, member in ipairs(redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)) do " +
+                    "  if member ~= '' then table.insert(messages, member) end " +
+                    "end " +
+                    "return messages",
+            List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int size;
+    private final Duration ttl;
+
+    public ChatRecentMessageCache(StringRedisTemplate stringRedisTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${chat.recent-cache.size:50}") int size,
+                                  @Value("${chat.recent-cache.ttl-seconds:3600}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.size = size;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 최신 메세지 count 개 (최신순), DB 에서 채운 캐시가 없거나 count 가 캐시 크기보다 크면 empty
+    @SuppressWarnings("unchecked")
+    public Optional<List<ChatMessageRes>> getLatest(Long roomId, int count) {
+        if (count > size) {
+            return Optional.empty();
+        }
+        try {
+            List<String> cached = stringRedisTemplate.execute(LATEST, List.of(key(roomId)), String.valueOf(count));
+            if (cached == null) {
+                return Optional.empty();
+            }
+            List<ChatMessageRes> messages = new ArrayList<>(cached.size());
+            for (String member : cached) {
+                messages.add(objectMapper.readValue(member.substring(ID_WIDTH), ChatMessageRes.class));
+            }
+            return Optional.of(messages);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("최근 채팅 캐시 조회 실패: roomId = {}, {}", roomId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // DB(와 저장 대기 중인 메세지)에서 읽은 최신 메세지로 캐시를 채움, 그 사이 추가된 메세지와 합침
+    public void fill(Long roomId, List<ChatMessageRes> latestMessages) {
+        add(roomId, latestMessages, true);
+    }
+
+    // 새 메세지 추가 (캐시가 없으면 새로 만들고, 다음 조회 때 DB 에서 채워 합침)
+    public void append(Long roomId, ChatMessageRes message) {
+        add(roomId, List.of(message), false);
+    }
+
+    // 트랜잭션 커밋 이후 삭제 (메세지, 채팅방 삭제)
+    public void evict(Long roomId) {
+        AfterCommitExecutor.execute(() -> {
+            try {
+                stringRedisTemplate.delete(key(roomId));
+            } catch (DataAccessException e) {
+                log.warn("최근 채팅 캐시 삭제 실패: roomId = {}, {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    private void add(Long roomId, List<ChatMessageRes> messages, boolean filled) {
+        try {
+            List<String> args = new ArrayList<>(messages.size() + 3);
+            args.add(String.valueOf(ttl.getSeconds()));
+            args.add(String.valueOf(size));
+            args.add(filled ? "1" : "0");
+            for (ChatMessageRes message : messages) {
+                args.add(member(message));
+            }
+            stringRedisTemplate.execute(ADD, List.of(key(roomId)), args.toArray());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("최근 채팅 캐시 추가 실패: roomId = {}, {}", roomId, e.getMessage());
+        }
+    }
+
+    // 같은 score 의 member 는 사전 순으로 정렬되므로 id 를 0 으로 채운 고정 길이 문자열로 앞에 붙임
+    private String member(ChatMessageRes message) throws JsonProcessingException {
+        return String.format("%0" + ID_WIDTH + "d", message.getId()) + objectMapper.writeValueAsString(message);
+    }
+
+    private String key(Long roomId) {
+        return KEY_PREFIX + roomId;
+    }
+}
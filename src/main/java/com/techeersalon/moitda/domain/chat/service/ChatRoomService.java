@@ -18,14 +18,9 @@ import com.techeersalon.moitda.domain.user.repository.UserRepository;
 import com.techeersalon.moitda.domain.user.service.UserService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -39,13 +34,7 @@ public class ChatRoomService {
     private final UserService userService;
     private final UserRepository userRepository;
     private final MeetingRepository meetingRepository;
-    private final RedisMessageListenerContainer redisMessageListener;
-    private HashOperations<String, String, ChatRoom> opsHashChatRoom;
-    private Map<String, ChannelTopic> topics;
-    public void addChannelTopic(String roomId) {
-        ChannelTopic topic = new ChannelTopic("chatroom:" + roomId);
-        redisMessageListener.addMessageListener((MessageListener) this, topic);
-    }
+    private final ChatRecentMessageCache chatRecentMessageCache;
 
     /**
      * ChatRoom 생성
@@ -58,7 +47,6 @@ public class ChatRoomService {
                 .build();
         newChatRoom.addMember(user);
         chatRoomRepository.save(newChatRoom);
-//        addChannelTopic("roomId"+String.valueOf(meetingId));
 
         return newChatRoom;
     }
@@ -107,6 +95,7 @@ public class ChatRoomService {
         List<ChatMessage> chatMessageList = chatMessageRepository.findByMeetingId(roomId);
 
         chatMessageRepository.deleteAll(chatMessageList);
+        chatRecentMessageCache.evict(roomId);
     }
 
     public void removeUserFromRoom(Long roomId, Long userId) {
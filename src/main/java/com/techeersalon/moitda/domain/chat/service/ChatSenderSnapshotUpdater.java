@@ -0,0 +1,90 @@
+package com.techeersalon.moitda.domain.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 유저 프로필(이름, 프로필 이미지) 변경 시 이미 보낸 채팅 메세지의 발신자 정보 갱신
+ * 메세지가 많은 유저도 한 번에 긴 lock 을 잡지 않도록 BATCH_SIZE 개씩 나눠 갱신하고,
+ * 갱신이 끝나면 이전 발신자 정보가 담긴 최근 메세지 캐시를 삭제한다.
+ *
+ * 프로필 변경 전에 보내 write-behind stream 에 남아 있던 메세지는 이전 발신자 정보로 나중에 저장되므로,
+ * 저장 주기보다 긴 rerun-delay 뒤에 한 번 더 갱신하고 캐시를 다시 삭제한다.
+ * 발신자 정보는 실행 시점의 users 에서 읽으므로 연달아 변경해도 이전 값으로 되돌리지 않는다.
+ * */
+@Component
+@Slf4j
+public class ChatSenderSnapshotUpdater {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final long rerunDelayMs;
+    // userId -> 다시 갱신할 시각(ms)
+    private final Map<Long, Long> pendingReruns = new ConcurrentHashMap<>();
+
+    public ChatSenderSnapshotUpdater(JdbcTemplate jdbcTemplate,
+                                     ChatRecentMessageCache chatRecentMessageCache,
+                                     @Value("${chat.sender-snapshot.rerun-delay-ms:2000}") long rerunDelayMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chatRecentMessageCache = chatRecentMessageCache;
+        this.rerunDelayMs = rerunDelayMs;
+    }
+
+    @Async
+    public void refresh(Long userId) {
+        update(userId);
+        pendingReruns.put(userId, System.currentTimeMillis() + rerunDelayMs);
+    }
+
+    // 예약 시각이 지난 유저만 한 번 더 갱신 (그 사이 다시 변경되어 예약이 늦춰졌으면 다음 주기에)
+    @Scheduled(fixedDelayString = "${chat.sender-snapshot.rerun-delay-ms:2000}")
+    public void rerunPending() {
+        long now = System.currentTimeMillis();
+        pendingReruns.forEach((userId, dueAt) -> {
+            if (dueAt <= now && pendingReruns.remove(userId, dueAt)) {
+                update(userId);
+            }
+        });
+    }
+
+    void update(Long userId) {
+        try {
+            List<Map<String, Object>> users = jdbcTemplate.queryForList(
+                    "SELECT username, profile_image FROM users WHERE user_id = ?", userId);
+            if (users.isEmpty()) {
+                return;
+            }
+            String senderName = (String) users.get(0).get("username");
+            String senderProfileImage = (String) users.get(0).get("profile_image");
+
+            int updated;
+            int total = 0;
+            do {
+                // <=> : NULL 까지 비교, 이미 같은 값인 메세지는 건너뜀
+                updated = jdbcTemplate.update("UPDATE chat_message SET sender_name = ?, sender_profile_image = ? " +
+                                "WHERE user_id = ? AND NOT (sender_name <=> ? AND sender_profile_image <=> ?) LIMIT " + BATCH_SIZE,
+                        senderName, senderProfileImage, userId, senderName, senderProfileImage);
+                total += updated;
+            } while (updated == BATCH_SIZE);
+
+            List<Long> roomIds = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT meeting_id FROM chat_message WHERE user_id = ?", Long.class, userId);
+            roomIds.forEach(chatRecentMessageCache::evict);
+            log.info("채팅 발신자 정보 갱신: userId = {}, messages = {}, rooms = {}", userId, total, roomIds.size());
+        } catch (DataAccessException e) {
+            // 갱신하지 못한 메세지는 다음 프로필 변경 때 함께 갱신됨
+            log.warn("채팅 발신자 정보 갱신 실패: userId = {}, {}", userId, e.getMessage());
+        }
+    }
+}
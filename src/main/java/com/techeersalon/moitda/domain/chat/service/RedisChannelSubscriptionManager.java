@@ -0,0 +1,159 @@
+package com.techeersalon.moitda.domain.chat.service;
+
+import com.techeersalon.moitda.domain.meetings.service.AdmissionResultSubscriber;
+import com.techeersalon.moitda.domain.meetings.service.MeetingAdmissionQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * 이 인스턴스에 연결된 STOMP 구독이 있는 채널만 Redis 에서 구독
+ *
+ * /sub/chat/room/{roomId} - roomId{roomId} 채널 (채팅 메세지, RedisMessageSubscriber)
+ * /sub/room/{userId}      - memberId{userId} 채널 (채팅방 목록, RedisListSubscriber)
+ *                           admissionMemberId{userId} 채널 (대기열 처리 결과, AdmissionResultSubscriber)
+ *
+ * 같은 destination 의 STOMP 구독 수를 세어 첫 구독에서 Redis SUBSCRIBE, 마지막 구독 해제(UNSUBSCRIBE, 연결 종료)에서 UNSUBSCRIBE 한다.
+ * PSUBSCRIBE 로 모든 채널을 받던 방식과 달리 로컬 구독자가 없는 채팅방의 메세지는 이 인스턴스로 전달되지 않는다.
+ * */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "chat.redis-subscription.per-destination", havingValue = "true", matchIfMissing = true)
+public class RedisChannelSubscriptionManager {
+
+    private static final Pattern CHAT_ROOM_DESTINATION = Pattern.compile("^/sub/chat/room/(\\d+)$");
+    private static final Pattern USER_DESTINATION = Pattern.compile("^/sub/room/(\\d+)$");
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisMessageSubscriber redisMessageSubscriber;
+    private final RedisListSubscriber redisListSubscriber;
+    private final AdmissionResultSubscriber admissionResultSubscriber;
+
+    // sessionId -> (subscriptionId -> destination)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+    // destination -> 이 인스턴스의 STOMP 구독 수
+    private final Map<String, Integer> destinationCounts = new HashMap<>();
+
+    public RedisChannelSubscriptionManager(RedisMessageListenerContainer redisMessageListenerContainer,
+                                           RedisMessageSubscriber redisMessageSubscriber,
+                                           RedisListSubscriber redisListSubscriber,
+                                           AdmissionResultSubscriber admissionResultSubscriber) {
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.redisMessageSubscriber = redisMessageSubscriber;
+        this.redisListSubscriber = redisListSubscriber;
+        this.admissionResultSubscriber = admissionResultSubscriber;
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null
+                || redisChannels(destination).isEmpty()) {
+            return;
+        }
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), destination);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        releaseSession(event.getSessionId());
+    }
+
+    // 구독 수 변경과 Redis 구독 변경을 같은 lock 안에서 처리해 해제와 재구독 순서가 뒤바뀌지 않도록 함
+    synchronized void subscribe(String sessionId, String subscriptionId, String destination) {
+        String previous = sessionSubscriptions.computeIfAbsent(sessionId, key -> new HashMap<>())
+                .put(subscriptionId, destination);
+        if (previous != null) {
+            release(previous);
+        }
+        if (destinationCounts.merge(destination, 1, Integer::sum) == 1) {
+            redisChannels(destination).forEach(channel ->
+                    redisMessageListenerContainer.addMessageListener(channel.listener, channel.topic));
+            log.debug("Redis 채널 구독: {}", destination);
+        }
+    }
+
+    synchronized void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            sessionSubscriptions.remove(sessionId);
+        }
+        if (destination != null) {
+            release(destination);
+        }
+    }
+
+    synchronized void releaseSession(String sessionId) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    synchronized int subscriberCount(String destination) {
+        return destinationCounts.getOrDefault(destination, 0);
+    }
+
+    private void release(String destination) {
+        Integer count = destinationCounts.computeIfPresent(destination, (key, value) -> value > 1 ? value - 1 : null);
+        if (count == null) {
+            redisChannels(destination).forEach(channel ->
+                    redisMessageListenerContainer.removeMessageListener(channel.listener, channel.topic));
+            log.debug("Redis 채널 구독 해제: {}", destination);
+        }
+    }
+
+    // STOMP destination 에 메세지를 전달하는 Redis 채널과 listener
+    private List<RedisChannel> redisChannels(String destination) {
+        Matcher chatRoom = CHAT_ROOM_DESTINATION.matcher(destination);
+        if (chatRoom.matches()) {
+            return List.of(new RedisChannel(redisMessageSubscriber, ChannelTopic.of("roomId" + chatRoom.group(1))));
+        }
+        Matcher user = USER_DESTINATION.matcher(destination);
+        if (user.matches()) {
+            return List.of(
+                    new RedisChannel(redisListSubscriber, ChannelTopic.of("memberId" + user.group(1))),
+                    new RedisChannel(admissionResultSubscriber,
+                            ChannelTopic.of(MeetingAdmissionQueue.RESULT_CHANNEL_PREFIX + user.group(1))));
+        }
+        return List.of();
+    }
+
+    private static class RedisChannel {
+        private final MessageListener listener;
+        private final ChannelTopic topic;
+
+        private RedisChannel(MessageListener listener, ChannelTopic topic) {
+            this.listener = listener;
+            this.topic = topic;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.techeersalon.moitda.domain.meetings.dto.request.ApprovalParticipantRe
 import com.techeersalon.moitda.domain.meetings.dto.request.ChangeMeetingInfoReq;
 import com.techeersalon.moitda.domain.meetings.dto.request.CreateMeetingReq;
 import com.techeersalon.moitda.domain.meetings.dto.request.CreateReviewReq;
+import com.techeersalon.moitda.domain.meetings.dto.request.KeywordSearchMode;
 import com.techeersalon.moitda.domain.meetings.dto.response.*;
 import com.techeersalon.moitda.domain.meetings.service.MeetingService;
 import com.techeersalon.moitda.global.common.SuccessResponse;
@@ -51,9 +52,7 @@ public class MeetingsController {
     @Operation(summary = "findMeeting", description = "모임 상세 조회")
     @GetMapping("/{meetingId}")
     public ResponseEntity<SuccessResponse> meetingDetail(@PathVariable Long meetingId) {
-        Boolean isOwner = meetingService.determineMeetingOwner(meetingId);
         GetMeetingDetailRes response = meetingService.findMeetingById(meetingId);
-        response.setIsOwner(isOwner);
         return ResponseEntity.ok(SuccessResponse.of(MEETING_GET_SUCCESS, response));
     }
 
@@ -63,9 +62,10 @@ public class MeetingsController {
     public ResponseEntity<SuccessResponse> getNearMeetings(
             @RequestParam double latitude,
             @RequestParam double longitude,
+            @RequestParam(value = "withCount", defaultValue = "true") boolean withCount,
             Pageable pageable){
         PointMapper pointMapper = PointMapper.from(latitude, longitude);
-        GetSearchPageRes response= meetingService.getMeetingsNearLocation(pointMapper, pageable);
+        GetSearchPageRes response= meetingService.getMeetingsNearLocation(pointMapper, pageable, withCount);
         return ResponseEntity.ok(SuccessResponse.of(MEETING_PAGING_GET_SUCCESS, response));
     }
 
@@ -74,9 +74,10 @@ public class MeetingsController {
     public ResponseEntity<SuccessResponse> getAllMeetings(
             @RequestParam double latitude,
             @RequestParam double longitude,
+            @RequestParam(value = "withCount", defaultValue = "true") boolean withCount,
             Pageable pageable){
         PointMapper pointMapper = PointMapper.from(latitude, longitude);
-        GetSearchPageRes response= meetingService.getAllMeetings(pointMapper, pageable);
+        GetSearchPageRes response= meetingService.getAllMeetings(pointMapper, pageable, withCount);
         return ResponseEntity.ok(SuccessResponse.of(MEETING_PAGING_GET_SUCCESS, response));
     }
 
@@ -86,13 +87,23 @@ public class MeetingsController {
             @PathVariable Long categoryId,
             @RequestParam double latitude,
             @RequestParam double longitude,
+            @RequestParam(value = "withCount", defaultValue = "true") boolean withCount,
             Pageable pageable){
         PointMapper pointMapper = PointMapper.from(latitude, longitude);
-        GetSearchPageRes response= meetingService.getMeetingsCategory(pointMapper, categoryId,pageable);
+        GetSearchPageRes response= meetingService.getMeetingsCategory(pointMapper, categoryId,pageable, withCount);
         return ResponseEntity.ok(SuccessResponse.of(MEETING_PAGING_GET_SUCCESS, response));
     }
 
-    @Operation(summary = "searchMeetingsByKeyword", description = "키워드로 모임 검색")
+    @Operation(summary = "autocompleteMeetings", description = "모임 검색어 자동완성 (제목, 장소명, 주소)")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<SuccessResponse> autocompleteMeetings(
+            @RequestParam String keyword,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        List<GetKeywordSuggestionRes> response = meetingService.autocompleteMeetings(keyword, size);
+        return ResponseEntity.ok(SuccessResponse.of(MEETING_AUTOCOMPLETE_SUCCESS, response));
+    }
+
+    @Operation(summary = "searchMeetingsByKeyword", description = "키워드로 모임 검색 (mode: like - 제목 검색, fulltext - 제목, 내용 전문 검색)")
     @GetMapping("/search/{keyword}")
     public ResponseEntity<SuccessResponse> searchMeetingsByKeyword(
             @PathVariable String keyword,
@@ -100,9 +111,11 @@ public class MeetingsController {
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam double latitude,
             @RequestParam double longitude,
+            @RequestParam(value = "withCount", defaultValue = "true") boolean withCount,
+            @RequestParam(value = "mode", defaultValue = "like") String mode,
             Pageable pageable) {
         PointMapper pointMapper = PointMapper.from(latitude, longitude);
-        GetSearchPageRes response = meetingService.searchMeetingsByKeyword(keyword, pointMapper, pageable);
+        GetSearchPageRes response = meetingService.searchMeetingsByKeyword(keyword, pointMapper, pageable, withCount, KeywordSearchMode.from(mode));
         return ResponseEntity.ok(SuccessResponse.of(MEETING_SEARCH_SUCCESS, response));
     }
 
@@ -111,9 +124,46 @@ public class MeetingsController {
     public ResponseEntity<SuccessResponse> getMeetingsByClosestDeadline(
             @RequestParam double latitude,
             @RequestParam double longitude,
+            @RequestParam(value = "withCount", defaultValue = "true") boolean withCount,
             Pageable pageable){
         PointMapper pointMapper = PointMapper.from(latitude, longitude);
-        GetSearchPageRes response= meetingService.searchMeetingsByClosestDeadline(pointMapper, pageable);
+        GetSearchPageRes response= meetingService.searchMeetingsByClosestDeadline(pointMapper, pageable, withCount);
+        return ResponseEntity.ok(SuccessResponse.of(MEETING_PAGING_GET_SUCCESS, response));
+    }
+
+    @Operation(summary = "scrollAllMeetings", description = "전체 모임 리스트 커서 기반 조회 (가까운 순)")
+    @GetMapping("/scroll/all")
+    public ResponseEntity<SuccessResponse> scrollAllMeetings(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size){
+        PointMapper pointMapper = PointMapper.from(latitude, longitude);
+        GetSearchPageRes response = meetingService.scrollAllMeetings(pointMapper, cursor, size);
+        return ResponseEntity.ok(SuccessResponse.of(MEETING_PAGING_GET_SUCCESS, response));
+    }
+
+    @Operation(summary = "scrollNearMeetings", description = "가까운 모임 리스트 커서 기반 조회")
+    @GetMapping("/scroll/near")
+    public ResponseEntity<SuccessResponse> scrollNearMeetings(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size){
+        PointMapper pointMapper = PointMapper.from(latitude, longitude);
+        GetSearchPageRes response = meetingService.scrollMeetingsNearLocation(pointMapper, cursor, size);
+        return ResponseEntity.ok(SuccessResponse.of(MEETING_PAGING_GET_SUCCESS, response));
+    }
+
+    @Operation(summary = "scrollMeetingsByClosestDeadline", description = "마감 임박 모임 리스트 커서 기반 조회")
+    @GetMapping("/scroll/deadline")
+    public ResponseEntity<SuccessResponse> scrollMeetingsByClosestDeadline(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size){
+        PointMapper pointMapper = PointMapper.from(latitude, longitude);
+        GetSearchPageRes response = meetingService.scrollMeetingsByClosestDeadline(pointMapper, cursor, size);
         return ResponseEntity.ok(SuccessResponse.of(MEETING_PAGING_GET_SUCCESS, response));
     }
 
@@ -149,6 +199,20 @@ public class MeetingsController {
         return ResponseEntity.ok(SuccessResponse.of(PARTICIPANT_CREATE_SUCCESS, response));
     }
 
+    @Operation(summary = "queueParticipantToMeeting", description = "선착순 모임 대기열 신청 (결과는 /sub/room/{userId} 로 전달)")
+    @PostMapping("/participant/{meetingId}/queue")
+    public ResponseEntity<SuccessResponse> meetingQueueParticipant(@PathVariable("meetingId") Long meetingId) {
+        GetAdmissionStatusRes response = meetingService.enqueueParticipantOfMeeting(meetingId);
+        return ResponseEntity.ok(SuccessResponse.of(PARTICIPANT_QUEUE_SUCCESS, response));
+    }
+
+    @Operation(summary = "getParticipantQueueStatus", description = "선착순 모임 대기열 신청 상태 조회")
+    @GetMapping("/participant/{meetingId}/queue")
+    public ResponseEntity<SuccessResponse> getParticipantQueueStatus(@PathVariable("meetingId") Long meetingId) {
+        GetAdmissionStatusRes response = meetingService.getAdmissionStatus(meetingId);
+        return ResponseEntity.ok(SuccessResponse.of(PARTICIPANT_QUEUE_STATUS_GET_SUCCESS, response));
+    }
+
     @Operation(summary = "deleteParticipantFromMeeting", description = "유저 제거")
     @DeleteMapping("/participant/{meetingId}")
     public ResponseEntity<SuccessResponse> removeParticipantFromMeeting(@PathVariable Long meetingId, @RequestBody @Valid Long userId) {
@@ -0,0 +1,55 @@
+package com.techeersalon.moitda.domain.meetings.dto.mapper;
+
+import com.techeersalon.moitda.domain.meetings.exception.meeting.InvalidSearchCursorException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+ * 커서 기반 검색의 마지막 위치 (정렬 기준 값, meetingId)
+ * 클라이언트에는 base64 문자열로만 전달해 내부 정렬 값을 노출하지 않는다.
+ * */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String sortKey;
+    private final Long meetingId;
+
+    // 첫 페이지 요청 시 모든 미팅보다 앞에 위치하는 커서
+    public static SearchCursor first(String sortKey) {
+        return new SearchCursor(sortKey, 0L);
+    }
+
+    public static SearchCursor of(Object sortKey, Long meetingId) {
+        return new SearchCursor(String.valueOf(sortKey), meetingId);
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new SearchCursor(decoded.substring(0, index), Long.valueOf(decoded.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidSearchCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey + DELIMITER + meetingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public double getDistance() {
+        try {
+            return Double.parseDouble(sortKey);
+        } catch (NumberFormatException e) {
+            throw new InvalidSearchCursorException();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
 
 @Getter
 @Builder
@@ -53,7 +54,7 @@ public class CreateMeetingReq {
     private String appointmentTime;
 
     public Meeting toEntity(User user) {
-        GeometryFactory geometryFactory = new GeometryFactory();
+        GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), Meeting.LOCATION_SRID);
         Coordinate coord = new Coordinate(longitude, latitude);
         Point point = geometryFactory.createPoint(coord);
         return Meeting.builder()
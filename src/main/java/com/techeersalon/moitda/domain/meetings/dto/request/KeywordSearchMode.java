@@ -0,0 +1,17 @@
+package com.techeersalon.moitda.domain.meetings.dto.request;
+
+import com.techeersalon.moitda.domain.meetings.exception.meeting.InvalidSearchModeException;
+
+// 키워드 검색 방식 (like: 제목 LIKE 검색, fulltext: 제목, 내용 FULLTEXT 검색)
+public enum KeywordSearchMode {
+    LIKE, FULLTEXT;
+
+    public static KeywordSearchMode from(String mode) {
+        for (KeywordSearchMode value : values()) {
+            if (value.name().equalsIgnoreCase(mode)) {
+                return value;
+            }
+        }
+        throw new InvalidSearchModeException();
+    }
+}
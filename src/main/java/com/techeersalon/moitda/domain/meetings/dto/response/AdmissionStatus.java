@@ -0,0 +1,17 @@
+package com.techeersalon.moitda.domain.meetings.dto.response;
+
+// 선착순 대기열 신청 상태
+public enum AdmissionStatus {
+    // 대기열에서 순서를 기다리는 중
+    WAITING,
+    // 참가자로 등록됨
+    ADMITTED,
+    // 순서가 왔을 때 자리가 없음
+    FULL,
+    // 이미 참가자이거나 신청한 상태
+    ALREADY_JOINED,
+    // 모임이 종료, 삭제되었거나 선착순 모임이 아니게 됨
+    CLOSED,
+    // 대기열에 신청한 기록이 없음
+    NOT_QUEUED
+}
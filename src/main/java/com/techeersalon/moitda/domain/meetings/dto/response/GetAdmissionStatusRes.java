@@ -0,0 +1,37 @@
+package com.techeersalon.moitda.domain.meetings.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class GetAdmissionStatusRes {
+    private Long meetingId;
+
+    private AdmissionStatus status;
+
+    // 대기 순번 (1부터 시작, WAITING 일 때만 존재)
+    private Long position;
+
+    public static GetAdmissionStatusRes waiting(Long meetingId, Long position) {
+        return GetAdmissionStatusRes.builder()
+                .meetingId(meetingId)
+                .status(AdmissionStatus.WAITING)
+                .position(position)
+                .build();
+    }
+
+    public static GetAdmissionStatusRes of(Long meetingId, AdmissionStatus status) {
+        return GetAdmissionStatusRes.builder()
+                .meetingId(meetingId)
+                .status(status)
+                .build();
+    }
+}
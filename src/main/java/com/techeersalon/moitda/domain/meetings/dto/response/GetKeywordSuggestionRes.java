@@ -0,0 +1,44 @@
+package com.techeersalon.moitda.domain.meetings.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import com.techeersalon.moitda.domain.meetings.index.MeetingKeywordIndex.KeywordDocument;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class GetKeywordSuggestionRes {
+
+    private Long meetingId;
+
+    private String title;
+
+    private String placeName;
+
+    private String roadAddressName;
+
+    public static GetKeywordSuggestionRes from(KeywordDocument document) {
+        return GetKeywordSuggestionRes.builder()
+                .meetingId((long) document.getMeetingId())
+                .title(document.getTitle())
+                .placeName(document.getPlaceName())
+                .roadAddressName(document.getRoadAddressName())
+                .build();
+    }
+
+    public static GetKeywordSuggestionRes from(Meeting meeting) {
+        return GetKeywordSuggestionRes.builder()
+                .meetingId(meeting.getId())
+                .title(meeting.getTitle())
+                .placeName(meeting.getPlaceName())
+                .roadAddressName(meeting.getRoadAddressName())
+                .build();
+    }
+}
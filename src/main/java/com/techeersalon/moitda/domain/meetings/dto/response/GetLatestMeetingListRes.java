@@ -9,8 +9,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
-
 @Getter
 @Builder
 @NoArgsConstructor
@@ -47,7 +45,7 @@ public class GetLatestMeetingListRes {
     private String endTime;
 
 
-    public static GetLatestMeetingListRes from(Meeting meeting, List<MeetingImage> images) {
+    public static GetLatestMeetingListRes from(Meeting meeting, MeetingImage image) {
         String[] roadAddress = meeting.getRoadAddressName().split(" ");
         String roadAddressName, url;
         // 앞에 두 단어만 roadAddressName으로 설정
@@ -56,11 +54,7 @@ public class GetLatestMeetingListRes {
         } catch (Exception e) {
             roadAddressName = meeting.getRoadAddressName();
         }
-        try {
-            url = images.get(0).getImageUrl();
-        } catch (Exception e) {
-            url = null;
-        }
+        url = image != null ? image.getImageUrl() : null;
 
         return GetLatestMeetingListRes.builder()
                 .meetingId(meeting.getId())
@@ -63,7 +63,7 @@ public class GetMeetingDetailRes {
     private Boolean participantValid;
 
     // meeting table에 userId, username을 저장할 필요가 있나요?
-    public static GetMeetingDetailRes of(Meeting meeting, User user, List<MeetingParticipantListMapper> participantList, List<MeetingParticipantListMapper> waitingList, List<MeetingImage> imageList, Boolean participantValid) {
+    public static GetMeetingDetailRes of(Meeting meeting, User user, List<MeetingParticipantListMapper> participantList, List<MeetingParticipantListMapper> waitingList, List<MeetingImage> imageList) {
         return GetMeetingDetailRes.builder()
                 .title(meeting.getTitle())
                 .userId(meeting.getUserId())    // 필요없으면 주석된 부분 바꿔야함.
@@ -84,11 +84,16 @@ public class GetMeetingDetailRes {
                 .createdAt(meeting.getCreateAt())
                 .endTime(meeting.getEndTime())
                 .approvalRequired(meeting.getApprovalRequired())
-                .participantValid(participantValid)
                 .build();
     }
 
-    public void setIsOwner(Boolean isOwner) {
-        this.isOwner = isOwner;
+    /*
+     * 조회한 유저 기준 값 설정 (캐시에는 포함하지 않고 요청마다 계산)
+     * 방장 여부, 참가자 또는 대기자인지 여부
+     * */
+    public void applyViewer(Long viewerId) {
+        this.isOwner = this.userId.equals(viewerId);
+        this.participantValid = participantList.stream().anyMatch(participant -> participant.getUserId().equals(viewerId)) ||
+                waitingList.stream().anyMatch(participant -> participant.getUserId().equals(viewerId));
     }
 }
\ No newline at end of file
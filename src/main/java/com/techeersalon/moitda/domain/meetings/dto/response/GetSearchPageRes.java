@@ -1,5 +1,6 @@
 package com.techeersalon.moitda.domain.meetings.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import lombok.AllArgsConstructor;
@@ -14,20 +15,38 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class GetSearchPageRes {
     private List<GetLatestMeetingListRes> meetingList;
-    private int totalPage;
-    private int currentPage;
-    private int totalElements;
-    private int elementsPerPage;
+    private Integer totalPage;
+    private Integer currentPage;
+    private Integer totalElements;
+    private Integer elementsPerPage;
+    // 커서 기반 조회(scroll)일 때만 포함, 페이지 번호 대신 next_cursor로 다음 페이지 요청
+    private String nextCursor;
+    // 전체 개수 없이도 다음 페이지 여부를 알 수 있도록 포함
+    private Boolean hasNext;
 
-    public static GetSearchPageRes from(List<GetLatestMeetingListRes> meetingList, int totalPage, int currentPage, int totalElements, int elementsPerPage) {
-        return GetSearchPageRes.builder()
+    // totalElements가 null이면 전체 개수 조회를 생략한 응답 (total_page, total_elements 미포함)
+    public static GetSearchPageRes of(List<GetLatestMeetingListRes> meetingList, int currentPage, int elementsPerPage, boolean hasNext, Long totalElements) {
+        GetSearchPageRes.GetSearchPageResBuilder builder = GetSearchPageRes.builder()
                 .meetingList(meetingList)
-                .totalPage(totalPage)
                 .currentPage(currentPage)
-                .totalElements(totalElements)
                 .elementsPerPage(elementsPerPage)
+                .hasNext(hasNext);
+        if (totalElements != null) {
+            builder.totalElements(totalElements.intValue())
+                    .totalPage((int) Math.ceil((double) totalElements / elementsPerPage));
+        }
+        return builder.build();
+    }
+
+    public static GetSearchPageRes ofSlice(List<GetLatestMeetingListRes> meetingList, int elementsPerPage, String nextCursor) {
+        return GetSearchPageRes.builder()
+                .meetingList(meetingList)
+                .elementsPerPage(elementsPerPage)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
                 .build();
     }
 }
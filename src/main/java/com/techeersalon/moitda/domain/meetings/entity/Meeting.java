@@ -13,6 +13,7 @@ import org.hibernate.annotations.Where;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
 
 @Entity
 @Getter
@@ -23,6 +24,9 @@ import org.locationtech.jts.geom.Point;
 @Where(clause = "is_deleted = false")
 public class Meeting extends BaseEntity {
 
+    // 위치 좌표계 (WGS84), location_point 컬럼의 SPATIAL INDEX도 이 SRID로 생성
+    public static final int LOCATION_SRID = 4326;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "meeting_id")
@@ -40,7 +44,8 @@ public class Meeting extends BaseEntity {
     @Column(name = "title", nullable = false)
     private String title;
 
-    @Column(name = "participants_count", nullable = false)
+    // 동시 신청 시 갱신 손실을 막기 위해 엔티티 변경 감지로는 수정하지 않고 MeetingRepository의 조건부 UPDATE로만 변경
+    @Column(name = "participants_count", nullable = false, updatable = false)
     private Integer participantsCount;
 
     @Column(name = "max_participants_count", nullable = false)
@@ -55,8 +60,7 @@ public class Meeting extends BaseEntity {
     @Column(name = "detailed_address")
     private String detailedAddress;
 
-    @Column(name = "location_point")
-    //@Type(org.hibernate.spatial.)
+    @Column(name = "location_point", nullable = false, columnDefinition = "POINT SRID 4326")
     private Point locationPoint;
 
     @Lob
@@ -72,16 +76,21 @@ public class Meeting extends BaseEntity {
     @Column(name = "end_time")
     private String endTime;
 
+    // DB 반영은 MeetingRepository.increaseParticipantsCountIfAvailable, 여기서는 메모리 값만 맞춤
     public void increaseParticipantsCnt() {
         this.participantsCount++;
     }
 
+    public void increaseParticipantsCnt(int count) {
+        this.participantsCount += count;
+    }
+
     public void decreaseParticipantsCnt() {
         this.participantsCount--;
     }
 
     public void updateInfo(ChangeMeetingInfoReq dto) {
-        GeometryFactory geometryFactory = new GeometryFactory();
+        GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), LOCATION_SRID);
         Coordinate coord = new Coordinate(dto.getLongitude(), dto.getLatitude());
         Point point = geometryFactory.createPoint(coord);
 
@@ -0,0 +1,10 @@
+package com.techeersalon.moitda.domain.meetings.exception.meeting;
+
+import com.techeersalon.moitda.global.error.ErrorCode;
+import com.techeersalon.moitda.global.error.exception.BusinessException;
+
+public class InvalidSearchCursorException extends BusinessException {
+    public InvalidSearchCursorException(){
+        super(ErrorCode.INVALID_SEARCH_CURSOR);
+    }
+}
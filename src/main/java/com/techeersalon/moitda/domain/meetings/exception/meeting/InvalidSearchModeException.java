@@ -0,0 +1,10 @@
+package com.techeersalon.moitda.domain.meetings.exception.meeting;
+
+import com.techeersalon.moitda.global.error.ErrorCode;
+import com.techeersalon.moitda.global.error.exception.BusinessException;
+
+public class InvalidSearchModeException extends BusinessException {
+    public InvalidSearchModeException(){
+        super(ErrorCode.INVALID_SEARCH_MODE);
+    }
+}
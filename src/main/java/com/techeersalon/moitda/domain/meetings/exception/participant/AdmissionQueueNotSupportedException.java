@@ -0,0 +1,10 @@
+package com.techeersalon.moitda.domain.meetings.exception.participant;
+
+import com.techeersalon.moitda.global.error.ErrorCode;
+import com.techeersalon.moitda.global.error.exception.BusinessException;
+
+public class AdmissionQueueNotSupportedException extends BusinessException {
+    public AdmissionQueueNotSupportedException(){
+        super(ErrorCode.ADMISSION_QUEUE_NOT_SUPPORTED);
+    }
+}
@@ -0,0 +1,217 @@
+package com.techeersalon.moitda.domain.meetings.index;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 진행 중인 미팅의 위치를 JVM 메모리에 들고 있는 geohash 격자 인덱스
+ * 인스턴스가 하나일 때만 사용 (meeting.location-index.type: local)
+ * 다른 인스턴스의 생성, 수정은 반영되지 않으므로 여러 인스턴스로 운영할 때는 redis 를 사용해야 한다.
+ *
+ * 격자 키는 경도, 위도를 각각 15bit로 나눈 뒤 geohash 순서로 섞은 30bit 정수 (geohash 6자리와 동일한 셀)
+ * 셀 크기는 위도 37도 기준 약 1.0km x 0.6km
+ * */
+@Component
+@ConditionalOnProperty(name = "meeting.location-index.type", havingValue = "local")
+public class LocalMeetingLocationIndex implements MeetingLocationIndex {
+
+    private static final int BITS_PER_AXIS = 15;
+    private static final int CELLS_PER_AXIS = 1 << BITS_PER_AXIS;
+    // MySQL ST_Distance_Sphere 기본 지구 반지름, DB 검색 결과와 거리 계산을 맞추기 위해 같은 값 사용
+    private static final double EARTH_RADIUS_METERS = 6370986;
+
+    private volatile Grid grid = new Grid();
+    private volatile boolean ready = false;
+    // upsert, remove 마다 증가하는 버전과 미팅별 마지막 변경 버전 (재생성 중 변경된 미팅을 유지하기 위해 사용)
+    private long version = 0;
+    private final Map<Long, Long> changedVersions = new HashMap<>();
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return grid.locations.size();
+    }
+
+    @Override
+    public synchronized long snapshotVersion() {
+        return version;
+    }
+
+    /*
+     * 인덱스 전체 재생성
+     * 새 격자를 만든 뒤 한 번에 교체하므로 재생성 중에도 기존 인덱스로 검색 가능
+     * DB 조회 이후(snapshotVersion 이후) 변경된 미팅은 기존 격자의 값을 그대로 옮긴다.
+     * */
+    @Override
+    public synchronized void rebuild(Collection<MeetingLocation> locations, long snapshotVersion) {
+        Grid newGrid = new Grid();
+        locations.forEach(newGrid::put);
+        changedVersions.forEach((meetingId, changedVersion) -> {
+            if (changedVersion <= snapshotVersion) {
+                return;
+            }
+            newGrid.remove(meetingId);
+            MeetingLocation current = grid.locations.get(meetingId);
+            if (current != null) {
+                newGrid.put(current);
+            }
+        });
+        changedVersions.values().removeIf(changedVersion -> changedVersion <= snapshotVersion);
+        this.grid = newGrid;
+        this.ready = true;
+    }
+
+    @Override
+    public synchronized void upsert(MeetingLocation location) {
+        changedVersions.put(location.getMeetingId(), ++version);
+        grid.remove(location.getMeetingId());
+        grid.put(location);
+    }
+
+    @Override
+    public synchronized void remove(long meetingId) {
+        changedVersions.put(meetingId, ++version);
+        grid.remove(meetingId);
+    }
+
+    /*
+     * 반경 내 미팅 id를 가까운 순으로 반환 (거리가 같으면 id 순)
+     * categoryId가 null이면 전체 카테고리
+     * */
+    @Override
+    public List<Long> findNearby(double latitude, double longitude, double radiusMeters, Long categoryId) {
+        Grid current = this.grid;
+
+        double latDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double lonDelta = Math.toDegrees(radiusMeters / (EARTH_RADIUS_METERS * Math.cos(Math.toRadians(latitude))));
+        int minLon = lonIndex(longitude - lonDelta);
+        int maxLon = lonIndex(longitude + lonDelta);
+        int minLat = latIndex(latitude - latDelta);
+        int maxLat = latIndex(latitude + latDelta);
+
+        List<long[]> candidates = new ArrayList<>();
+        for (int x = minLon; x <= maxLon; x++) {
+            for (int y = minLat; y <= maxLat; y++) {
+                Set<Long> cell = current.cells.get(geohash(x, y));
+                if (cell == null) {
+                    continue;
+                }
+                for (Long meetingId : cell) {
+                    MeetingLocation location = current.locations.get(meetingId);
+                    if (location == null || (categoryId != null && location.getCategoryId() != categoryId)) {
+                        continue;
+                    }
+                    double distance = distanceSphere(latitude, longitude, location.getLatitude(), location.getLongitude());
+                    if (distance <= radiusMeters) {
+                        candidates.add(new long[]{Double.doubleToLongBits(distance), meetingId});
+                    }
+                }
+            }
+        }
+
+        // 0 이상의 double은 비트 값 순서와 크기 순서가 같음
+        candidates.sort(Comparator.<long[]>comparingLong(candidate -> candidate[0])
+                .thenComparingLong(candidate -> candidate[1]));
+
+        List<Long> meetingIds = new ArrayList<>(candidates.size());
+        candidates.forEach(candidate -> meetingIds.add(candidate[1]));
+        return meetingIds;
+    }
+
+    @Override
+    public synchronized long reconcile(Collection<MeetingLocation> activeLocations, long snapshotVersion) {
+        Grid current = this.grid;
+        Set<Long> activeIds = new HashSet<>();
+
+        long drift = 0;
+        for (MeetingLocation location : activeLocations) {
+            activeIds.add(location.getMeetingId());
+            if (!changedSince(location.getMeetingId(), snapshotVersion)
+                    && !location.equals(current.locations.get(location.getMeetingId()))) {
+                drift++;
+            }
+        }
+        for (Long meetingId : current.locations.keySet()) {
+            if (!activeIds.contains(meetingId) && !changedSince(meetingId, snapshotVersion)) {
+                drift++;
+            }
+        }
+
+        if (drift > 0) {
+            rebuild(activeLocations, snapshotVersion);
+        }
+        return drift;
+    }
+
+    private boolean changedSince(long meetingId, long snapshotVersion) {
+        return changedVersions.getOrDefault(meetingId, 0L) > snapshotVersion;
+    }
+
+    static int geohash(double latitude, double longitude) {
+        return geohash(lonIndex(longitude), latIndex(latitude));
+    }
+
+    // 경도 비트부터 번갈아 섞음 (geohash와 같은 순서)
+    private static int geohash(int lonIndex, int latIndex) {
+        int hash = 0;
+        for (int bit = BITS_PER_AXIS - 1; bit >= 0; bit--) {
+            hash = (hash << 1) | ((lonIndex >> bit) & 1);
+            hash = (hash << 1) | ((latIndex >> bit) & 1);
+        }
+        return hash;
+    }
+
+    private static int lonIndex(double longitude) {
+        return clampIndex((longitude + 180.0) / 360.0);
+    }
+
+    private static int latIndex(double latitude) {
+        return clampIndex((latitude + 90.0) / 180.0);
+    }
+
+    private static int clampIndex(double ratio) {
+        int index = (int) Math.floor(ratio * CELLS_PER_AXIS);
+        return Math.max(0, Math.min(CELLS_PER_AXIS - 1, index));
+    }
+
+    // MySQL ST_Distance_Sphere와 같은 haversine 공식
+    static double distanceSphere(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static class Grid {
+        private final Map<Long, MeetingLocation> locations = new ConcurrentHashMap<>();
+        private final Map<Integer, Set<Long>> cells = new ConcurrentHashMap<>();
+
+        private void put(MeetingLocation location) {
+            locations.put(location.getMeetingId(), location);
+            cells.computeIfAbsent(geohash(location.getLatitude(), location.getLongitude()), key -> ConcurrentHashMap.newKeySet())
+                    .add(location.getMeetingId());
+        }
+
+        private void remove(long meetingId) {
+            MeetingLocation removed = locations.remove(meetingId);
+            if (removed == null) {
+                return;
+            }
+            int key = geohash(removed.getLatitude(), removed.getLongitude());
+            Set<Long> cell = cells.get(key);
+            if (cell != null) {
+                cell.remove(meetingId);
+                if (cell.isEmpty()) {
+                    cells.remove(key, cell);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.techeersalon.moitda.domain.meetings.index;
+
+import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingIndexRow;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * 진행 중인 미팅의 제목, 장소명, 도로명 주소에 대한 메모리 역색인 (자동완성용)
+ *
+ * 공백을 제거하고 소문자로 바꾼 문자열을 글자 단위 bigram(2글자)과 unigram(1글자)으로 나눠
+ * 토큰별로 정렬된 meetingId int[] 를 posting list로 가진다.
+ * 검색은 posting list 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 한 번 더 확인한다.
+ *
+ * 인스턴스마다 따로 들고 있으므로 다른 인스턴스의 변경은 MeetingKeywordIndexLoader 의 주기적인 정합성 검사로 반영된다.
+ * 재생성, 정합성 검사는 DB 조회 전에 받은 snapshotVersion 을 넘기고, 그 이후 upsert, remove 된 미팅은 덮어쓰지 않는다.
+ * */
+@Component
+public class MeetingKeywordIndex {
+
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int[] EMPTY = new int[0];
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Integer, KeywordDocument> documents = new HashMap<>();
+    private Map<String, int[]> postings = new HashMap<>();
+    private volatile boolean ready = false;
+    // upsert, remove 마다 증가하는 버전과 미팅별 마지막 변경 버전 (재생성 중 변경된 미팅을 유지하기 위해 사용)
+    private long version = 0;
+    private final Map<Integer, Long> changedVersions = new HashMap<>();
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 현재 변경 버전, DB 조회 직전에 호출
+    public long snapshotVersion() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<KeywordDocument> newDocuments) {
+        rebuild(newDocuments, snapshotVersion());
+    }
+
+    /*
+     * 인덱스 전체 재생성
+     * 새 posting list 를 lock 밖에서 만든 뒤 교체하고, snapshotVersion 이후 변경된 미팅은 기존 인덱스의 값을 옮긴다.
+     * */
+    public void rebuild(Collection<KeywordDocument> newDocuments, long snapshotVersion) {
+        Map<Integer, KeywordDocument> newDocumentMap = new HashMap<>();
+        Map<String, List<Integer>> tokenLists = new HashMap<>();
+        for (KeywordDocument document : newDocuments) {
+            newDocumentMap.put(document.getMeetingId(), document);
+            for (String token : tokenize(document.getSearchText())) {
+                tokenLists.computeIfAbsent(token, key -> new ArrayList<>()).add(document.getMeetingId());
+            }
+        }
+
+        Map<String, int[]> newPostings = new HashMap<>(tokenLists.size());
+        tokenLists.forEach((token, meetingIds) -> newPostings.put(token,
+                meetingIds.stream().mapToInt(Integer::intValue).sorted().toArray()));
+
+        lock.writeLock().lock();
+        try {
+            changedVersions.forEach((meetingId, changedVersion) -> {
+                if (changedVersion <= snapshotVersion) {
+                    return;
+                }
+                removeDocument(newDocumentMap, newPostings, meetingId);
+                KeywordDocument current = documents.get(meetingId);
+                if (current != null) {
+                    addDocument(newDocumentMap, newPostings, current);
+                }
+            });
+            changedVersions.values().removeIf(changedVersion -> changedVersion <= snapshotVersion);
+            this.documents = newDocumentMap;
+            this.postings = newPostings;
+            this.ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * DB의 진행 중인 미팅과 비교해 어긋난 건수를 반환하고, 어긋난 경우 재생성
+     * snapshotVersion 이후 변경된 미팅은 비교하지 않음
+     * */
+    public long reconcile(Collection<KeywordDocument> activeDocuments, long snapshotVersion) {
+        long drift = 0;
+        lock.readLock().lock();
+        try {
+            Set<Integer> activeIds = new HashSet<>();
+            for (KeywordDocument document : activeDocuments) {
+                activeIds.add(document.getMeetingId());
+                if (!changedSince(document.getMeetingId(), snapshotVersion)
+                        && !document.sameContent(documents.get(document.getMeetingId()))) {
+                    drift++;
+                }
+            }
+            for (Integer meetingId : documents.keySet()) {
+                if (!activeIds.contains(meetingId) && !changedSince(meetingId, snapshotVersion)) {
+                    drift++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (drift > 0) {
+            rebuild(activeDocuments, snapshotVersion);
+        }
+        return drift;
+    }
+
+    public void upsert(KeywordDocument document) {
+        lock.writeLock().lock();
+        try {
+            changedVersions.put(document.getMeetingId(), ++version);
+            removeDocument(documents, postings, document.getMeetingId());
+            addDocument(documents, postings, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long meetingId) {
+        lock.writeLock().lock();
+        try {
+            changedVersions.put(Math.toIntExact(meetingId), ++version);
+            removeDocument(documents, postings, Math.toIntExact(meetingId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * 자동완성 검색
+     * 제목이 검색어로 시작하는 미팅을 먼저, 나머지는 검색어를 포함하는 미팅을 최근 생성(id 큰) 순으로 반환
+     * */
+    public List<KeywordDocument> autocomplete(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = null;
+            for (String token : queryTokens(query)) {
+                int[] posting = postings.getOrDefault(token, EMPTY);
+                candidates = candidates == null ? posting : intersect(candidates, posting);
+                if (candidates.length == 0) {
+                    return Collections.emptyList();
+                }
+            }
+
+            List<KeywordDocument> prefixMatches = new ArrayList<>();
+            List<KeywordDocument> containsMatches = new ArrayList<>();
+            for (int i = candidates.length - 1; i >= 0 && prefixMatches.size() < limit; i--) {
+                KeywordDocument document = documents.get(candidates[i]);
+                if (document.getNormalizedTitle().startsWith(query)) {
+                    prefixMatches.add(document);
+                } else if (containsMatches.size() < limit && document.getSearchText().contains(query)) {
+                    containsMatches.add(document);
+                }
+            }
+
+            List<KeywordDocument> result = new ArrayList<>(prefixMatches);
+            for (KeywordDocument document : containsMatches) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                result.add(document);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * 재시작 시 DB 조회 없이 바로 사용할 수 있도록 문서 목록을 파일로 저장
+     * 임시 파일에 쓴 뒤 교체하므로 저장 중 종료되어도 이전 스냅샷은 유지된다.
+     * */
+    public void writeSnapshot(File file) throws IOException {
+        List<KeywordDocument> snapshot;
+        lock.readLock().lock();
+        try {
+            snapshot = new ArrayList<>(documents.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("스냅샷 디렉터리를 만들 수 없습니다: " + parent);
+        }
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(snapshot.size());
+            for (KeywordDocument document : snapshot) {
+                out.writeInt(document.getMeetingId());
+                out.writeUTF(document.getTitle());
+                out.writeUTF(Objects.toString(document.getPlaceName(), ""));
+                out.writeUTF(Objects.toString(document.getRoadAddressName(), ""));
+            }
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 스냅샷을 읽어 인덱스를 만들고 읽은 문서 수를 반환, 파일이 없거나 형식이 다르면 -1
+    public int loadSnapshot(File file) throws IOException {
+        if (!file.exists()) {
+            return -1;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                return -1;
+            }
+            int count = in.readInt();
+            List<KeywordDocument> loaded = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                loaded.add(KeywordDocument.of(in.readInt(), in.readUTF(), in.readUTF(), in.readUTF()));
+            }
+            rebuild(loaded);
+            return count;
+        }
+    }
+
+    private boolean changedSince(int meetingId, long snapshotVersion) {
+        return changedVersions.getOrDefault(meetingId, 0L) > snapshotVersion;
+    }
+
+    private static void addDocument(Map<Integer, KeywordDocument> documents, Map<String, int[]> postings, KeywordDocument document) {
+        documents.put(document.getMeetingId(), document);
+        for (String token : tokenize(document.getSearchText())) {
+            postings.put(token, insert(postings.getOrDefault(token, EMPTY), document.getMeetingId()));
+        }
+    }
+
+    private static void removeDocument(Map<Integer, KeywordDocument> documents, Map<String, int[]> postings, int meetingId) {
+        KeywordDocument removed = documents.remove(meetingId);
+        if (removed == null) {
+            return;
+        }
+        for (String token : tokenize(removed.getSearchText())) {
+            int[] posting = remove(postings.getOrDefault(token, EMPTY), meetingId);
+            if (posting.length == 0) {
+                postings.remove(token);
+            } else {
+                postings.put(token, posting);
+            }
+        }
+    }
+
+    // 문서 색인용 토큰: 모든 unigram + bigram (필드 구분 문자를 걸치는 토큰은 제외)
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == FIELD_SEPARATOR) {
+                continue;
+            }
+            tokens.add(text.substring(i, i + 1));
+            if (i + 1 < text.length() && text.charAt(i + 1) != FIELD_SEPARATOR) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어 토큰: 한 글자면 unigram, 그 외에는 bigram
+    private static Set<String> queryTokens(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            tokens.add(query.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int i = 0, j = 0, size = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                result[size++] = left[i];
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] insert(int[] posting, int meetingId) {
+        int index = Arrays.binarySearch(posting, meetingId);
+        if (index >= 0) {
+            return posting;
+        }
+        int position = -index - 1;
+        int[] result = new int[posting.length + 1];
+        System.arraycopy(posting, 0, result, 0, position);
+        result[position] = meetingId;
+        System.arraycopy(posting, position, result, position + 1, posting.length - position);
+        return result;
+    }
+
+    private static int[] remove(int[] posting, int meetingId) {
+        int index = Arrays.binarySearch(posting, meetingId);
+        if (index < 0) {
+            return posting;
+        }
+        int[] result = new int[posting.length - 1];
+        System.arraycopy(posting, 0, result, 0, index);
+        System.arraycopy(posting, index + 1, result, index, posting.length - index - 1);
+        return result;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class KeywordDocument {
+        private final int meetingId;
+        private final String title;
+        private final String placeName;
+        private final String roadAddressName;
+        private final String normalizedTitle;
+        // 제목, 장소명, 도로명 주소를 정규화해 이어 붙인 검색 대상 문자열 (필드 사이는 구분 문자로 분리)
+        private final String searchText;
+
+        public static KeywordDocument of(int meetingId, String title, String placeName, String roadAddressName) {
+            String normalizedTitle = normalize(title);
+            String searchText = normalizedTitle + FIELD_SEPARATOR + normalize(placeName) + FIELD_SEPARATOR + normalize(roadAddressName);
+            return new KeywordDocument(meetingId, title, placeName, roadAddressName, normalizedTitle, searchText);
+        }
+
+        public static KeywordDocument from(Meeting meeting) {
+            return of(Math.toIntExact(meeting.getId()), meeting.getTitle(), meeting.getPlaceName(), meeting.getRoadAddressName());
+        }
+
+        public static KeywordDocument from(MeetingIndexRow row) {
+            return of(Math.toIntExact(row.getId()), row.getTitle(), row.getPlaceName(), row.getRoadAddressName());
+        }
+
+        // 정합성 검사용, 응답에 쓰는 원문 필드까지 같은지 비교
+        private boolean sameContent(KeywordDocument other) {
+            return other != null
+                    && meetingId == other.meetingId
+                    && Objects.equals(title, other.title)
+                    && Objects.equals(placeName, other.placeName)
+                    && Objects.equals(roadAddressName, other.roadAddressName);
+        }
+    }
+}
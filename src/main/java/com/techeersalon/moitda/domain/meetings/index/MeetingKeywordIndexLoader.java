@@ -0,0 +1,105 @@
+package com.techeersalon.moitda.domain.meetings.index;
+
+import com.techeersalon.moitda.domain.meetings.index.MeetingKeywordIndex.KeywordDocument;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/*
+ * 키워드 역색인 생성 및 스냅샷 관리
+ * 기동 시 스냅샷 파일로 바로 검색 가능하게 만든 뒤, 백그라운드에서 DB 기준으로 다시 만든다.
+ * 인덱스는 인스턴스마다 따로 있으므로 주기적으로 DB와 비교해 어긋나면(다른 인스턴스의 생성, 수정 등) 다시 만든다.
+ * DB 조회 전에 인덱스의 변경 버전을 받아 넘기므로, 재생성 중 반영된 upsert, remove 는 되돌리지 않는다.
+ * 스냅샷은 주기적으로, 그리고 종료 시 저장한다.
+ * */
+@Component
+@Slf4j
+public class MeetingKeywordIndexLoader {
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingKeywordIndex meetingKeywordIndex;
+    private final File snapshotFile;
+
+    public MeetingKeywordIndexLoader(MeetingRepository meetingRepository,
+                                     MeetingKeywordIndex meetingKeywordIndex,
+                                     @Value("${meeting.keyword-index.snapshot-path:./data/meeting-keyword-index.snapshot}") String snapshotPath) {
+        this.meetingRepository = meetingRepository;
+        this.meetingKeywordIndex = meetingKeywordIndex;
+        this.snapshotFile = new File(snapshotPath);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            int loaded = meetingKeywordIndex.loadSnapshot(snapshotFile);
+            if (loaded >= 0) {
+                log.info("미팅 키워드 인덱스 스냅샷 로드 완료: {}건", loaded);
+            }
+        } catch (IOException e) {
+            log.warn("미팅 키워드 인덱스 스냅샷 로드 실패: {}", e.getMessage());
+        }
+        // 스냅샷 이후 변경분 반영을 위해 DB 기준으로 다시 생성 (기동은 기다리지 않음)
+        CompletableFuture.runAsync(this::rebuild)
+                .exceptionally(e -> {
+                    log.error("미팅 키워드 인덱스 생성 실패", e);
+                    return null;
+                });
+    }
+
+    public void rebuild() {
+        long snapshotVersion = meetingKeywordIndex.snapshotVersion();
+        List<KeywordDocument> documents = loadActiveDocuments();
+        meetingKeywordIndex.rebuild(documents, snapshotVersion);
+        log.info("미팅 키워드 인덱스 생성 완료: {}건", documents.size());
+    }
+
+    @Scheduled(initialDelayString = "${meeting.keyword-index.verify-interval-ms:300000}",
+            fixedDelayString = "${meeting.keyword-index.verify-interval-ms:300000}")
+    public void verify() {
+        if (!meetingKeywordIndex.isReady()) {
+            return;
+        }
+        long snapshotVersion = meetingKeywordIndex.snapshotVersion();
+        List<KeywordDocument> documents = loadActiveDocuments();
+
+        long drift = meetingKeywordIndex.reconcile(documents, snapshotVersion);
+        if (drift > 0) {
+            log.info("미팅 키워드 인덱스 불일치 {}건 발견, 재생성", drift);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${meeting.keyword-index.snapshot-interval-ms:300000}",
+            fixedDelayString = "${meeting.keyword-index.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        if (!meetingKeywordIndex.isReady()) {
+            return;
+        }
+        try {
+            meetingKeywordIndex.writeSnapshot(snapshotFile);
+        } catch (IOException e) {
+            log.warn("미팅 키워드 인덱스 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<KeywordDocument> loadActiveDocuments() {
+        return meetingRepository.findAllIndexRowsByEndTimeIsNull().stream()
+                .map(KeywordDocument::from)
+                .collect(Collectors.toList());
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+}
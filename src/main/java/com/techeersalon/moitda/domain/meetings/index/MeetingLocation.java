@@ -0,0 +1,56 @@
+package com.techeersalon.moitda.domain.meetings.index;
+
+import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingIndexRow;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/*
+ * 위치 인덱스에 저장하는 진행 중인 미팅의 최소 정보
+ * 엔티티 대신 원시 타입만 들고 있어 메모리 사용량을 줄인다.
+ * */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MeetingLocation {
+
+    private final long meetingId;
+
+    private final double latitude;
+
+    private final double longitude;
+
+    private final long categoryId;
+
+    private final int participantsCount;
+
+    private final int maxParticipantsCount;
+
+    private final String appointmentTime;
+
+    public static MeetingLocation from(Meeting meeting) {
+        return new MeetingLocation(
+                meeting.getId(),
+                meeting.getLocationPoint().getY(),
+                meeting.getLocationPoint().getX(),
+                meeting.getCategoryId(),
+                meeting.getParticipantsCount(),
+                meeting.getMaxParticipantsCount(),
+                meeting.getAppointmentTime()
+        );
+    }
+
+    public static MeetingLocation from(MeetingIndexRow row) {
+        return new MeetingLocation(
+                row.getId(),
+                row.getLocationPoint().getY(),
+                row.getLocationPoint().getX(),
+                row.getCategoryId(),
+                row.getParticipantsCount(),
+                row.getMaxParticipantsCount(),
+                row.getAppointmentTime()
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.techeersalon.moitda.domain.meetings.index;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * 진행 중인 미팅(end_time IS NULL)의 위치 인덱스
+ * meeting.location-index.type 값으로 구현체 선택 (redis: Redis GEO, local: JVM 메모리)
+ *
+ * 재생성, 정합성 검사는 DB 조회 전에 받은 snapshotVersion 을 함께 넘긴다.
+ * 그 이후 upsert, remove 된 미팅은 DB 조회 결과에 반영되지 않았을 수 있으므로 덮어쓰지 않는다.
+ * */
+public interface MeetingLocationIndex {
+
+    boolean isReady();
+
+    // 현재 변경 버전, DB 조회 직전에 호출
+    long snapshotVersion();
+
+    // 인덱스 전체 재생성 (snapshotVersion 이후 변경된 미팅은 유지)
+    void rebuild(Collection<MeetingLocation> locations, long snapshotVersion);
+
+    default void rebuild(Collection<MeetingLocation> locations) {
+        rebuild(locations, snapshotVersion());
+    }
+
+    void upsert(MeetingLocation location);
+
+    void remove(long meetingId);
+
+    // 반경 내 미팅 id를 가까운 순으로 반환, categoryId가 null이면 전체 카테고리
+    List<Long> findNearby(double latitude, double longitude, double radiusMeters, Long categoryId);
+
+    // DB의 진행 중인 미팅과 비교해 어긋난 건수를 반환하고, 어긋난 경우 인덱스를 복구 (snapshotVersion 이후 변경된 미팅은 제외)
+    long reconcile(Collection<MeetingLocation> activeLocations, long snapshotVersion);
+}
@@ -0,0 +1,62 @@
+package com.techeersalon.moitda.domain.meetings.index;
+
+import com.techeersalon.moitda.domain.meetings.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * 위치 인덱스 재생성 및 DB 정합성 검사
+ * 기동 시 진행 중인 미팅 전체로 인덱스를 만들고, 주기적으로 DB와 비교해 어긋나면 다시 만든다.
+ * DB 조회 전에 인덱스의 변경 버전을 받아 넘기므로, 조회 이후 반영된 upsert, remove 는 되돌리지 않는다.
+ * redis 인덱스는 여러 인스턴스가 같은 키를 쓰며, 어긋난 미팅만 고치므로 여러 인스턴스가 동시에 기동해도 결과가 같다.
+ * */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MeetingLocationIndexLoader {
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingLocationIndex meetingLocationIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long snapshotVersion = meetingLocationIndex.snapshotVersion();
+        Map<Long, MeetingLocation> locations = loadActiveLocations();
+        meetingLocationIndex.rebuild(locations.values(), snapshotVersion);
+        log.info("미팅 위치 인덱스 생성 완료: {}건", locations.size());
+    }
+
+    @Scheduled(initialDelayString = "${meeting.location-index.verify-interval-ms:600000}",
+            fixedDelayString = "${meeting.location-index.verify-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void verify() {
+        if (!meetingLocationIndex.isReady()) {
+            return;
+        }
+        long snapshotVersion = meetingLocationIndex.snapshotVersion();
+        Map<Long, MeetingLocation> locations = loadActiveLocations();
+
+        long drift = meetingLocationIndex.reconcile(locations.values(), snapshotVersion);
+        if (drift > 0) {
+            log.warn("미팅 위치 인덱스 불일치 {}건 발견, 재생성", drift);
+        }
+    }
+
+    private Map<Long, MeetingLocation> loadActiveLocations() {
+        // 좌표가 없는 미팅(location_point 이관 전 데이터)은 인덱스에서 제외
+        return meetingRepository.findAllIndexRowsByEndTimeIsNull().stream()
+                .filter(row -> row.getLocationPoint() != null)
+                .map(MeetingLocation::from)
+                .collect(Collectors.toMap(MeetingLocation::getMeetingId, Function.identity()));
+    }
+}
@@ -0,0 +1,262 @@
+package com.techeersalon.moitda.domain.meetings.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/*
+ * Redis GEO 기반 위치 인덱스 (meeting.location-index.type: redis, 기본값)
+ * 여러 백엔드 인스턴스가 같은 인덱스를 공유하므로 여러 인스턴스로 운영할 때는 이 구현을 사용해야 한다.
+ *
+ * meeting:geo:all                  진행 중인 전체 미팅
+ * meeting:geo:category:{id}        카테고리별 미팅
+ * meeting:geo:categories           meetingId -> categoryId, 카테고리 변경 시 이전 키에서 제거하기 위해 사용
+ * meeting:geo:version              upsert, remove 마다 증가하는 변경 버전
+ * meeting:geo:changes              meetingId -> 마지막 변경 버전 (sorted set score)
+ * meeting:geo:trimmed-version      changes 에서 정리한 버전, 이보다 오래된 snapshot 으로는 복구하지 않음
+ *
+ * 재생성, 정합성 검사는 키를 새로 만들어 교체하지 않고 DB 와 다른 미팅만 고친다.
+ * 고칠 때 그 미팅이 DB 조회 이후(snapshotVersion 이후) 변경되었으면 건너뛰므로,
+ * 여러 인스턴스가 동시에 기동하거나 재생성 중 after-commit upsert 가 들어와도 새 값을 이전 DB 값으로 덮어쓰지 않는다.
+ * */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "meeting.location-index.type", havingValue = "redis", matchIfMissing = true)
+public class RedisMeetingLocationIndex implements MeetingLocationIndex {
+
+    private static final String ALL_KEY = "meeting:geo:all";
+    private static final String CATEGORY_KEY_PREFIX = "meeting:geo:category:";
+    private static final String CATEGORY_MAP_KEY = "meeting:geo:categories";
+    private static final String VERSION_KEY = "meeting:geo:version";
+    private static final String CHANGES_KEY = "meeting:geo:changes";
+    private static final String TRIMMED_VERSION_KEY = "meeting:geo:trimmed-version";
+    // Redis는 지구 반지름 6372797.560856m, MySQL ST_Distance_Sphere는 6370986m를 사용하므로 반경을 보정해 DB 검색 결과와 맞춤
+    private static final double RADIUS_SCALE = 6372797.560856 / 6370986;
+    // Redis GEO는 52bit geohash로 저장하므로 좌표 비교 시 오차 허용
+    private static final double POSITION_TOLERANCE = 1e-5;
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+
+    /*
+     * 미팅 하나의 위치 저장 (categoryId 가 빈 문자열이면 삭제), KEYS[1]: all, KEYS[2]: categories
+     * 카테고리 키는 스크립트 안에서 만들므로 단일 Redis 기준 (Cluster 에서는 키를 같은 hash slot 에 두어야 함)
+     * */
+    private static final String APPLY_FUNCTION =
+            "local function apply(member, longitude, latitude, categoryId) " +
+                    "  local previous = redis.call('HGET', KEYS[2], member) " +
+                    "  if previous and previous ~= categoryId then redis.call('ZREM', '" + CATEGORY_KEY_PREFIX + "' .. previous, member) end " +
+                    "  if categoryId == '' then " +
+                    "    redis.call('ZREM', KEYS[1], member) " +
+                    "    redis.call('HDEL', KEYS[2], member) " +
+                    "  else " +
+                    "    redis.call('GEOADD', KEYS[1], longitude, latitude, member) " +
+                    "    redis.call('GEOADD', '" + CATEGORY_KEY_PREFIX + "' .. categoryId, longitude, latitude, member) " +
+                    "    redis.call('HSET', KEYS[2], member, categoryId) " +
+                    "  end " +
+                    "end ";
+    /*
+     * upsert, remove: 변경 버전을 올려 기록한 뒤 적용
+     * KEYS: all, categories, changes, version / ARGV: member, longitude, latitude, categoryId
+     * */
+    private static final RedisScript<Long> CHANGE = new DefaultRedisScript<>(
+            APPLY_FUNCTION +
+                    "local version = redis.call('INCR', KEYS[4]) " +
+                    "redis.call('ZADD', KEYS[3], version, ARGV[1]) " +
+                    "apply(ARGV[1], ARGV[2], ARGV[3], ARGV[4]) " +
+                    "return version",
+            Long.class);
+    /*
+     * 재생성, 정합성 검사: snapshotVersion 이후 변경되지 않은 미팅만 적용, 이미 정리된 snapshot 이면 -1
+     * KEYS: all, categories, changes, trimmed-version / ARGV[1]: snapshotVersion, ARGV[2..]: member, longitude, latitude, categoryId 반복
+     * */
+    private static final RedisScript<Long> REPAIR = new DefaultRedisScript<>(
+            APPLY_FUNCTION +
+                    "local snapshot = tonumber(ARGV[1]) " +
+                    "if tonumber(redis.call('GET', KEYS[4]) or '0') > snapshot then return -1 end " +
+                    "local applied = 0 " +
+                    "for i = 2, #ARGV, 4 do " +
+                    "  local changed = redis.call('ZSCORE', KEYS[3], ARGV[i]) " +
+                    "  if not changed or tonumber(changed) <= snapshot then " +
+                    "    apply(ARGV[i], ARGV[i + 1], ARGV[i + 2], ARGV[i + 3]) " +
+                    "    applied = applied + 1 " +
+                    "  end " +
+                    "end " +
+                    "return applied",
+            Long.class);
+    /*
+     * snapshot 까지의 변경 기록 정리 (DB 에 반영된 변경)
+     * KEYS: changes, trimmed-version / ARGV[1]: snapshotVersion
+     * */
+    private static final RedisScript<Long> TRIM = new DefaultRedisScript<>(
+            "if tonumber(redis.call('GET', KEYS[2]) or '0') < tonumber(ARGV[1]) then " +
+                    "  redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+                    "  redis.call('SET', KEYS[2], ARGV[1]) " +
+                    "end " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private volatile boolean ready = false;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public long snapshotVersion() {
+        String version = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    /*
+     * DB 와 다른 미팅만 고쳐 재생성
+     * 다른 인스턴스는 재생성 중에도 기존 키로 검색 가능
+     * */
+    @Override
+    public void rebuild(Collection<MeetingLocation> locations, long snapshotVersion) {
+        long drift = repair(locations, snapshotVersion);
+        log.debug("미팅 위치 인덱스 재생성: {}건 수정", drift);
+    }
+
+    @Override
+    public void upsert(MeetingLocation location) {
+        change(String.valueOf(location.getMeetingId()), location.getLongitude(), location.getLatitude(),
+                String.valueOf(location.getCategoryId()));
+    }
+
+    @Override
+    public void remove(long meetingId) {
+        change(String.valueOf(meetingId), 0, 0, "");
+    }
+
+    @Override
+    public List<Long> findNearby(double latitude, double longitude, double radiusMeters, Long categoryId) {
+        String key = categoryId == null ? ALL_KEY : categoryKey(categoryId);
+
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results = stringRedisTemplate.opsForGeo().search(
+                key,
+                GeoReference.fromCoordinate(longitude, latitude),
+                new Distance(radiusMeters * RADIUS_SCALE, Metrics.METERS),
+                RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs().sortAscending());
+
+        if (results == null) {
+            return Collections.emptyList();
+        }
+        return results.getContent().stream()
+                .map(result -> Long.valueOf(result.getContent().getName()))
+                .collect(Collectors.toList());
+    }
+
+    /*
+     * 누락, 삭제되지 않은 미팅, 카테고리, 좌표가 DB와 다른 미팅만 고친 뒤 고친 건수를 반환
+     * (snapshotVersion 이후 변경되어 건너뛴 미팅은 세지 않음)
+     * */
+    @Override
+    public long reconcile(Collection<MeetingLocation> activeLocations, long snapshotVersion) {
+        return repair(activeLocations, snapshotVersion);
+    }
+
+    private long repair(Collection<MeetingLocation> activeLocations, long snapshotVersion) {
+        Set<String> indexedMembers = Optional.ofNullable(stringRedisTemplate.opsForZSet().range(ALL_KEY, 0, -1))
+                .orElse(Collections.emptySet());
+        Map<String, String> indexedCategories = stringRedisTemplate.<String, String>opsForHash().entries(CATEGORY_MAP_KEY);
+
+        List<String> changes = new ArrayList<>();
+        Set<String> activeMembers = new HashSet<>();
+        List<MeetingLocation> batch = new ArrayList<>(RECONCILE_BATCH_SIZE);
+        for (MeetingLocation location : activeLocations) {
+            String member = String.valueOf(location.getMeetingId());
+            activeMembers.add(member);
+            if (!indexedMembers.contains(member) || !String.valueOf(location.getCategoryId()).equals(indexedCategories.get(member))) {
+                addChange(changes, location);
+                continue;
+            }
+            batch.add(location);
+            if (batch.size() == RECONCILE_BATCH_SIZE) {
+                addMovedLocations(changes, batch);
+                batch.clear();
+            }
+        }
+        addMovedLocations(changes, batch);
+        indexedMembers.stream()
+                .filter(member -> !activeMembers.contains(member))
+                .forEach(member -> Collections.addAll(changes, member, "0", "0", ""));
+
+        long drift = 0;
+        // 한 번에 실행하는 스크립트가 너무 길어지지 않도록 나눠서 적용
+        int chunk = RECONCILE_BATCH_SIZE * 4;
+        for (int from = 0; from < changes.size(); from += chunk) {
+            List<String> args = new ArrayList<>(chunk + 1);
+            args.add(String.valueOf(snapshotVersion));
+            args.addAll(changes.subList(from, Math.min(from + chunk, changes.size())));
+            Long applied = stringRedisTemplate.execute(REPAIR, List.of(ALL_KEY, CATEGORY_MAP_KEY, CHANGES_KEY, TRIMMED_VERSION_KEY),
+                    args.toArray());
+            if (applied != null && applied < 0) {
+                // 다른 인스턴스가 더 최신 DB 조회 결과로 이미 고친 경우
+                log.info("미팅 위치 인덱스 복구 건너뜀: snapshotVersion {} 이후 이미 복구됨", snapshotVersion);
+                this.ready = true;
+                return drift;
+            }
+            drift += applied == null ? 0 : applied;
+        }
+        stringRedisTemplate.execute(TRIM, List.of(CHANGES_KEY, TRIMMED_VERSION_KEY), String.valueOf(snapshotVersion));
+
+        this.ready = true;
+        return drift;
+    }
+
+    // 커밋 이후 호출되므로 Redis 장애로 요청을 실패시키지 않음 (어긋난 미팅은 MeetingLocationIndexLoader.verify 에서 복구)
+    private void change(String member, double longitude, double latitude, String categoryId) {
+        try {
+            stringRedisTemplate.execute(CHANGE, List.of(ALL_KEY, CATEGORY_MAP_KEY, CHANGES_KEY, VERSION_KEY),
+                    member, String.valueOf(longitude), String.valueOf(latitude), categoryId);
+        } catch (DataAccessException e) {
+            log.warn("미팅 위치 인덱스 갱신 실패: meetingId = {}, {}", member, e.getMessage());
+        }
+    }
+
+    private void addChange(List<String> changes, MeetingLocation location) {
+        Collections.addAll(changes, String.valueOf(location.getMeetingId()), String.valueOf(location.getLongitude()),
+                String.valueOf(location.getLatitude()), String.valueOf(location.getCategoryId()));
+    }
+
+    private void addMovedLocations(List<String> changes, List<MeetingLocation> locations) {
+        if (locations.isEmpty()) {
+            return;
+        }
+        String[] members = locations.stream()
+                .map(location -> String.valueOf(location.getMeetingId()))
+                .toArray(String[]::new);
+        List<Point> positions = stringRedisTemplate.opsForGeo().position(ALL_KEY, members);
+
+        for (int i = 0; i < locations.size(); i++) {
+            Point position = positions == null ? null : positions.get(i);
+            MeetingLocation location = locations.get(i);
+            if (position == null
+                    || Math.abs(position.getX() - location.getLongitude()) > POSITION_TOLERANCE
+                    || Math.abs(position.getY() - location.getLatitude()) > POSITION_TOLERANCE) {
+                addChange(changes, location);
+            }
+        }
+    }
+
+    private String categoryKey(long categoryId) {
+        return CATEGORY_KEY_PREFIX + categoryId;
+    }
+}
@@ -0,0 +1,9 @@
+package com.techeersalon.moitda.domain.meetings.repository;
+
+// 커서 기반 마감순 조회 결과 (meetingId, 약속 시간)
+public interface MeetingAppointmentRow {
+
+    Long getMeetingId();
+
+    String getAppointmentTime();
+}
@@ -0,0 +1,9 @@
+package com.techeersalon.moitda.domain.meetings.repository;
+
+// 커서 기반 거리순 조회 결과 (meetingId, 기준 좌표와의 거리)
+public interface MeetingDistanceRow {
+
+    Long getMeetingId();
+
+    Double getDistance();
+}
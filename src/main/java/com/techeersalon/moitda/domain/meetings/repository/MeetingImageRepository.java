@@ -2,7 +2,10 @@ package com.techeersalon.moitda.domain.meetings.repository;
 
 import com.techeersalon.moitda.domain.meetings.entity.MeetingImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -10,5 +13,10 @@ public interface MeetingImageRepository extends JpaRepository<MeetingImage, Long
 
     List<MeetingImage> findByMeetingId(Long meetingId);
 
+    // 미팅별 첫 번째 이미지를 한 번의 쿼리로 조회 (검색 페이지 썸네일용)
+    @Query("SELECT mi FROM MeetingImage mi WHERE mi.id IN " +
+            "(SELECT MIN(sub.id) FROM MeetingImage sub WHERE sub.meetingId IN :meetingIds GROUP BY sub.meetingId)")
+    List<MeetingImage> findFirstImagesByMeetingIds(@Param("meetingIds") Collection<Long> meetingIds);
+
     void deleteByMeetingId(Long meetingId);
 }
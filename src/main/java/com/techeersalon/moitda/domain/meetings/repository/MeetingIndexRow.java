@@ -0,0 +1,25 @@
+package com.techeersalon.moitda.domain.meetings.repository;
+
+import org.locationtech.jts.geom.Point;
+
+// 위치, 키워드 인덱스 생성용 진행 중인 미팅 정보 (content 등 인덱스에 쓰지 않는 컬럼은 조회하지 않음)
+public interface MeetingIndexRow {
+
+    Long getId();
+
+    Point getLocationPoint();
+
+    Long getCategoryId();
+
+    Integer getParticipantsCount();
+
+    Integer getMaxParticipantsCount();
+
+    String getAppointmentTime();
+
+    String getTitle();
+
+    String getPlaceName();
+
+    String getRoadAddressName();
+}
@@ -2,6 +2,9 @@ package com.techeersalon.moitda.domain.meetings.repository;
 
 import com.techeersalon.moitda.domain.meetings.entity.MeetingParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,6 +14,9 @@ import java.util.Optional;
 public interface MeetingParticipantRepository extends JpaRepository<MeetingParticipant, Long> {
     List<MeetingParticipant> findByMeetingIdAndIsWaiting(Long MeetingId, Boolean bool);
 
+    // 참가자, 대기자를 한 번의 쿼리로 조회
+    List<MeetingParticipant> findAllByMeetingId(Long meetingId);
+
     Boolean existsByMeetingIdAndUserId(Long meetingId, Long UserId);
 
     Optional<MeetingParticipant> findByMeetingId(Long Meeting);
@@ -18,4 +24,18 @@ public interface MeetingParticipantRepository extends JpaRepository<MeetingParti
     MeetingParticipant findByMeetingIdAndUserId(Long meetingId, Long userId);
 
     List<MeetingParticipant> getParticipantsByUserId(Long userId);
+
+    // 대기 중인 신청만 승인 (같은 신청을 동시에 승인해도 한 번만 반영), 변경된 row 수 반환
+    @Modifying
+    @Query(value = "UPDATE meeting_participant SET is_waiting = false " +
+            "WHERE meeting_participant_id = :participantId AND is_waiting = true AND is_deleted = false",
+            nativeQuery = true)
+    int approveIfWaiting(@Param("participantId") Long participantId);
+
+    // 대기 여부가 조회한 값 그대로일 때만 삭제 (참가자 수를 줄여야 하는지 정확히 판단하기 위함), 변경된 row 수 반환
+    @Modifying
+    @Query(value = "UPDATE meeting_participant SET is_deleted = true " +
+            "WHERE meeting_participant_id = :participantId AND is_waiting = :isWaiting AND is_deleted = false",
+            nativeQuery = true)
+    int deleteIfWaitingStatus(@Param("participantId") Long participantId, @Param("isWaiting") Boolean isWaiting);
 }
@@ -2,16 +2,22 @@ package com.techeersalon.moitda.domain.meetings.repository;
 
 
 import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import jakarta.persistence.LockModeType;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 
 @Repository
@@ -30,30 +36,153 @@ public interface MeetingRepository extends PagingAndSortingRepository<Meeting, L
     )
     Page<Meeting> findParticipationRecordsByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    @Query(value = "SELECT * FROM meeting WHERE end_time IS NULL AND ST_Distance_Sphere(location_point, :point) <= 1500 ORDER BY ST_Distance_Sphere(location_point, :point) ASC",
-            countQuery = "SELECT count(*) FROM meeting WHERE end_time IS NULL AND ST_Distance_Sphere(location_point, :point) <= 1500",
+    /*
+     * 검색 리스트는 Slice로 조회해 count 쿼리를 실행하지 않고 (size + 1개 조회로 다음 페이지 여부만 판단)
+     * 전체 개수가 필요할 때만 아래 count 메소드를 따로 호출한다. count 메소드는 리스트 조회와 같은 조건을 사용한다.
+     * */
+    // MBRContains로 SPATIAL INDEX를 타는 사각 범위를 먼저 걸러낸 뒤 정확한 거리로 필터링
+    @Query(value = "SELECT * FROM meeting WHERE is_deleted = false AND end_time IS NULL AND MBRContains(:envelope, location_point) AND ST_Distance_Sphere(location_point, :point) <= 1500 ORDER BY ST_Distance_Sphere(location_point, :point) ASC",
             nativeQuery = true)
-    Page<Meeting> findMeetingByDistance(@Param("point")Point point, Pageable pageable);
+    Slice<Meeting> findMeetingByDistance(@Param("point")Point point, @Param("envelope") Polygon envelope, Pageable pageable);
 
-    @Query(value = "SELECT * FROM meeting WHERE end_time IS NULL ORDER BY ST_Distance_Sphere(location_point, :point) ASC",
-            countQuery = "SELECT count(*) FROM meeting WHERE end_time IS NULL",
+    @Query(value = "SELECT count(*) FROM meeting WHERE is_deleted = false AND end_time IS NULL AND MBRContains(:envelope, location_point) AND ST_Distance_Sphere(location_point, :point) <= 1500",
             nativeQuery = true)
-    Page<Meeting> findAllMeetingByDistance(@Param("point")Point point, Pageable pageable);
+    long countMeetingByDistance(@Param("point")Point point, @Param("envelope") Polygon envelope);
 
-    @Query(value = "SELECT * FROM meeting WHERE Category_id = :category AND end_time IS NULL AND ST_Distance_Sphere(location_point, :point) <= 1500 ORDER BY ST_Distance_Sphere(location_point, :point) ASC",
-            countQuery = "SELECT count(*) FROM meeting WHERE Category_id = :category AND end_time IS NULL",
+    @Query(value = "SELECT * FROM meeting WHERE is_deleted = false AND end_time IS NULL ORDER BY ST_Distance_Sphere(location_point, :point) ASC",
             nativeQuery = true)
-    Page<Meeting> findByLocationNearAndCategory(@Param("point")Point point, Long category, Pageable pageable);
+    Slice<Meeting> findAllMeetingByDistance(@Param("point")Point point, Pageable pageable);
 
-    @Query(value = "SELECT * FROM meeting WHERE end_time IS NULL AND appointment_time >= NOW() AND ST_Distance_Sphere(location_point, :point) <= 1500 ORDER BY ABS(TIMESTAMPDIFF(SECOND, appointment_time, NOW())) ASC ",
-            countQuery = "SELECT count(*) FROM meeting WHERE end_time IS NULL",
+    long countByEndTimeIsNull();
+
+    @Query(value = "SELECT * FROM meeting WHERE is_deleted = false AND Category_id = :category AND end_time IS NULL AND MBRContains(:envelope, location_point) AND ST_Distance_Sphere(location_point, :point) <= 1500 ORDER BY ST_Distance_Sphere(location_point, :point) ASC",
+            nativeQuery = true)
+    Slice<Meeting> findByLocationNearAndCategory(@Param("point")Point point, @Param("envelope") Polygon envelope, Long category, Pageable pageable);
+
+    @Query(value = "SELECT count(*) FROM meeting WHERE is_deleted = false AND Category_id = :category AND end_time IS NULL AND MBRContains(:envelope, location_point) AND ST_Distance_Sphere(location_point, :point) <= 1500",
+            nativeQuery = true)
+    long countByLocationNearAndCategory(@Param("point")Point point, @Param("envelope") Polygon envelope, Long category);
+
+    @Query(value = "SELECT * FROM meeting WHERE is_deleted = false AND end_time IS NULL AND appointment_time >= NOW() AND MBRContains(:envelope, location_point) AND ST_Distance_Sphere(location_point, :point) <= 1500 ORDER BY ABS(TIMESTAMPDIFF(SECOND, appointment_time, NOW())) ASC ",
+            nativeQuery = true)
+    Slice<Meeting> findPageByClosest(@Param("point")Point point, @Param("envelope") Polygon envelope, Pageable pageable);
+
+    @Query(value = "SELECT count(*) FROM meeting WHERE is_deleted = false AND end_time IS NULL AND appointment_time >= NOW() AND MBRContains(:envelope, location_point) AND ST_Distance_Sphere(location_point, :point) <= 1500",
+            nativeQuery = true)
+    long countPageByClosest(@Param("point")Point point, @Param("envelope") Polygon envelope);
+
+    @Query(value = "SELECT * FROM meeting WHERE is_deleted = false AND end_time IS NULL AND title LIKE %:keyword% ORDER BY ST_Distance_Sphere(location_point, :point) ASC",
+            nativeQuery = true)
+    Slice<Meeting> findPageByKeyword(String keyword, @Param("point")Point point, Pageable pageable);
+
+    @Query(value = "SELECT count(*) FROM meeting WHERE is_deleted = false AND end_time IS NULL AND title LIKE %:keyword%",
+            nativeQuery = true)
+    long countPageByKeyword(String keyword);
+
+    /*
+     * FULLTEXT(ngram) 인덱스 기반 키워드 검색 (title, content)
+     * 정확도 점수를 거리(km)로 나눠 가까우면서 관련도 높은 미팅이 먼저 오도록 정렬
+     * */
+    @Query(value = "SELECT * FROM meeting WHERE is_deleted = false AND end_time IS NULL AND MATCH(title, content) AGAINST(:keyword IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(title, content) AGAINST(:keyword IN BOOLEAN MODE) / (1 + ST_Distance_Sphere(location_point, :point) / 1000) DESC, meeting_id DESC",
+            nativeQuery = true)
+    Slice<Meeting> findPageByFullText(@Param("keyword") String keyword, @Param("point") Point point, Pageable pageable);
+
+    @Query(value = "SELECT count(*) FROM meeting WHERE is_deleted = false AND end_time IS NULL AND MATCH(title, content) AGAINST(:keyword IN BOOLEAN MODE)",
             nativeQuery = true)
-    Page<Meeting> findPageByClosest(@Param("point")Point point, Pageable pageable);
+    long countPageByFullText(@Param("keyword") String keyword);
 
-    @Query(value = "SELECT * FROM meeting WHERE end_time IS NULL AND title LIKE %:keyword% ORDER BY ST_Distance_Sphere(location_point, :point) ASC",
-            countQuery = "SELECT count(*) FROM meeting WHERE end_time IS NULL AND title LIKE %:keyword%",
+    /*
+     * 커서 기반 조회 (OFFSET, count 쿼리 없음)
+     * 마지막으로 받은 (정렬 값, meeting_id) 이후의 미팅 id만 limit 개수만큼 조회한다.
+     * 범위가 없는 거리순 조회는 전체 미팅의 거리를 계산하므로 findSliceByDistanceWithin 으로 채우지 못할 때만 사용한다.
+     * */
+    @Query(value = "SELECT d.meetingId, d.distance FROM (" +
+            "SELECT meeting_id AS meetingId, ST_Distance_Sphere(location_point, :point) AS distance FROM meeting " +
+            "WHERE is_deleted = false AND end_time IS NULL) d " +
+            "WHERE d.distance > :lastDistance OR (d.distance = :lastDistance AND d.meetingId > :lastMeetingId) " +
+            "ORDER BY d.distance ASC, d.meetingId ASC LIMIT :limit",
             nativeQuery = true)
-    Page<Meeting> findPageByKeyword(String keyword, @Param("point")Point point, Pageable pageable);
+    List<MeetingDistanceRow> findSliceByDistance(@Param("point") Point point,
+                                                 @Param("lastDistance") double lastDistance,
+                                                 @Param("lastMeetingId") Long lastMeetingId,
+                                                 @Param("limit") int limit);
+
+    // maxDistance 반경 안에서의 거리순 조회 (envelope 로 SPATIAL INDEX 범위만 읽음)
+    @Query(value = "SELECT d.meetingId, d.distance FROM (" +
+            "SELECT meeting_id AS meetingId, ST_Distance_Sphere(location_point, :point) AS distance FROM meeting " +
+            "WHERE is_deleted = false AND end_time IS NULL AND MBRContains(:envelope, location_point)) d " +
+            "WHERE d.distance <= :maxDistance AND (d.distance > :lastDistance OR (d.distance = :lastDistance AND d.meetingId > :lastMeetingId)) " +
+            "ORDER BY d.distance ASC, d.meetingId ASC LIMIT :limit",
+            nativeQuery = true)
+    List<MeetingDistanceRow> findSliceByDistanceWithin(@Param("point") Point point,
+                                                       @Param("envelope") Polygon envelope,
+                                                       @Param("maxDistance") double maxDistance,
+                                                       @Param("lastDistance") double lastDistance,
+                                                       @Param("lastMeetingId") Long lastMeetingId,
+                                                       @Param("limit") int limit);
+
+    @Query(value = "SELECT d.meetingId, d.distance FROM (" +
+            "SELECT meeting_id AS meetingId, ST_Distance_Sphere(location_point, :point) AS distance FROM meeting " +
+            "WHERE is_deleted = false AND end_time IS NULL AND MBRContains(:envelope, location_point)) d " +
+            "WHERE d.distance <= 1500 AND (d.distance > :lastDistance OR (d.distance = :lastDistance AND d.meetingId > :lastMeetingId)) " +
+            "ORDER BY d.distance ASC, d.meetingId ASC LIMIT :limit",
+            nativeQuery = true)
+    List<MeetingDistanceRow> findNearSliceByDistance(@Param("point") Point point,
+                                                     @Param("envelope") Polygon envelope,
+                                                     @Param("lastDistance") double lastDistance,
+                                                     @Param("lastMeetingId") Long lastMeetingId,
+                                                     @Param("limit") int limit);
+
+    @Query(value = "SELECT meeting_id AS meetingId, appointment_time AS appointmentTime FROM meeting " +
+            "WHERE is_deleted = false AND end_time IS NULL AND appointment_time >= NOW() " +
+            "AND MBRContains(:envelope, location_point) AND ST_Distance_Sphere(location_point, :point) <= 1500 " +
+            "AND (appointment_time > :lastAppointmentTime OR (appointment_time = :lastAppointmentTime AND meeting_id > :lastMeetingId)) " +
+            "ORDER BY appointment_time ASC, meeting_id ASC LIMIT :limit",
+            nativeQuery = true)
+    List<MeetingAppointmentRow> findSliceByClosest(@Param("point") Point point,
+                                                   @Param("envelope") Polygon envelope,
+                                                   @Param("lastAppointmentTime") String lastAppointmentTime,
+                                                   @Param("lastMeetingId") Long lastMeetingId,
+                                                   @Param("limit") int limit);
+
+    /*
+     * 빈 자리가 있을 때만 참가자 수 증가 (조건 확인과 증가를 한 쿼리로 처리해 동시에 신청해도 최대 인원을 넘지 않음)
+     * 변경된 row 수를 반환하므로 0이면 자리가 없는 것
+     * */
+    @Modifying
+    @Query(value = "UPDATE meeting SET participants_count = participants_count + 1 " +
+            "WHERE meeting_id = :meetingId AND is_deleted = false AND participants_count < max_participants_count",
+            nativeQuery = true)
+    int increaseParticipantsCountIfAvailable(@Param("meetingId") Long meetingId);
+
+    // 대기열 입장 처리용 (여러 명을 한 번에 등록, 자리가 모자라면 0 반환)
+    @Modifying
+    @Query(value = "UPDATE meeting SET participants_count = participants_count + :count " +
+            "WHERE meeting_id = :meetingId AND is_deleted = false AND participants_count + :count <= max_participants_count",
+            nativeQuery = true)
+    int increaseParticipantsCountIfAvailable(@Param("meetingId") Long meetingId, @Param("count") int count);
+
+    @Modifying
+    @Query(value = "UPDATE meeting SET participants_count = participants_count - 1 " +
+            "WHERE meeting_id = :meetingId AND participants_count > 0",
+            nativeQuery = true)
+    int decreaseParticipantsCount(@Param("meetingId") Long meetingId);
+
+    // 대기열 입장 처리 중 같은 미팅의 다른 참가 처리를 막기 위한 조회 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT me FROM Meeting me WHERE me.id = :meetingId")
+    Optional<Meeting> findByIdForUpdate(@Param("meetingId") Long meetingId);
 
     List<Meeting> getMeetingsByUserId(Long userId);
+
+    // 위치, 키워드 인덱스 재생성 및 정합성 검사용 진행 중인 미팅 전체 조회 (인덱스에 쓰는 컬럼만)
+    @Query("SELECT me.id AS id, me.locationPoint AS locationPoint, me.categoryId AS categoryId, " +
+            "me.participantsCount AS participantsCount, me.maxParticipantsCount AS maxParticipantsCount, " +
+            "me.appointmentTime AS appointmentTime, me.title AS title, me.placeName AS placeName, " +
+            "me.roadAddressName AS roadAddressName FROM Meeting me WHERE me.endTime IS NULL")
+    List<MeetingIndexRow> findAllIndexRowsByEndTimeIsNull();
+
+    // 키워드 인덱스가 준비되기 전 자동완성 조회용
+    List<Meeting> findTop20ByEndTimeIsNullAndTitleContainingOrderByIdDesc(String keyword);
 }
@@ -0,0 +1,38 @@
+package com.techeersalon.moitda.domain.meetings.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techeersalon.moitda.domain.meetings.dto.response.GetAdmissionStatusRes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * 대기열 처리 결과(admissionMemberId{userId} 채널)를 신청자의 STOMP 채널 /sub/room/{userId} 로 전달
+ * 신청자가 /sub/room/{userId} 를 구독 중인 인스턴스만 이 채널을 구독한다. (RedisChannelSubscriptionManager)
+ * */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdmissionResultSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final SimpMessageSendingOperations messageSendingOperations;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            String userId = channel.substring(MeetingAdmissionQueue.RESULT_CHANNEL_PREFIX.length());
+            GetAdmissionStatusRes result = objectMapper.readValue(message.getBody(), GetAdmissionStatusRes.class);
+            messageSendingOperations.convertAndSend("/sub/room/" + userId, result);
+        } catch (IOException e) {
+            log.error("대기열 처리 결과 전달 실패: {}", e.getMessage(), e);
+        }
+    }
+}
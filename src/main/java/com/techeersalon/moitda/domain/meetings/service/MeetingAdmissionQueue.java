@@ -0,0 +1,278 @@
+package com.techeersalon.moitda.domain.meetings.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techeersalon.moitda.domain.meetings.dto.response.AdmissionStatus;
+import com.techeersalon.moitda.domain.meetings.dto.response.GetAdmissionStatusRes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/*
+ * 선착순 미팅 신청 대기열 (Redis)
+ *
+ * meeting:admission:queue:{meetingId}  - 신청 시각을 score로 하는 userId sorted set
+ * meeting:admission:active             - 대기열에 신청이 남아있는 meetingId set (워커가 순회)
+ * meeting:admission:result:{meetingId} - userId -> 처리 결과 hash (폴링 조회용, 일정 시간 후 만료)
+ * meeting:admission:lock:{meetingId}   - 여러 인스턴스 중 한 워커만 같은 미팅을 처리하도록 잡는 lock
+ * meeting:admission:processing:{worker} - 워커가 꺼내 처리 중인 신청 hash ("meetingId:userId" -> 신청 시각)
+ * meeting:admission:workers            - 워커 -> 마지막으로 신청을 꺼내거나 점검한 시각 sorted set
+ *
+ * 신청은 대기열에서 지우는 동시에 워커의 처리 중 목록으로 옮기고(poll), 입장 처리 트랜잭션이 커밋된 뒤 결과 저장과 함께 지운다(complete).
+ * 그 사이 인스턴스가 종료되면 처리 중 목록이 남고, 다른 인스턴스의 점검(recover)이 processing-timeout 동안 응답이 없는 워커의 신청을
+ * 원래 신청 시각 그대로 대기열에 되돌린다. 커밋 직후 종료된 경우에는 다시 처리되어 ALREADY_JOINED 로 끝난다.
+ * 처리 결과는 admissionMemberId{userId} 채널로 발행되어 AdmissionResultSubscriber가 /sub/room/{userId} 로 전달한다.
+ * */
+@Component
+@Slf4j
+public class MeetingAdmissionQueue {
+
+    public static final String RESULT_CHANNEL_PREFIX = "admissionMemberId";
+
+    private static final String QUEUE_KEY_PREFIX = "meeting:admission:queue:";
+    private static final String RESULT_KEY_PREFIX = "meeting:admission:result:";
+    private static final String LOCK_KEY_PREFIX = "meeting:admission:lock:";
+    private static final String PROCESSING_KEY_PREFIX = "meeting:admission:processing:";
+    private static final String ACTIVE_MEETINGS_KEY = "meeting:admission:active";
+    private static final String WORKERS_KEY = "meeting:admission:workers";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(10);
+
+    // 대기열이 비어있을 때만 처리 대상에서 제외 (확인과 제외 사이에 들어온 신청이 누락되지 않도록 한 번에 실행)
+    private static final RedisScript<Long> DEACTIVATE_IF_EMPTY = new DefaultRedisScript<>(
+            "if redis.call('ZCARD', KEYS[1]) == 0 then return redis.call('SREM', KEYS[2], ARGV[1]) end return 0",
+            Long.class);
+    // 자신이 잡은 lock 일 때만 해제 (lock 만료 후 다른 인스턴스가 잡은 lock을 지우지 않도록)
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+    /*
+     * 신청 순서대로 최대 ARGV[1] 명을 대기열에서 처리 중 목록으로 옮기고 워커 시각을 갱신, [userId, 신청 시각, ...] 반환
+     * KEYS[1]: 대기열, KEYS[2]: 처리 중 목록, KEYS[3]: 워커 목록, ARGV[2]: meetingId, ARGV[3]: 워커, ARGV[4]: 현재 시각
+     * */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL = new DefaultRedisScript<>(
+            "local entries = redis.call('ZRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES') " +
+                    "if #entries > 0 then " +
+                    "  redis.call('ZREMRANGEBYRANK', KEYS[1], 0, #entries / 2 - 1) " +
+                    "  for i = 1, #entries, 2 do redis.call('HSET', KEYS[2], ARGV[2] .. ':' .. entries[i], entries[i + 1]) end " +
+                    "end " +
+                    "redis.call('ZADD', KEYS[3], ARGV[4], ARGV[3]) " +
+                    "return entries",
+            List.class);
+    /*
+     * 처리 결과를 저장하고 처리 중 목록에서 지움
+     * KEYS[1]: 결과 hash, KEYS[2]: 처리 중 목록, ARGV[1]: 결과 ttl(초), ARGV[2]: meetingId, ARGV[3..]: userId, 결과 쌍
+     * */
+    private static final RedisScript<Long> COMPLETE = new DefaultRedisScript<>(
+            "for i = 3, #ARGV, 2 do " +
+                    "  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+                    "  redis.call('HDEL', KEYS[2], ARGV[2] .. ':' .. ARGV[i]) " +
+                    "end " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+                    "return 1",
+            Long.class);
+    /*
+     * 처리 중 목록에 남아 있는 신청만 원래 신청 시각으로 대기열에 되돌림 (여러 인스턴스가 같은 신청을 되돌려도 한 번만 반영)
+     * KEYS[1]: 처리 중 목록, KEYS[2]: 대기열, KEYS[3]: 대기열이 남은 미팅 목록, ARGV[1]: meetingId, ARGV[2..]: userId, 신청 시각 쌍
+     * */
+    private static final RedisScript<Long> REQUEUE = new DefaultRedisScript<>(
+            "local restored = 0 " +
+                    "for i = 2, #ARGV, 2 do " +
+                    "  if redis.call('HDEL', KEYS[1], ARGV[1] .. ':' .. ARGV[i]) == 1 then " +
+                    "    redis.call('ZADD', KEYS[2], ARGV[i + 1], ARGV[i]) " +
+                    "    restored = restored + 1 " +
+                    "  end " +
+                    "end " +
+                    "if restored > 0 then redis.call('SADD', KEYS[3], ARGV[1]) end " +
+                    "return restored",
+            Long.class);
+    // 처리 중 목록이 비었을 때만 워커 목록에서 제외 (점검하는 사이 되돌리지 못한 신청이 남으면 다음 점검에서 다시 시도)
+    private static final RedisScript<Long> FORGET_WORKER = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return redis.call('ZREM', KEYS[2], ARGV[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration resultTtl;
+    private final Duration processingTimeout;
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    public MeetingAdmissionQueue(StringRedisTemplate stringRedisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${meeting.admission-queue.result-ttl-seconds:600}") long resultTtlSeconds,
+                                 @Value("${meeting.admission-queue.processing-timeout-ms:60000}") long processingTimeoutMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.resultTtl = Duration.ofSeconds(resultTtlSeconds);
+        this.processingTimeout = Duration.ofMillis(processingTimeoutMs);
+    }
+
+    // 대기열에 추가하고 대기 순번을 반환, 이미 대기 중이면 기존 순서를 유지
+    public long enqueue(Long meetingId, Long userId) {
+        String member = userId.toString();
+        stringRedisTemplate.opsForHash().delete(resultKey(meetingId), member);
+        stringRedisTemplate.opsForZSet().addIfAbsent(queueKey(meetingId), member, System.currentTimeMillis());
+        stringRedisTemplate.opsForSet().add(ACTIVE_MEETINGS_KEY, meetingId.toString());
+
+        Long rank = stringRedisTemplate.opsForZSet().rank(queueKey(meetingId), member);
+        return rank == null ? 0 : rank + 1;
+    }
+
+    public GetAdmissionStatusRes status(Long meetingId, Long userId) {
+        String member = userId.toString();
+        Object result = stringRedisTemplate.opsForHash().get(resultKey(meetingId), member);
+        if (result != null) {
+            return GetAdmissionStatusRes.of(meetingId, AdmissionStatus.valueOf(result.toString()));
+        }
+        Long rank = stringRedisTemplate.opsForZSet().rank(queueKey(meetingId), member);
+        if (rank != null) {
+            return GetAdmissionStatusRes.waiting(meetingId, rank + 1);
+        }
+        return GetAdmissionStatusRes.of(meetingId, AdmissionStatus.NOT_QUEUED);
+    }
+
+    public Set<Long> activeMeetingIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(ACTIVE_MEETINGS_KEY);
+        if (members == null) {
+            return Collections.emptySet();
+        }
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    public boolean tryLock(Long meetingId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey(meetingId), lockOwner, LOCK_TTL));
+    }
+
+    public void unlock(Long meetingId) {
+        stringRedisTemplate.execute(UNLOCK, List.of(lockKey(meetingId)), lockOwner);
+    }
+
+    // 신청 순서대로 최대 count 명을 꺼내 이 워커의 처리 중 목록으로 옮김
+    @SuppressWarnings("unchecked")
+    public List<TypedTuple<String>> poll(Long meetingId, int count) {
+        List<String> entries = stringRedisTemplate.execute(POLL,
+                List.of(queueKey(meetingId), processingKey(lockOwner), WORKERS_KEY),
+                String.valueOf(count), meetingId.toString(), lockOwner, String.valueOf(System.currentTimeMillis()));
+        if (entries == null || entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<TypedTuple<String>> polled = new ArrayList<>(entries.size() / 2);
+        for (int i = 0; i < entries.size(); i += 2) {
+            polled.add(TypedTuple.of(entries.get(i), Double.valueOf(entries.get(i + 1))));
+        }
+        return polled;
+    }
+
+    // 처리에 실패한 신청을 처리 중 목록에서 원래 신청 시각 그대로 되돌림
+    public void requeue(Long meetingId, Collection<TypedTuple<String>> entries) {
+        List<String> args = new ArrayList<>(entries.size() * 2 + 1);
+        args.add(meetingId.toString());
+        for (TypedTuple<String> entry : entries) {
+            args.add(entry.getValue());
+            args.add(String.valueOf(entry.getScore().longValue()));
+        }
+        stringRedisTemplate.execute(REQUEUE,
+                List.of(processingKey(lockOwner), queueKey(meetingId), ACTIVE_MEETINGS_KEY), args.toArray());
+    }
+
+    /*
+     * processing-timeout 동안 신청을 꺼내거나 점검하지 않은 워커와 이 워커의 처리 중 목록을 대기열에 되돌림
+     * 이 워커의 목록은 입장 처리 중이 아닐 때만 호출해야 한다. (MeetingAdmissionWorker 에서 입장 처리와 번갈아 호출)
+     * */
+    public int recover() {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.opsForZSet().add(WORKERS_KEY, lockOwner, now);
+
+        Set<String> workers = new LinkedHashSet<>();
+        workers.add(lockOwner);
+        Set<String> staleWorkers = stringRedisTemplate.opsForZSet()
+                .rangeByScore(WORKERS_KEY, 0, now - processingTimeout.toMillis());
+        if (staleWorkers != null) {
+            workers.addAll(staleWorkers);
+        }
+
+        int restored = 0;
+        for (String worker : workers) {
+            restored += recoverWorker(worker);
+            if (!worker.equals(lockOwner)) {
+                stringRedisTemplate.execute(FORGET_WORKER, List.of(processingKey(worker), WORKERS_KEY), worker);
+            }
+        }
+        return restored;
+    }
+
+    // 워커의 처리 중 목록을 미팅별로 나눠 대기열에 되돌림
+    private int recoverWorker(String worker) {
+        Map<Object, Object> processing = stringRedisTemplate.opsForHash().entries(processingKey(worker));
+        Map<String, List<String>> argsByMeeting = new HashMap<>();
+        processing.forEach((field, score) -> {
+            String[] ids = field.toString().split(":", 2);
+            List<String> args = argsByMeeting.computeIfAbsent(ids[0], meetingId -> new ArrayList<>(List.of(meetingId)));
+            args.add(ids[1]);
+            args.add(score.toString());
+        });
+
+        int restored = 0;
+        for (Map.Entry<String, List<String>> entry : argsByMeeting.entrySet()) {
+            Long count = stringRedisTemplate.execute(REQUEUE,
+                    List.of(processingKey(worker), QUEUE_KEY_PREFIX + entry.getKey(), ACTIVE_MEETINGS_KEY),
+                    entry.getValue().toArray());
+            restored += count == null ? 0 : count.intValue();
+        }
+        if (restored > 0) {
+            log.warn("처리 중이던 대기열 신청 {}건을 되돌림: worker = {}", restored, worker);
+        }
+        return restored;
+    }
+
+    public void deactivateIfEmpty(Long meetingId) {
+        stringRedisTemplate.execute(DEACTIVATE_IF_EMPTY, List.of(queueKey(meetingId), ACTIVE_MEETINGS_KEY), meetingId.toString());
+    }
+
+    // 처리 결과를 저장하면서 처리 중 목록에서 지우고(커밋 이후 호출) 각 신청자에게 발행
+    public void complete(Long meetingId, Map<Long, AdmissionStatus> results) {
+        List<String> args = new ArrayList<>(results.size() * 2 + 2);
+        args.add(String.valueOf(resultTtl.getSeconds()));
+        args.add(meetingId.toString());
+        results.forEach((userId, status) -> {
+            args.add(userId.toString());
+            args.add(status.name());
+        });
+        stringRedisTemplate.execute(COMPLETE, List.of(resultKey(meetingId), processingKey(lockOwner)), args.toArray());
+
+        results.forEach((userId, status) -> {
+            try {
+                String message = objectMapper.writeValueAsString(GetAdmissionStatusRes.of(meetingId, status));
+                stringRedisTemplate.convertAndSend(RESULT_CHANNEL_PREFIX + userId, message);
+            } catch (JsonProcessingException e) {
+                log.warn("대기열 처리 결과 발행 실패: meetingId = {}, userId = {}, {}", meetingId, userId, e.getMessage());
+            }
+        });
+    }
+
+    private String queueKey(Long meetingId) {
+        return QUEUE_KEY_PREFIX + meetingId;
+    }
+
+    private String resultKey(Long meetingId) {
+        return RESULT_KEY_PREFIX + meetingId;
+    }
+
+    private String processingKey(String worker) {
+        return PROCESSING_KEY_PREFIX + worker;
+    }
+
+    private String lockKey(Long meetingId) {
+        return LOCK_KEY_PREFIX + meetingId;
+    }
+}
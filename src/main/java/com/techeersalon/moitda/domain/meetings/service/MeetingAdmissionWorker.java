@@ -0,0 +1,96 @@
+package com.techeersalon.moitda.domain.meetings.service;
+
+import com.techeersalon.moitda.domain.meetings.dto.response.AdmissionStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * 선착순 미팅 대기열 입장 처리
+ * 대기열이 있는 미팅마다 신청 순서대로 batch-size 명씩 꺼내 한 트랜잭션으로 참가자 등록한다.
+ * 신청이 몰려도 미팅 row lock은 신청마다가 아니라 batch 마다 한 번만 잡는다.
+ * 꺼낸 신청은 커밋 이후 결과를 저장할 때까지 처리 중 목록에 남고, 종료된 워커의 목록은 recover 에서 대기열로 되돌린다.
+ * admit 과 recover 는 번갈아 실행해 입장 처리 중인 이 워커의 신청을 되돌리지 않는다.
+ * */
+@Component
+@Slf4j
+public class MeetingAdmissionWorker {
+
+    private final MeetingAdmissionQueue meetingAdmissionQueue;
+    private final MeetingService meetingService;
+    private final int batchSize;
+
+    public MeetingAdmissionWorker(MeetingAdmissionQueue meetingAdmissionQueue,
+                                  MeetingService meetingService,
+                                  @Value("${meeting.admission-queue.batch-size:50}") int batchSize) {
+        this.meetingAdmissionQueue = meetingAdmissionQueue;
+        this.meetingService = meetingService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${meeting.admission-queue.interval-ms:100}")
+    public synchronized void admit() {
+        Set<Long> meetingIds;
+        try {
+            meetingIds = meetingAdmissionQueue.activeMeetingIds();
+        } catch (DataAccessException e) {
+            log.warn("대기열 미팅 목록 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (Long meetingId : meetingIds) {
+            // 다른 인스턴스가 처리 중인 미팅은 건너뜀
+            if (!meetingAdmissionQueue.tryLock(meetingId)) {
+                continue;
+            }
+            try {
+                admitBatch(meetingId);
+            } catch (RuntimeException e) {
+                log.error("대기열 입장 처리 실패: meetingId = {}", meetingId, e);
+            } finally {
+                meetingAdmissionQueue.unlock(meetingId);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${meeting.admission-queue.recovery-interval-ms:10000}")
+    public synchronized void recover() {
+        try {
+            meetingAdmissionQueue.recover();
+        } catch (DataAccessException e) {
+            // 처리 중 목록은 그대로 남으므로 다음 주기에 다시 시도
+            log.warn("처리 중인 대기열 신청 점검 실패: {}", e.getMessage());
+        }
+    }
+
+    private void admitBatch(Long meetingId) {
+        List<TypedTuple<String>> entries = meetingAdmissionQueue.poll(meetingId, batchSize);
+        if (entries.isEmpty()) {
+            meetingAdmissionQueue.deactivateIfEmpty(meetingId);
+            return;
+        }
+
+        List<Long> userIds = entries.stream()
+                .map(entry -> Long.valueOf(entry.getValue()))
+                .collect(Collectors.toList());
+
+        Map<Long, AdmissionStatus> results;
+        try {
+            results = meetingService.admitQueuedParticipants(meetingId, userIds);
+        } catch (RuntimeException e) {
+            // DB 반영에 실패하면 같은 순서로 되돌리고 다음 주기에 다시 처리 (되돌리지 못하면 recover 에서 되돌림)
+            meetingAdmissionQueue.requeue(meetingId, entries);
+            throw e;
+        }
+        // 커밋된 뒤에만 처리 중 목록에서 지움
+        meetingAdmissionQueue.complete(meetingId, results);
+    }
+}
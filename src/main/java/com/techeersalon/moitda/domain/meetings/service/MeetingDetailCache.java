@@ -0,0 +1,138 @@
+package com.techeersalon.moitda.domain.meetings.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techeersalon.moitda.domain.meetings.dto.response.GetMeetingDetailRes;
+import com.techeersalon.moitda.global.common.AfterCommitExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 미팅 상세 조회 응답(GetMeetingDetailRes) Redis 캐시
+ * 조회한 유저에 따라 달라지는 값(participantValid, isOwner)은 저장하지 않고 요청마다 계산한다.
+ *
+ * meeting:detail:{meetingId}         - 상세 조회 응답 json
+ * meeting:detail:version:{meetingId} - 삭제(evict)할 때마다 증가하는 버전
+ *
+ * DB 조회 전에 버전을 받아 두고, 저장할 때 버전이 그대로일 때만 저장한다.
+ * 조회와 저장 사이에 다른 요청의 커밋 이후 삭제가 끼어들면 이전 값을 ttl 동안 캐시하지 않도록 하기 위함이다.
+ * Redis 장애 시에는 캐시 없이 DB에서 조회하도록 예외를 삼킨다.
+ * */
+@Component
+@Slf4j
+public class MeetingDetailCache {
+
+    private static final String KEY_PREFIX = "meeting:detail:";
+    private static final String VERSION_KEY_PREFIX = "meeting:detail:version:";
+    // 조회 중 버전 key 가 만료되어 0 으로 돌아가지 않도록 캐시 ttl 보다 충분히 길게 유지
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    // 버전이 ARGV[1] 그대로일 때만 저장 (버전 key 가 없으면 '0')
+    private static final RedisScript<Long> PUT_IF_VERSION = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "return 1",
+            Long.class);
+    // 버전을 올리고 캐시 삭제, KEYS 는 (상세 key, 버전 key) 쌍
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+                    "  redis.call('DEL', KEYS[i]) " +
+                    "  redis.call('INCR', KEYS[i + 1]) " +
+                    "  redis.call('PEXPIRE', KEYS[i + 1], ARGV[1]) " +
+                    "end " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public MeetingDetailCache(StringRedisTemplate stringRedisTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${meeting.detail-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public Optional<GetMeetingDetailRes> get(Long meetingId) {
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key(meetingId));
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached, GetMeetingDetailRes.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("미팅 상세 캐시 조회 실패: meetingId = {}, {}", meetingId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // DB 조회 전에 받아 put 에 넘기는 버전, Redis 장애 시 null (저장하지 않음)
+    public String version(Long meetingId) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(versionKey(meetingId));
+            return version == null ? "0" : version;
+        } catch (DataAccessException e) {
+            log.warn("미팅 상세 캐시 버전 조회 실패: meetingId = {}, {}", meetingId, e.getMessage());
+            return null;
+        }
+    }
+
+    // version 이후 삭제된 적이 없을 때만 저장
+    public void put(Long meetingId, GetMeetingDetailRes response, String version) {
+        if (version == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(PUT_IF_VERSION, List.of(key(meetingId), versionKey(meetingId)),
+                    version, objectMapper.writeValueAsString(response), String.valueOf(ttl.toMillis()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("미팅 상세 캐시 저장 실패: meetingId = {}, {}", meetingId, e.getMessage());
+        }
+    }
+
+    // 트랜잭션 커밋 이후 삭제 (커밋 전에 지우면 다른 요청이 이전 값을 다시 캐시할 수 있음)
+    public void evict(Long meetingId) {
+        AfterCommitExecutor.execute(() -> delete(List.of(meetingId)));
+    }
+
+    public void evictAll(Collection<Long> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return;
+        }
+        AfterCommitExecutor.execute(() -> delete(meetingIds));
+    }
+
+    private void delete(Collection<Long> meetingIds) {
+        List<String> keys = new ArrayList<>(meetingIds.size() * 2);
+        for (Long meetingId : meetingIds) {
+            keys.add(key(meetingId));
+            keys.add(versionKey(meetingId));
+        }
+        try {
+            stringRedisTemplate.execute(EVICT, keys, String.valueOf(VERSION_TTL.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("미팅 상세 캐시 삭제 실패: {}, {}", meetingIds, e.getMessage());
+        }
+    }
+
+    private String key(Long meetingId) {
+        return KEY_PREFIX + meetingId;
+    }
+
+    private String versionKey(Long meetingId) {
+        return VERSION_KEY_PREFIX + meetingId;
+    }
+}
@@ -9,6 +9,7 @@ import com.amazonaws.util.IOUtils;
 import com.techeersalon.moitda.domain.meetings.dto.mapper.MeetingParticipantListMapper;
 import com.techeersalon.moitda.domain.meetings.dto.mapper.MeetingParticipantMapper;
 import com.techeersalon.moitda.domain.meetings.dto.mapper.PointMapper;
+import com.techeersalon.moitda.domain.meetings.dto.mapper.SearchCursor;
 import com.techeersalon.moitda.domain.meetings.dto.request.*;
 import com.techeersalon.moitda.domain.meetings.dto.response.*;
 import com.techeersalon.moitda.domain.meetings.entity.Meeting;
@@ -18,12 +19,18 @@ import com.techeersalon.moitda.domain.meetings.exception.meeting.MeetingIsFullEx
 import com.techeersalon.moitda.domain.meetings.exception.meeting.MeetingNotFoundException;
 import com.techeersalon.moitda.domain.meetings.exception.meeting.MeetingOwnerLeavingException;
 import com.techeersalon.moitda.domain.meetings.exception.meeting.MeetingPageNotFoundException;
+import com.techeersalon.moitda.domain.meetings.exception.participant.AdmissionQueueNotSupportedException;
 import com.techeersalon.moitda.domain.meetings.exception.participant.AlreadyParticipatingOrAppliedException;
 import com.techeersalon.moitda.domain.meetings.exception.participant.MeetingParticipantNotFoundException;
 import com.techeersalon.moitda.domain.meetings.exception.participant.NotAuthorizedToAppproveException;
 import com.techeersalon.moitda.domain.meetings.exception.review.AlreadyReviewedException;
 import com.techeersalon.moitda.domain.meetings.exception.review.InvalidRatingScoreException;
 import com.techeersalon.moitda.domain.meetings.exception.review.MeetingNotEndedException;
+import com.techeersalon.moitda.domain.meetings.index.MeetingKeywordIndex;
+import com.techeersalon.moitda.domain.meetings.index.MeetingLocation;
+import com.techeersalon.moitda.domain.meetings.index.MeetingLocationIndex;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingAppointmentRow;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingDistanceRow;
 import com.techeersalon.moitda.domain.meetings.repository.MeetingImageRepository;
 import com.techeersalon.moitda.domain.meetings.repository.MeetingParticipantRepository;
 import com.techeersalon.moitda.domain.meetings.repository.MeetingRepository;
@@ -31,15 +38,22 @@ import com.techeersalon.moitda.domain.user.entity.User;
 import com.techeersalon.moitda.domain.user.exception.UserNotFoundException;
 import com.techeersalon.moitda.domain.user.repository.UserRepository;
 import com.techeersalon.moitda.domain.user.service.UserService;
+import com.techeersalon.moitda.global.common.AfterCommitExecutor;
 import com.techeersalon.moitda.global.s3.exception.S3Exception;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,9 +63,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 
@@ -67,6 +81,25 @@ public class MeetingService {
     private final UserRepository userRepository;
     private final MeetingImageRepository meetingImageRepository;
     private final AmazonS3 amazonS3;
+    private final MeetingLocationIndex meetingLocationIndex;
+    private final MeetingKeywordIndex meetingKeywordIndex;
+    private final SearchCountCache searchCountCache;
+    private final MeetingDetailCache meetingDetailCache;
+    private final MeetingAdmissionQueue meetingAdmissionQueue;
+
+    // 가까운 모임 검색 반경 (MeetingRepository 쿼리의 1500과 동일)
+    private static final double NEARBY_RADIUS_METERS = 1500;
+    // MySQL ST_Distance_Sphere 기본 지구 반지름
+    private static final double EARTH_RADIUS_METERS = 6370986;
+    private static final double ENVELOPE_MARGIN = 1.01;
+    // 거리순 전체 조회에서 반경을 넓히는 배수, 반경이 지구 반 바퀴 이상이면 범위 없이 조회
+    private static final double SCROLL_RADIUS_GROWTH = 4;
+    private static final double MAX_SCROLL_RADIUS_METERS = Math.PI * EARTH_RADIUS_METERS;
+    // 커서 기반 조회 한 번에 가져올 수 있는 최대 미팅 수
+    private static final int MAX_SCROLL_SIZE = 100;
+    // FULLTEXT ngram 파서의 ngram_token_size 기본값
+    private static final int FULLTEXT_MIN_KEYWORD_LENGTH = 2;
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -87,6 +120,8 @@ public class MeetingService {
         MeetingParticipant participant = MeetingParticipantMapper.toEntity(meeting);
         participant.notNeedToApprove();
         meetingParticipantRepository.save(participant);
+        this.updateLocationIndex(meeting);
+        this.updateKeywordIndex(meeting);
 
         if (images != null && !images.isEmpty()) {
             for (MultipartFile image : images) {
@@ -130,48 +165,70 @@ public class MeetingService {
     /*
      * 미팅 상세 조회 메소드
      * 미팅 데이터 값 중 필요한 내용과 미팅 참가자 리스트 reponse에 담음
+     * 유저와 무관한 내용은 캐시에서 가져오고, 방장 여부와 참가 여부만 요청마다 계산
+     * 캐시 버전은 이 트랜잭션의 첫 DB 조회 전에 받아야 조회 결과가 버전 이후의 커밋을 반영한다. (REPEATABLE READ 스냅샷)
      * */
     public GetMeetingDetailRes findMeetingById(Long meetingId) {
-        Meeting meeting = this.getMeetingById(meetingId);
-
-        // 생성자 유저 정보.
-        User user = userRepository.findById(meeting.getUserId())
-                .orElseThrow(UserNotFoundException::new);
+        GetMeetingDetailRes response = meetingDetailCache.get(meetingId)
+                .orElseGet(() -> {
+                    String version = meetingDetailCache.version(meetingId);
+                    GetMeetingDetailRes loaded = this.loadMeetingDetail(meetingId);
+                    meetingDetailCache.put(meetingId, loaded, version);
+                    return loaded;
+                });
+
+        Long currentUserId = userService.getLoginUserId();
+        response.applyViewer(currentUserId);
+        return response;
+    }
 
-        User currentUser = userService.getLoginUser();
+    private GetMeetingDetailRes loadMeetingDetail(Long meetingId) {
+        Meeting meeting = this.getMeetingById(meetingId);
 
         List<MeetingImage> imageList = meetingImageRepository.findByMeetingId(meetingId);
 
-        List<MeetingParticipant> participants = meetingParticipantRepository.findByMeetingIdAndIsWaiting(meetingId, Boolean.FALSE);
-        List<MeetingParticipant> waitingList = meetingParticipantRepository.findByMeetingIdAndIsWaiting(meetingId, Boolean.TRUE);
-
-        // user.getId()가 participants 또는 waitingList에 있는 userId와 일치하는지 확인
-        boolean participantValid = participants.stream()
-                .anyMatch(participant -> participant.getUserId().equals(currentUser.getId())) ||
-                waitingList.stream()
-                        .anyMatch(participant -> participant.getUserId().equals(currentUser.getId()));
+        // 참가자, 대기자를 한 번에 조회한 뒤 isWaiting 값으로 나눔
+        Map<Boolean, List<MeetingParticipant>> participantsByWaiting = meetingParticipantRepository.findAllByMeetingId(meetingId).stream()
+                .collect(Collectors.partitioningBy(MeetingParticipant::getIsWaiting));
+        List<MeetingParticipant> participants = participantsByWaiting.get(Boolean.FALSE);
+        List<MeetingParticipant> waitingList = participantsByWaiting.get(Boolean.TRUE);
 
         if (participants.isEmpty() && waitingList.isEmpty()) {
             throw new MeetingNotFoundException();
         }
 
+        // 생성자, 참가자, 대기자 유저 정보를 findAllById 한 번으로 조회
+        Set<Long> userIds = new HashSet<>();
+        userIds.add(meeting.getUserId());
+        participants.forEach(participant -> userIds.add(participant.getUserId()));
+        waitingList.forEach(participant -> userIds.add(participant.getUserId()));
+        Map<Long, User> users = this.getUsersByIds(userIds);
+
+        // 생성자 유저 정보.
+        User user = this.getUserFromMap(users, meeting.getUserId());
+
         List<MeetingParticipantListMapper> participantDtoList = participants.stream()
-                .map(participant -> {
-                    User participantUser = userRepository.findById(participant.getUserId())
-                            .orElseThrow(UserNotFoundException::new);
-                    return MeetingParticipantListMapper.from(participant, participantUser);
-                })
+                .map(participant -> MeetingParticipantListMapper.from(participant, this.getUserFromMap(users, participant.getUserId())))
                 .collect(Collectors.toList());
 
         List<MeetingParticipantListMapper> waitingDtoList = waitingList.stream()
-                .map(participant -> {
-                    User participantUser = userRepository.findById(participant.getUserId())
-                            .orElseThrow(UserNotFoundException::new);
-                    return MeetingParticipantListMapper.from(participant, participantUser);
-                })
+                .map(participant -> MeetingParticipantListMapper.from(participant, this.getUserFromMap(users, participant.getUserId())))
                 .collect(Collectors.toList());
 
-        return GetMeetingDetailRes.of(meeting, user, participantDtoList, waitingDtoList, imageList, participantValid);
+        return GetMeetingDetailRes.of(meeting, user, participantDtoList, waitingDtoList, imageList);
+    }
+
+    private Map<Long, User> getUsersByIds(Collection<Long> userIds) {
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private User getUserFromMap(Map<Long, User> users, Long userId) {
+        User user = users.get(userId);
+        if (user == null) {
+            throw new UserNotFoundException();
+        }
+        return user;
     }
 
 //    private MeetingParticipantMapper mapToDto(MeetingParticipant meetingParticipant) {
@@ -184,6 +241,7 @@ public class MeetingService {
     /*
      * 참가자 신청 메소드
      * 미팅에 선착순인 경우와 승인이 필요한 경우
+     * 중복 신청은 meeting_participant 유니크 인덱스로, 최대 인원 초과는 참가자 수 조건부 UPDATE로 막는다.
      * */
     public CreateParticipantRes addParticipantOfMeeting(Long meetingId) {
         User loginUser = userService.getLoginUser();
@@ -207,10 +265,15 @@ public class MeetingService {
         // 미팅이 선착순일 경우 바로 미팅 참가자로 변경
         if (!meeting.getApprovalRequired()) {
             entity.notNeedToApprove();
-            meeting.increaseParticipantsCnt();
         }
 
-        MeetingParticipant participant = meetingParticipantRepository.save(entity);
+        MeetingParticipant participant = this.saveParticipant(entity);
+
+        // 참가자 저장 후 자리 확보, 자리가 없으면 예외로 트랜잭션이 롤백되어 참가자 저장도 취소됨
+        if (!meeting.getApprovalRequired()) {
+            this.increaseParticipantsCount(meeting);
+        }
+        meetingDetailCache.evict(meetingId);
 
         return CreateParticipantRes.from(participant.getId());
     }
@@ -222,16 +285,118 @@ public class MeetingService {
         if (participant.getMeetingId().longValue() != dto.getMeetingId().longValue()) {
             throw new NotAuthorizedToAppproveException();
         }
-        participant.notNeedToApprove();
 
         if (dto.getIsApproval()) { // 승인 할 경우
+            // 이미 승인된 신청을 다시 승인하면 참가자 수가 중복으로 늘어나므로 대기 중일 때만 승인
+            if (meetingParticipantRepository.approveIfWaiting(participant.getId()) == 0) {
+                throw new AlreadyParticipatingOrAppliedException();
+            }
             Meeting meeting = this.getMeetingById(participant.getMeetingId());
-            meeting.increaseParticipantsCnt();
-            meetingParticipantRepository.save(participant);
+            this.increaseParticipantsCount(meeting);
         } else { // 거절 할 경우
             meetingParticipantRepository.delete(participant);
             //participant.delete();
         }
+        meetingDetailCache.evict(participant.getMeetingId());
+    }
+
+    private MeetingParticipant saveParticipant(MeetingParticipant entity) {
+        try {
+            // 유니크 인덱스 위반을 이 자리에서 확인하기 위해 바로 flush
+            return meetingParticipantRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            // existsByMeetingIdAndUserId 확인 이후 같은 유저의 신청이 동시에 들어온 경우
+            throw new AlreadyParticipatingOrAppliedException();
+        }
+    }
+
+    private void increaseParticipantsCount(Meeting meeting) {
+        if (meetingRepository.increaseParticipantsCountIfAvailable(meeting.getId()) == 0) {
+            throw new MeetingIsFullException();
+        }
+        meeting.increaseParticipantsCnt();
+        this.updateLocationIndex(meeting);
+    }
+
+    /*
+     * 선착순 미팅 대기열 신청 메소드
+     * 바로 참가자로 등록하지 않고 대기열에 넣으면 MeetingAdmissionWorker가 신청 순서대로 입장 처리한다.
+     * 결과는 STOMP /sub/room/{userId} 로 전달되고 대기열 상태 조회로도 확인할 수 있다.
+     * */
+    public GetAdmissionStatusRes enqueueParticipantOfMeeting(Long meetingId) {
+        Long loginUserId = userService.getLoginUserId();
+        Meeting meeting = this.getMeetingById(meetingId);
+
+        if (meeting.getApprovalRequired()) {
+            throw new AdmissionQueueNotSupportedException();
+        }
+        if (meetingParticipantRepository.existsByMeetingIdAndUserId(meetingId, loginUserId)) {
+            throw new AlreadyParticipatingOrAppliedException();
+        }
+        // 이미 가득 찬 미팅은 대기열에 넣지 않고 바로 실패 처리
+        if (meeting.getParticipantsCount() >= meeting.getMaxParticipantsCount()) {
+            throw new MeetingIsFullException();
+        }
+
+        long position = meetingAdmissionQueue.enqueue(meetingId, loginUserId);
+        return GetAdmissionStatusRes.waiting(meetingId, position);
+    }
+
+    public GetAdmissionStatusRes getAdmissionStatus(Long meetingId) {
+        Long loginUserId = userService.getLoginUserId();
+        return meetingAdmissionQueue.status(meetingId, loginUserId);
+    }
+
+    /*
+     * 대기열 입장 처리 메소드 (MeetingAdmissionWorker에서 호출)
+     * 미팅 row를 한 번만 잠근 뒤 남은 자리만큼 신청 순서대로 참가자로 등록하고 참가자 수를 한 번에 늘린다.
+     * */
+    public Map<Long, AdmissionStatus> admitQueuedParticipants(Long meetingId, List<Long> userIds) {
+        Map<Long, AdmissionStatus> results = new LinkedHashMap<>();
+
+        Meeting meeting = meetingRepository.findByIdForUpdate(meetingId).orElse(null);
+        if (meeting == null || meeting.getEndTime() != null || meeting.getApprovalRequired()) {
+            userIds.forEach(userId -> results.put(userId, AdmissionStatus.CLOSED));
+            return results;
+        }
+
+        Set<Long> joinedUserIds = meetingParticipantRepository.findAllByMeetingId(meetingId).stream()
+                .map(MeetingParticipant::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, User> userMap = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        int availableSeats = meeting.getMaxParticipantsCount() - meeting.getParticipantsCount();
+        List<MeetingParticipant> admitted = new ArrayList<>();
+        for (Long userId : userIds) {
+            User user = userMap.get(userId);
+            if (user == null) {
+                results.put(userId, AdmissionStatus.CLOSED);
+            } else if (!joinedUserIds.add(userId)) {
+                results.put(userId, AdmissionStatus.ALREADY_JOINED);
+            } else if (admitted.size() >= availableSeats) {
+                results.put(userId, AdmissionStatus.FULL);
+            } else {
+                MeetingParticipant participant = MeetingParticipantMapper.toEntity(meeting, user);
+                participant.notNeedToApprove();
+                admitted.add(participant);
+                results.put(userId, AdmissionStatus.ADMITTED);
+            }
+        }
+
+        if (admitted.isEmpty()) {
+            return results;
+        }
+        meetingParticipantRepository.saveAll(admitted);
+        // 미팅 row를 잠근 상태라 실패하지 않지만, 예외 시 롤백되어 워커가 다시 대기열에 넣음
+        if (meetingRepository.increaseParticipantsCountIfAvailable(meetingId, admitted.size()) == 0) {
+            throw new MeetingIsFullException();
+        }
+        meeting.increaseParticipantsCnt(admitted.size());
+        this.updateLocationIndex(meeting);
+        meetingDetailCache.evict(meetingId);
+
+        return results;
     }
 
     /*
@@ -250,36 +415,138 @@ public class MeetingService {
         return transformMeetingsToResponse(meetings);
     }
 
-    public GetSearchPageRes getMeetingsNearLocation(PointMapper pointMapper, Pageable pageable) {
+    /*
+     * 검색 리스트 조회 메소드
+     * withCount가 false면 전체 개수 조회를 생략 (total_page, total_elements 미포함)
+     * */
+    public GetSearchPageRes getMeetingsNearLocation(PointMapper pointMapper, Pageable pageable, boolean withCount) {
+        // 위치 인덱스가 준비된 경우 DB 대신 인덱스에서 검색 (전체 개수도 인덱스에서 바로 계산됨)
+        if (meetingLocationIndex.isReady()) {
+            Page<Meeting> meetings = findNearbyPageFromIndex(pointMapper, null, pageable);
+            return transformMeetingsToResponse(meetings, withCount ? meetings.getTotalElements() : null);
+        }
         Point point = mappingPoint(pointMapper);
-        Page<Meeting> meetings = meetingRepository.findMeetingByDistance(point, pageable);
-        return transformMeetingsToResponse(meetings);
+        Polygon envelope = mappingEnvelope(point, NEARBY_RADIUS_METERS);
+        Slice<Meeting> meetings = meetingRepository.findMeetingByDistance(point, envelope, pageable);
+        Long totalElements = countSearchResult(meetings, withCount,
+                "near|" + SearchCountCache.geocell(pointMapper.getLatitude(), pointMapper.getLongitude()),
+                () -> meetingRepository.countMeetingByDistance(point, envelope));
+        return transformMeetingsToResponse(meetings, totalElements);
     }
 
-    public GetSearchPageRes getAllMeetings(PointMapper pointMapper, Pageable pageable) {
+    public GetSearchPageRes getAllMeetings(PointMapper pointMapper, Pageable pageable, boolean withCount) {
         Point point = mappingPoint(pointMapper);
-        Page<Meeting> meetings = meetingRepository.findAllMeetingByDistance(point, pageable);
-        return transformMeetingsToResponse(meetings);
+        Slice<Meeting> meetings = meetingRepository.findAllMeetingByDistance(point, pageable);
+        // 전체 진행 중인 미팅 수는 좌표와 무관
+        Long totalElements = countSearchResult(meetings, withCount, "all",
+                meetingRepository::countByEndTimeIsNull);
+        return transformMeetingsToResponse(meetings, totalElements);
     }
 
-    public GetSearchPageRes getMeetingsCategory(PointMapper pointMapper, Long categoryId, Pageable pageable) {
+    public GetSearchPageRes getMeetingsCategory(PointMapper pointMapper, Long categoryId, Pageable pageable, boolean withCount) {
+        if (meetingLocationIndex.isReady()) {
+            Page<Meeting> meetings = findNearbyPageFromIndex(pointMapper, categoryId, pageable);
+            return transformMeetingsToResponse(meetings, withCount ? meetings.getTotalElements() : null);
+        }
         Point point = mappingPoint(pointMapper);
-        Page<Meeting> meetings = meetingRepository.findByLocationNearAndCategory(point, categoryId, pageable);
-        return transformMeetingsToResponse(meetings);
+        Polygon envelope = mappingEnvelope(point, NEARBY_RADIUS_METERS);
+        Slice<Meeting> meetings = meetingRepository.findByLocationNearAndCategory(point, envelope, categoryId, pageable);
+        Long totalElements = countSearchResult(meetings, withCount,
+                "category:" + categoryId + "|" + SearchCountCache.geocell(pointMapper.getLatitude(), pointMapper.getLongitude()),
+                () -> meetingRepository.countByLocationNearAndCategory(point, envelope, categoryId));
+        return transformMeetingsToResponse(meetings, totalElements);
+    }
+
+    /*
+     * 검색 결과 전체 개수 조회
+     * 마지막 페이지면 조회한 결과로 바로 계산하고, 아니면 검색 조건 형태별로 캐시된 count를 사용
+     * */
+    private Long countSearchResult(Slice<Meeting> meetings, boolean withCount, String cacheKey, Supplier<Long> counter) {
+        if (!withCount) {
+            return null;
+        }
+        if (meetings.hasContent() && !meetings.hasNext()) {
+            return meetings.getPageable().getOffset() + meetings.getNumberOfElements();
+        }
+        return searchCountCache.get(cacheKey, counter);
+    }
+
+    /*
+     * 위치 인덱스에서 반경 내 미팅 id를 가까운 순으로 가져온 뒤
+     * 현재 페이지에 해당하는 미팅만 한 번에 조회
+     * */
+    private Page<Meeting> findNearbyPageFromIndex(PointMapper pointMapper, Long categoryId, Pageable pageable) {
+        List<Long> nearbyIds = meetingLocationIndex.findNearby(pointMapper.getLatitude(), pointMapper.getLongitude(), NEARBY_RADIUS_METERS, categoryId);
+
+        int from = (int) Math.min(pageable.getOffset(), nearbyIds.size());
+        int to = Math.min(from + pageable.getPageSize(), nearbyIds.size());
+        List<Long> pageIds = nearbyIds.subList(from, to);
+
+        Map<Long, Meeting> meetings = meetingRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Meeting::getId, Function.identity()));
+        // 인덱스 순서(거리순) 유지, 그 사이 삭제된 미팅은 제외
+        List<Meeting> content = pageIds.stream()
+                .map(meetings::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, nearbyIds.size());
+    }
+
+    /*
+     * 위치 인덱스 갱신 메소드
+     * 롤백된 변경이 인덱스에 남지 않도록 커밋 이후에 반영
+     * */
+    private void updateLocationIndex(Meeting meeting) {
+        if (meeting.getEndTime() != null) {
+            this.removeFromMeetingIndexes(meeting.getId());
+            return;
+        }
+        // 좌표가 없는 미팅(location_point 이관 전 데이터)은 위치 인덱스에 넣지 않음
+        if (meeting.getLocationPoint() == null) {
+            return;
+        }
+        MeetingLocation location = MeetingLocation.from(meeting);
+        AfterCommitExecutor.execute(() -> meetingLocationIndex.upsert(location));
+    }
+
+    // 제목, 장소가 바뀌는 생성, 수정 시에만 키워드 인덱스 갱신
+    private void updateKeywordIndex(Meeting meeting) {
+        if (meeting.getEndTime() != null) {
+            return;
+        }
+        MeetingKeywordIndex.KeywordDocument document = MeetingKeywordIndex.KeywordDocument.from(meeting);
+        AfterCommitExecutor.execute(() -> meetingKeywordIndex.upsert(document));
+    }
+
+    // 종료, 삭제된 미팅은 위치, 키워드 인덱스에서 모두 제거
+    private void removeFromMeetingIndexes(Long meetingId) {
+        AfterCommitExecutor.execute(() -> {
+            meetingLocationIndex.remove(meetingId);
+            meetingKeywordIndex.remove(meetingId);
+        });
     }
 
     private GetSearchPageRes transformMeetingsToResponse(Page<Meeting> meetings) {
+        return transformMeetingsToResponse(meetings, meetings.getTotalElements());
+    }
+
+    private GetSearchPageRes transformMeetingsToResponse(Slice<Meeting> meetings, Long totalElements) {
         if (meetings.isEmpty()) {
             throw new MeetingPageNotFoundException();
         }
+        // 페이지에 포함된 미팅들의 대표 이미지를 한 번에 조회
+        List<Long> meetingIds = meetings.stream()
+                .map(Meeting::getId)
+                .collect(Collectors.toList());
+        Map<Long, MeetingImage> firstImages = meetingImageRepository.findFirstImagesByMeetingIds(meetingIds).stream()
+                .collect(Collectors.toMap(MeetingImage::getMeetingId, Function.identity()));
+
         List<GetLatestMeetingListRes> meetingList = meetings.stream()
-                .map(meeting -> {
-                    List<MeetingImage> images = meetingImageRepository.findByMeetingId(meeting.getId());
-                    return GetLatestMeetingListRes.from(meeting, images);
-                })
+                .map(meeting -> GetLatestMeetingListRes.from(meeting, firstImages.get(meeting.getId())))
                 .collect(Collectors.toList());
 
-        return GetSearchPageRes.from(meetingList, meetings.getTotalPages(), meetings.getNumber(), (int) meetings.getTotalElements(), meetings.getSize());
+        return GetSearchPageRes.of(meetingList, meetings.getNumber(), meetings.getSize(), meetings.hasNext(), totalElements);
     }
 
 
@@ -298,6 +565,8 @@ public class MeetingService {
         //meetingParticipantRepository.save(participant);
         meetingParticipantRepository.deleteAll(participantOptional.stream().toList());
         //meetingRepository.save(meeting);
+        this.removeFromMeetingIndexes(meetingId);
+        meetingDetailCache.evict(meetingId);
     }
 
     private Meeting getMeetingById(Long meetingId) {
@@ -323,17 +592,22 @@ public class MeetingService {
         }
 
         meetingRepository.save(meeting);
+        this.updateLocationIndex(meeting);
+        this.updateKeywordIndex(meeting);
+        meetingDetailCache.evict(meetingId);
     }
 
     public void endMeeting(Long meetingId) {
         Meeting meeting = this.getMeetingById(meetingId);
         meeting.updateEndTime(LocalDateTime.now().toString());
+        this.removeFromMeetingIndexes(meetingId);
+        meetingDetailCache.evict(meetingId);
     }
 
     public Boolean determineMeetingOwner(Long meetingId) {
-        User loginUser = userService.getLoginUser();
+        Long loginUserId = userService.getLoginUserId();
         Meeting meeting = this.getMeetingById(meetingId);
-        if (meeting.getUserId().equals(loginUser.getId())) {
+        if (meeting.getUserId().equals(loginUserId)) {
             return Boolean.TRUE;
         }
         return Boolean.FALSE;
@@ -343,13 +617,13 @@ public class MeetingService {
         Long meetingId = createReviewReq.getMeetingId();
         Optional<Meeting> meetingOptional = meetingRepository.findById(meetingId);
         Meeting meeting = meetingOptional.orElseThrow(MeetingNotFoundException::new);
-        User loginUser = userService.getLoginUser();
+        Long loginUserId = userService.getLoginUserId();
 
         if (meeting.getEndTime() == null) {
             throw new MeetingNotEndedException();
         }
         // userId를 통해 participant table을 조회해서 userId가 같은지
-        MeetingParticipant meetingParticipant = meetingParticipantRepository.findByMeetingIdAndUserId(meetingId, loginUser.getId());
+        MeetingParticipant meetingParticipant = meetingParticipantRepository.findByMeetingIdAndUserId(meetingId, loginUserId);
         if (meetingParticipant.getIsReviewed()) {
             throw new AlreadyReviewedException();
         }
@@ -399,39 +673,210 @@ public class MeetingService {
             throw new MeetingParticipantNotFoundException();
         }
 
+        Map<Long, User> users = this.getUsersByIds(participants.stream()
+                .map(MeetingParticipant::getUserId)
+                .collect(Collectors.toSet()));
+
         return participants.stream()
-                .map(participant -> {
-                    User user = userRepository.findById(participant.getUserId())
-                            .orElseThrow(UserNotFoundException::new);
-                    return GetParticipantListRes.from(user);
-                })
+                .map(participant -> GetParticipantListRes.from(this.getUserFromMap(users, participant.getUserId())))
                 .collect(Collectors.toList());
     }
 
-    public GetSearchPageRes searchMeetingsByKeyword(String keyword, PointMapper pointMapper, Pageable pageable) {
+    /*
+     * 키워드 검색 메소드
+     * like: 제목 LIKE 검색 (거리순), fulltext: 제목, 내용 FULLTEXT 검색 (관련도와 거리를 함께 반영한 순서)
+     * */
+    public GetSearchPageRes searchMeetingsByKeyword(String keyword, PointMapper pointMapper, Pageable pageable, boolean withCount, KeywordSearchMode mode) {
         Point point = mappingPoint(pointMapper);
-        Page<Meeting> meetings = meetingRepository.findPageByKeyword(keyword, point, pageable);
-        return transformMeetingsToResponse(meetings);
+        // ngram 토큰(2글자)보다 짧은 키워드는 FULLTEXT 인덱스로 찾을 수 없으므로 LIKE 검색 사용
+        if (mode == KeywordSearchMode.FULLTEXT && keyword.strip().length() >= FULLTEXT_MIN_KEYWORD_LENGTH) {
+            String phrase = toFullTextPhrase(keyword);
+            Slice<Meeting> meetings = meetingRepository.findPageByFullText(phrase, point, pageable);
+            Long totalElements = countSearchResult(meetings, withCount, "fulltext:" + keyword,
+                    () -> meetingRepository.countPageByFullText(phrase));
+            return transformMeetingsToResponse(meetings, totalElements);
+        }
+
+        Slice<Meeting> meetings = meetingRepository.findPageByKeyword(keyword, point, pageable);
+        // 키워드 검색 개수는 좌표와 무관
+        Long totalElements = countSearchResult(meetings, withCount, "keyword:" + keyword,
+                () -> meetingRepository.countPageByKeyword(keyword));
+        return transformMeetingsToResponse(meetings, totalElements);
     }
 
-    public GetSearchPageRes searchMeetingsByClosestDeadline(PointMapper pointMapper, Pageable pageable) {
+    public GetSearchPageRes searchMeetingsByClosestDeadline(PointMapper pointMapper, Pageable pageable, boolean withCount) {
         Point point = mappingPoint(pointMapper);
-        Page<Meeting> meetings = meetingRepository.findPageByClosest(point, pageable);
-        return transformMeetingsToResponse(meetings);
+        Polygon envelope = mappingEnvelope(point, NEARBY_RADIUS_METERS);
+        Slice<Meeting> meetings = meetingRepository.findPageByClosest(point, envelope, pageable);
+        Long totalElements = countSearchResult(meetings, withCount,
+                "deadline|" + SearchCountCache.geocell(pointMapper.getLatitude(), pointMapper.getLongitude()),
+                () -> meetingRepository.countPageByClosest(point, envelope));
+        return transformMeetingsToResponse(meetings, totalElements);
+    }
+
+    /*
+     * 커서 기반 미팅 리스트 조회 메소드 (무한 스크롤)
+     * size + 1개를 조회해 다음 페이지 존재 여부를 판단하고, 마지막 미팅 위치를 next_cursor로 돌려준다.
+     * */
+    public GetSearchPageRes scrollAllMeetings(PointMapper pointMapper, String cursor, int size) {
+        size = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        Point point = mappingPoint(pointMapper);
+        SearchCursor after = cursor == null ? SearchCursor.first("-1") : SearchCursor.decode(cursor);
+        List<MeetingDistanceRow> rows = findSliceByDistance(point, after, size + 1);
+        return transformDistanceRowsToSlice(rows, size);
+    }
+
+    /*
+     * 거리순 전체 조회를 반경 안에서 먼저 조회
+     * 반경 안에서 limit 개를 채우면 반경 밖의 미팅은 모두 그 뒤 순서이므로 전체 거리순 결과와 같다.
+     * 마지막 거리의 2배(최소 1500m)에서 시작해 모자라면 반경을 넓히고,
+     * 지구 반 바퀴를 넘거나 envelope 가 극점, 경도 ±180도에 걸리면 범위 없이 조회한다.
+     * */
+    private List<MeetingDistanceRow> findSliceByDistance(Point point, SearchCursor after, int limit) {
+        double radius = Math.max(NEARBY_RADIUS_METERS, after.getDistance() * 2);
+        while (radius < MAX_SCROLL_RADIUS_METERS && envelopeFits(point, radius)) {
+            List<MeetingDistanceRow> rows = meetingRepository.findSliceByDistanceWithin(
+                    point, mappingEnvelope(point, radius), radius, after.getDistance(), after.getMeetingId(), limit);
+            if (rows.size() >= limit) {
+                return rows;
+            }
+            radius *= SCROLL_RADIUS_GROWTH;
+        }
+        return meetingRepository.findSliceByDistance(point, after.getDistance(), after.getMeetingId(), limit);
+    }
+
+    public GetSearchPageRes scrollMeetingsNearLocation(PointMapper pointMapper, String cursor, int size) {
+        size = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        Point point = mappingPoint(pointMapper);
+        Polygon envelope = mappingEnvelope(point, NEARBY_RADIUS_METERS);
+        SearchCursor after = cursor == null ? SearchCursor.first("-1") : SearchCursor.decode(cursor);
+        List<MeetingDistanceRow> rows = meetingRepository.findNearSliceByDistance(point, envelope, after.getDistance(), after.getMeetingId(), size + 1);
+        return transformDistanceRowsToSlice(rows, size);
+    }
+
+    public GetSearchPageRes scrollMeetingsByClosestDeadline(PointMapper pointMapper, String cursor, int size) {
+        size = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        Point point = mappingPoint(pointMapper);
+        Polygon envelope = mappingEnvelope(point, NEARBY_RADIUS_METERS);
+        SearchCursor after = cursor == null ? SearchCursor.first("") : SearchCursor.decode(cursor);
+        List<MeetingAppointmentRow> rows = meetingRepository.findSliceByClosest(point, envelope, after.getSortKey(), after.getMeetingId(), size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<MeetingAppointmentRow> sliceRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            MeetingAppointmentRow last = sliceRows.get(sliceRows.size() - 1);
+            nextCursor = SearchCursor.of(last.getAppointmentTime(), last.getMeetingId()).encode();
+        }
+        List<Long> meetingIds = sliceRows.stream()
+                .map(MeetingAppointmentRow::getMeetingId)
+                .collect(Collectors.toList());
+        return transformMeetingIdsToSlice(meetingIds, size, nextCursor);
+    }
+
+    private GetSearchPageRes transformDistanceRowsToSlice(List<MeetingDistanceRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<MeetingDistanceRow> sliceRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            MeetingDistanceRow last = sliceRows.get(sliceRows.size() - 1);
+            nextCursor = SearchCursor.of(last.getDistance(), last.getMeetingId()).encode();
+        }
+        List<Long> meetingIds = sliceRows.stream()
+                .map(MeetingDistanceRow::getMeetingId)
+                .collect(Collectors.toList());
+        return transformMeetingIdsToSlice(meetingIds, size, nextCursor);
+    }
+
+    // 조회한 id 순서대로 미팅과 대표 이미지를 한 번에 조회
+    private GetSearchPageRes transformMeetingIdsToSlice(List<Long> meetingIds, int size, String nextCursor) {
+        Map<Long, Meeting> meetings = meetingRepository.findAllById(meetingIds).stream()
+                .collect(Collectors.toMap(Meeting::getId, Function.identity()));
+        Map<Long, MeetingImage> firstImages = meetingIds.isEmpty() ? Collections.emptyMap() :
+                meetingImageRepository.findFirstImagesByMeetingIds(meetingIds).stream()
+                        .collect(Collectors.toMap(MeetingImage::getMeetingId, Function.identity()));
+
+        List<GetLatestMeetingListRes> meetingList = meetingIds.stream()
+                .map(meetings::get)
+                .filter(Objects::nonNull)
+                .map(meeting -> GetLatestMeetingListRes.from(meeting, firstImages.get(meeting.getId())))
+                .collect(Collectors.toList());
+
+        return GetSearchPageRes.ofSlice(meetingList, size, nextCursor);
+    }
+
+    /*
+     * 검색어 자동완성 메소드
+     * 키워드 역색인에서 제목이 검색어로 시작하는 미팅을 먼저, 제목, 장소명, 주소에 포함된 미팅을 그 다음으로 반환
+     * */
+    public List<GetKeywordSuggestionRes> autocompleteMeetings(String keyword, int size) {
+        size = Math.min(Math.max(size, 1), MAX_AUTOCOMPLETE_SIZE);
+        if (meetingKeywordIndex.isReady()) {
+            return meetingKeywordIndex.autocomplete(keyword, size).stream()
+                    .map(GetKeywordSuggestionRes::from)
+                    .collect(Collectors.toList());
+        }
+        // 인덱스 생성 전에는 DB에서 제목 기준으로만 조회
+        return meetingRepository.findTop20ByEndTimeIsNullAndTitleContainingOrderByIdDesc(keyword.strip()).stream()
+                .limit(size)
+                .map(GetKeywordSuggestionRes::from)
+                .collect(Collectors.toList());
+    }
+
+    // 불리언 모드 연산자가 동작하지 않도록 구문 검색("...")으로 감싸 입력한 순서 그대로 포함된 미팅만 조회
+    private String toFullTextPhrase(String keyword) {
+        return "\"" + keyword.replace("\"", " ").strip() + "\"";
     }
 
     private Point mappingPoint(PointMapper pointMapper) {
-        GeometryFactory geometryFactory = new GeometryFactory();
+        GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), Meeting.LOCATION_SRID);
         Coordinate coord = new Coordinate(pointMapper.getLongitude(), pointMapper.getLatitude());
         Point point = geometryFactory.createPoint(coord);
         return point;
     }
 
+    /*
+     * 반경 검색용 사각 범위 계산 메소드
+     * 중심 좌표에서 반경(m)만큼의 위도, 경도 차이로 MBRContains에 넘길 envelope를 만든다.
+     * 실제 거리 조건은 쿼리의 ST_Distance_Sphere가 그대로 검사하므로 결과는 동일하다.
+     * */
+    static Polygon mappingEnvelope(Point point, double radiusMeters) {
+        // 반올림 오차로 경계의 미팅이 빠지지 않도록 반경에 여유를 둠
+        double angular = radiusMeters * ENVELOPE_MARGIN / EARTH_RADIUS_METERS;
+        double latDelta = Math.toDegrees(angular);
+        double lonDelta = lonDelta(point, angular);
+
+        Envelope envelope = new Envelope(
+                Math.max(point.getX() - lonDelta, -180.0),
+                Math.min(point.getX() + lonDelta, 180.0),
+                Math.max(point.getY() - latDelta, -90.0),
+                Math.min(point.getY() + latDelta, 90.0)
+        );
+        return (Polygon) point.getFactory().toGeometry(envelope);
+    }
+
+    // envelope 가 극점, 경도 ±180도에 걸리지 않는 반경인지 (걸리면 잘린 범위 밖의 미팅이 빠질 수 있음)
+    static boolean envelopeFits(Point point, double radiusMeters) {
+        double angular = radiusMeters * ENVELOPE_MARGIN / EARTH_RADIUS_METERS;
+        double latDelta = Math.toDegrees(angular);
+        if (point.getY() - latDelta <= -90.0 || point.getY() + latDelta >= 90.0) {
+            return false;
+        }
+        double lonDelta = lonDelta(point, angular);
+        return point.getX() - lonDelta >= -180.0 && point.getX() + lonDelta <= 180.0;
+    }
+
+    // 구면 위 원(중심각 angular)의 정확한 경도 폭, 반경이 극점을 포함하면 180도
+    private static double lonDelta(Point point, double angular) {
+        double ratio = Math.sin(Math.min(angular, Math.PI / 2)) / Math.cos(Math.toRadians(point.getY()));
+        return ratio >= 1.0 ? 180.0 : Math.toDegrees(Math.asin(ratio));
+    }
+
     public boolean hasReviewedMeeting(Long meetingId) {
 
-        User loginUser = userService.getLoginUser();
+        Long loginUserId = userService.getLoginUserId();
 
-        MeetingParticipant meetingParticipant = meetingParticipantRepository.findByMeetingIdAndUserId(meetingId, loginUser.getId());
+        MeetingParticipant meetingParticipant = meetingParticipantRepository.findByMeetingIdAndUserId(meetingId, loginUserId);
         return meetingParticipant.getIsReviewed();
     }
 
@@ -454,9 +899,22 @@ public class MeetingService {
             throw new MeetingParticipantNotFoundException();
         }
 
-        meetingParticipantRepository.delete(meetingParticipant);
+        // 조회 이후 승인되었을 수 있으므로 삭제 시점의 대기 여부로 참가자 수 감소 여부를 결정
+        boolean isWaiting = meetingParticipant.getIsWaiting();
+        if (meetingParticipantRepository.deleteIfWaitingStatus(meetingParticipant.getId(), isWaiting) == 0) {
+            isWaiting = !isWaiting;
+            if (meetingParticipantRepository.deleteIfWaitingStatus(meetingParticipant.getId(), isWaiting) == 0) {
+                // 동시에 다른 요청에서 이미 삭제한 경우
+                throw new MeetingParticipantNotFoundException();
+            }
+        }
 
-        // Meeting 업데이트
-        meeting.decreaseParticipantsCnt();
+        // Meeting 업데이트 (대기자는 참가자 수에 포함되지 않음)
+        if (!isWaiting) {
+            meetingRepository.decreaseParticipantsCount(meetingId);
+            meeting.decreaseParticipantsCnt();
+            this.updateLocationIndex(meeting);
+        }
+        meetingDetailCache.evict(meetingId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.techeersalon.moitda.domain.meetings.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/*
+ * 검색 결과 전체 개수(count 쿼리) 캐시
+ * 검색 조건 형태(카테고리, 반올림한 좌표 셀, 키워드)를 키로 짧은 시간 동안 개수를 재사용한다.
+ * 같은 셀 안의 다른 좌표도 같은 값을 쓰므로 전체 개수는 근사값이다.
+ * */
+@Component
+public class SearchCountCache {
+
+    // 좌표를 소수점 둘째 자리까지 반올림 (위도 약 1.1km, 경도 약 0.9km 셀)
+    private static final double GEOCELL_SCALE = 100.0;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final long ttlMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public SearchCountCache(@Value("${meeting.search.count-cache-ttl-ms:30000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    public long get(String key, Supplier<Long> counter) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.count;
+        }
+
+        long count = counter.get();
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(cached -> cached.expiresAt <= now);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(count, now + ttlMillis));
+        return count;
+    }
+
+    public static String geocell(double latitude, double longitude) {
+        return Math.round(latitude * GEOCELL_SCALE) + ":" + Math.round(longitude * GEOCELL_SCALE);
+    }
+
+    private static class Entry {
+        private final long count;
+        private final long expiresAt;
+
+        private Entry(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -6,10 +6,12 @@ import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.util.IOUtils;
+import com.techeersalon.moitda.domain.chat.service.ChatSenderSnapshotUpdater;
 import com.techeersalon.moitda.domain.meetings.entity.Meeting;
 import com.techeersalon.moitda.domain.meetings.entity.MeetingParticipant;
 import com.techeersalon.moitda.domain.meetings.repository.MeetingParticipantRepository;
 import com.techeersalon.moitda.domain.meetings.repository.MeetingRepository;
+import com.techeersalon.moitda.domain.meetings.service.MeetingDetailCache;
 import com.techeersalon.moitda.domain.user.dto.mapper.UserMapper;
 import com.techeersalon.moitda.domain.user.dto.request.SignUpReq;
 import com.techeersalon.moitda.domain.user.dto.request.UpdateUserReq;
@@ -23,13 +25,18 @@ import com.techeersalon.moitda.domain.user.exception.UnAuthorizedAccessException
 import com.techeersalon.moitda.domain.user.exception.UserAlreadyRegisteredException;
 import com.techeersalon.moitda.domain.user.exception.UserNotFoundException;
 import com.techeersalon.moitda.domain.user.repository.UserRepository;
+import com.techeersalon.moitda.global.common.AfterCommitExecutor;
+import com.techeersalon.moitda.global.jwt.AuthUser;
+import com.techeersalon.moitda.global.jwt.AuthUserCache;
 import com.techeersalon.moitda.global.jwt.JwtToken;
 import com.techeersalon.moitda.global.jwt.Service.JwtService;
+import com.techeersalon.moitda.global.jwt.TokenDenylist;
 import com.techeersalon.moitda.global.s3.exception.S3Exception;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -55,6 +62,10 @@ public class UserService {
     private final JwtService jwtService;
     private final MeetingRepository meetingRepository;
     private final MeetingParticipantRepository meetingParticipantRepository;
+    private final MeetingDetailCache meetingDetailCache;
+    private final AuthUserCache authUserCache;
+    private final TokenDenylist tokenDenylist;
+    private final ChatSenderSnapshotUpdater chatSenderSnapshotUpdater;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -70,6 +81,7 @@ public class UserService {
         if (user.getRole().equals(Role.GUEST)) {
             user.signupUser(signUpReq);
             userRepository.save(user);
+            this.evictAuthUser(user);
         } else {
             throw new UserAlreadyRegisteredException();
         }
@@ -79,6 +91,16 @@ public class UserService {
         User user = this.getLoginUser();
         user.onLogout();
         userRepository.save(user);
+        this.evictAuthUser(user);
+        this.denyCurrentAccessToken();
+    }
+
+    // 인증 필터는 DB 조회 없이 토큰만으로 인증하므로 로그아웃한 access token 은 만료 전까지 폐기 목록에 등록
+    private void denyCurrentAccessToken() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            AfterCommitExecutor.execute(() -> tokenDenylist.deny(authUser.getTokenId(), authUser.getTokenExpiration()));
+        }
     }
 
     public UserIdRes findCurrentUserProfile() {
@@ -94,6 +116,19 @@ public class UserService {
         return userMapper.toUserProfileForChat(user);
     }
 
+    // 채팅 메세지 여러 개의 발신자를 한 번에 조회 (userId -> 프로필), 없는 유저가 있으면 예외
+    public Map<Long, UserProfileRes> findUserProfilesForChat(Collection<Long> userIds) {
+        Set<Long> distinctIds = new HashSet<>(userIds);
+        Map<Long, UserProfileRes> profiles = new HashMap<>();
+        for (User user : userRepository.findAllById(distinctIds)) {
+            profiles.put(user.getId(), userMapper.toUserProfileForChat(user));
+        }
+        if (profiles.size() != distinctIds.size()) {
+            throw new UserNotFoundException();
+        }
+        return profiles;
+    }
+
 
     public UserProfileRes findUserProfile(Long userId) {
 
@@ -137,8 +172,17 @@ public class UserService {
             urls[1] = bannerUrl != null ? bannerUrl : user.getBannerImage();
         }
 
+        String previousUsername = user.getUsername();
+        String previousProfileImage = user.getProfileImage();
         user.updateProfile(updateUserReq, urls[0], urls[1]);
         userRepository.save(user);
+        this.evictAuthUser(user);
+
+        // 채팅 메세지에 저장된 발신자 정보는 커밋 후 비동기로 갱신
+        if (!Objects.equals(previousUsername, user.getUsername()) || !Objects.equals(previousProfileImage, user.getProfileImage())) {
+            Long userId = user.getId();
+            AfterCommitExecutor.execute(() -> chatSenderSnapshotUpdater.refresh(userId));
+        }
 
         List<Meeting> meetings = meetingRepository.getMeetingsByUserId(user.getId());
         List<MeetingParticipant> meetingParticipantList = meetingParticipantRepository.getParticipantsByUserId(user.getId());
@@ -152,6 +196,12 @@ public class UserService {
             meetingParticipant.updateUsername(user.getUsername());
             meetingParticipantRepository.save(meetingParticipant);
         });
+
+        // 유저 이름, 프로필 이미지가 들어있는 미팅 상세 캐시 삭제
+        Set<Long> changedMeetingIds = new HashSet<>();
+        meetings.forEach(meeting -> changedMeetingIds.add(meeting.getId()));
+        meetingParticipantList.forEach(meetingParticipant -> changedMeetingIds.add(meetingParticipant.getMeetingId()));
+        meetingDetailCache.evictAll(changedMeetingIds);
     }
 
     void deleteExistingImage(String imageUrl, String basePath, String s3Folder) throws UnsupportedEncodingException {
@@ -189,12 +239,34 @@ public class UserService {
     }
 
     public User getLoginUser() {
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User loginUser = userRepository.findBySocialTypeAndEmail(SocialType.valueOf(userDetails.getPassword()), userDetails.getUsername())
+        User loginUser = userRepository.findById(this.getLoginUserId())
                 .orElseThrow(UserNotFoundException::new);
         return loginUser;
     }
 
+    // 로그인 유저 id만 필요한 경우 DB 조회 없이 인증 필터가 저장한 값을 사용
+    public Long getLoginUserId() {
+        return this.getAuthUser().getUserId();
+    }
+
+    private AuthUser getAuthUser() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof AuthUser authUser) {
+            return authUser;
+        }
+        UserDetails userDetails = (UserDetails) principal;
+        return userRepository.findBySocialTypeAndEmail(SocialType.valueOf(userDetails.getPassword()), userDetails.getUsername())
+                .map(AuthUser::from)
+                .orElseThrow(UserNotFoundException::new);
+    }
+
+    // 커밋 전에 지우면 다른 요청이 변경 전 권한을 다시 캐시할 수 있으므로 커밋 이후 삭제
+    private void evictAuthUser(User user) {
+        SocialType socialType = user.getSocialType();
+        String email = user.getEmail();
+        AfterCommitExecutor.execute(() -> authUserCache.evict(socialType, email));
+    }
+
     public JwtToken reissueToken(UserTokenReq userTokenReq) {
         // Refresh Token 검증
         if (!jwtService.isTokenValid(userTokenReq.getRefreshToken())) {
@@ -214,7 +286,7 @@ public class UserService {
                 throw new UnAuthorizedAccessException();
             }
 
-            String reissueAccessToken = jwtService.createAccessToken(email, socialType);
+            String reissueAccessToken = jwtService.createAccessToken(user);
             String reissueRefreshToken = jwtService.createRefreshToken();
             user.updateRefreshToken(reissueRefreshToken);
 
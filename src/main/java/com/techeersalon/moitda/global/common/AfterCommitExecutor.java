@@ -0,0 +1,27 @@
+package com.techeersalon.moitda.global.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 트랜잭션 커밋 이후에 실행해야 하는 작업(캐시, 인덱스 갱신 등)을 등록하는 유틸
+ * 트랜잭션 밖에서 호출되면 바로 실행한다.
+ * */
+public final class AfterCommitExecutor {
+
+    private AfterCommitExecutor() {
+    }
+
+    public static void execute(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
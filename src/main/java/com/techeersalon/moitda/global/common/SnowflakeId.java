@@ -0,0 +1,18 @@
+package com.techeersalon.moitda.global.common;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * 엔티티 id 를 SnowflakeIdGenerator 로 생성 (@GeneratedValue 대신 사용)
+ * IDENTITY 와 달리 insert 전에 id 가 정해지므로 Hibernate 가 insert 를 JDBC batch 로 묶을 수 있다.
+ * */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
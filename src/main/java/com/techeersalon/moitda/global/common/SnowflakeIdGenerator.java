@@ -0,0 +1,116 @@
+package com.techeersalon.moitda.global.common;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+/*
+ * 시간 순으로 증가하는 64bit id 생성기 (Snowflake)
+ *
+ * | 41bit: EPOCH 이후 ms | 10bit: 노드 id | 12bit: 같은 ms 안의 순번 |
+ *
+ * DB 에 저장하기 전에 id 를 정할 수 있어 저장을 기다리지 않고 메세지를 발행할 수 있다.
+ * 인스턴스마다 노드 id 가 달라야 id 가 겹치지 않으므로, 노드 id 는 SnowflakeNodeIdLease 가 Redis 에서 할당받아 지정한다.
+ * 노드 id 를 지정받기 전에는 id 를 생성하지 않는다.
+ * 엔티티 id(@SnowflakeId)도 shared() 로 같은 인스턴스를 사용한다.
+ * */
+@Component
+public class SnowflakeIdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH = 1704067200000L;
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    public static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long UNASSIGNED = -1L;
+
+    private static volatile SnowflakeIdGenerator shared;
+
+    private long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator() {
+        this.nodeId = UNASSIGNED;
+    }
+
+    public SnowflakeIdGenerator(long nodeId) {
+        validateNodeId(nodeId);
+        this.nodeId = nodeId;
+    }
+
+    @PostConstruct
+    public void register() {
+        shared = this;
+    }
+
+    // 스프링 빈으로 등록된 생성기 (Hibernate id 생성기처럼 빈을 주입받을 수 없는 곳에서 사용)
+    public static SnowflakeIdGenerator shared() {
+        SnowflakeIdGenerator generator = shared;
+        if (generator == null) {
+            throw new IllegalStateException("SnowflakeIdGenerator 가 아직 초기화되지 않았습니다.");
+        }
+        return generator;
+    }
+
+    // 노드 id 지정, lease 를 잃고 다른 번호를 다시 할당받았을 때도 호출
+    public synchronized void assignNodeId(long nodeId) {
+        validateNodeId(nodeId);
+        this.nodeId = nodeId;
+    }
+
+    public synchronized long nextId() {
+        if (nodeId == UNASSIGNED) {
+            throw new IllegalStateException("Snowflake 노드 id 가 아직 할당되지 않았습니다.");
+        }
+        long timestamp = System.currentTimeMillis();
+        // 시계가 뒤로 가면 마지막 시각을 계속 사용해 순서를 유지
+        if (timestamp < lastTimestamp) {
+            timestamp = lastTimestamp;
+        }
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            // 같은 ms 안의 순번을 다 쓰면 다음 ms 까지 대기
+            if (sequence == 0) {
+                timestamp = waitNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_ID_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    /*
+     * 지정한 시각과 순번으로 id 생성 (과거 시각의 메세지를 만드는 seed 용)
+     * 같은 시각에 여러 id 를 만들 때는 호출하는 쪽에서 순번이 겹치지 않게 지정해야 한다.
+     * */
+    public synchronized long idAt(long timestampMillis, long sequence) {
+        if (nodeId == UNASSIGNED) {
+            throw new IllegalStateException("Snowflake 노드 id 가 아직 할당되지 않았습니다.");
+        }
+        if (timestampMillis < EPOCH || sequence < 0 || sequence > MAX_SEQUENCE) {
+            throw new IllegalArgumentException("id 를 만들 수 없는 시각 또는 순번입니다: " + timestampMillis + ", " + sequence);
+        }
+        return ((timestampMillis - EPOCH) << (NODE_ID_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private static void validateNodeId(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Snowflake 노드 id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+    }
+
+    private long waitNextMillis(long lastTimestamp) {
+        long timestamp = System.currentTimeMillis();
+        while (timestamp <= lastTimestamp) {
+            Thread.onSpinWait();
+            timestamp = System.currentTimeMillis();
+        }
+        return timestamp;
+    }
+}
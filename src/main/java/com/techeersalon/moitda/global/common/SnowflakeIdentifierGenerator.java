@@ -0,0 +1,17 @@
+package com.techeersalon.moitda.global.common;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/*
+ * @SnowflakeId 가 붙은 id 생성
+ * Hibernate 가 직접 생성하는 객체이므로 스프링 빈인 SnowflakeIdGenerator 를 공유 인스턴스로 가져와 사용한다.
+ * (write-behind 경로와 같은 인스턴스를 써야 같은 노드에서 id 가 겹치지 않음)
+ * */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return SnowflakeIdGenerator.shared().nextId();
+    }
+}
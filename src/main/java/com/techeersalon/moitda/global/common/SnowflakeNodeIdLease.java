@@ -0,0 +1,121 @@
+package com.techeersalon.moitda.global.common;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * Snowflake 노드 id 할당 (Redis lease)
+ *
+ * id-generator:node:{nodeId} - 그 노드 id 를 사용 중인 인스턴스 토큰, lease-ttl 동안 유지
+ *
+ * id-generator.node-id 를 지정하면 그 값을 그대로 사용하고, 비워두면 비어 있는 번호를 SET NX 로 잡아 사용한다.
+ * 잡은 번호는 주기적으로 ttl 을 연장하고, 연장하지 못하는 사이 만료되어 다른 인스턴스가 가져갔으면 새 번호를 다시 잡는다.
+ * 번호를 잡지 못하면 다른 인스턴스와 같은 id 를 만들 수 있으므로 애플리케이션 시작을 중단한다.
+ * */
+@Component
+@Slf4j
+public class SnowflakeNodeIdLease {
+
+    private static final String KEY_PREFIX = "id-generator:node:";
+
+    // 자신이 잡은 번호일 때만 연장
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+    // 자신이 잡은 번호일 때만 반납
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final String configuredNodeId;
+    private final Duration leaseTtl;
+    private final String owner = UUID.randomUUID().toString();
+    private volatile long nodeId = -1L;
+
+    public SnowflakeNodeIdLease(StringRedisTemplate stringRedisTemplate,
+                                SnowflakeIdGenerator snowflakeIdGenerator,
+                                @Value("${id-generator.node-id:}") String configuredNodeId,
+                                @Value("${id-generator.lease-ttl-seconds:60}") long leaseTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.configuredNodeId = configuredNodeId;
+        this.leaseTtl = Duration.ofSeconds(leaseTtlSeconds);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (StringUtils.hasText(configuredNodeId)) {
+            nodeId = Long.parseLong(configuredNodeId.trim());
+            snowflakeIdGenerator.assignNodeId(nodeId);
+            log.info("Snowflake 노드 id (설정값): {}", nodeId);
+            return;
+        }
+        acquire();
+    }
+
+    // lease-ttl 의 1/3 마다 연장 (두 번 연속 실패해도 만료 전에 다시 시도)
+    @Scheduled(fixedDelayString = "#{${id-generator.lease-ttl-seconds:60} * 1000 / 3}")
+    public void renew() {
+        if (StringUtils.hasText(configuredNodeId)) {
+            return;
+        }
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW, List.of(key(nodeId)), owner, String.valueOf(leaseTtl.toMillis()));
+            if (renewed == null || renewed == 0) {
+                log.error("Snowflake 노드 id {} 의 lease 를 잃어 새 번호를 할당받습니다.", nodeId);
+                acquire();
+            }
+        } catch (DataAccessException e) {
+            // 만료 전까지는 다음 주기에 다시 연장
+            log.warn("Snowflake 노드 id lease 연장 실패: nodeId = {}, {}", nodeId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (StringUtils.hasText(configuredNodeId) || nodeId < 0) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE, List.of(key(nodeId)), owner);
+        } catch (DataAccessException e) {
+            log.warn("Snowflake 노드 id lease 반납 실패: nodeId = {}, {}", nodeId, e.getMessage());
+        }
+    }
+
+    // 임의의 번호부터 차례로 SET NX 를 시도해 처음 성공한 번호를 사용 (여러 인스턴스가 동시에 떠도 같은 번호부터 경쟁하지 않도록)
+    private void acquire() {
+        long nodeCount = SnowflakeIdGenerator.MAX_NODE_ID + 1;
+        long start = ThreadLocalRandom.current().nextLong(nodeCount);
+        for (long i = 0; i < nodeCount; i++) {
+            long candidate = (start + i) % nodeCount;
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key(candidate), owner, leaseTtl))) {
+                nodeId = candidate;
+                snowflakeIdGenerator.assignNodeId(candidate);
+                log.info("Snowflake 노드 id 할당: {}", candidate);
+                return;
+            }
+        }
+        throw new IllegalStateException("할당 가능한 Snowflake 노드 id 가 없습니다. (최대 " + nodeCount + "개)");
+    }
+
+    private String key(long nodeId) {
+        return KEY_PREFIX + nodeId;
+    }
+}
@@ -25,12 +25,15 @@ public enum SuccessCode {
     MEETING_UPDATE_SUCCESS(HttpStatus.NO_CONTENT, "M005", "모임 수정 성공"),
     MEETING_END_SUCCESS(HttpStatus.NO_CONTENT, "M006", "모임 종료 성공"),
     MEETING_SEARCH_SUCCESS(HttpStatus.OK, "M007", "모임 검색 성공"),
+    MEETING_AUTOCOMPLETE_SUCCESS(HttpStatus.OK, "M008", "모임 검색어 자동완성 조회 성공"),
 
     //participant
     PARTICIPANT_CREATE_SUCCESS(HttpStatus.CREATED, "P001", "참가자 생성 성공"),
     PARTICIPANT_APPROVAL_OR_REJECTION_SUCCESS(HttpStatus.NO_CONTENT, "P002", "참가자 승인 또는 거절 성공"),
     PARTICIPANT_LIST_GET_SUCCESS(HttpStatus.OK, "P003", "모임 신청자 목록 조회"),
     PARTICIPANT_DELETE_SUCCESS(HttpStatus.OK, "P004", "참가자 삭제 성공"),
+    PARTICIPANT_QUEUE_SUCCESS(HttpStatus.ACCEPTED, "P005", "모임 신청 대기열 등록 성공"),
+    PARTICIPANT_QUEUE_STATUS_GET_SUCCESS(HttpStatus.OK, "P006", "모임 신청 대기열 상태 조회 성공"),
 
     //message
     MESSAGE_CREATE_SUCCESS(HttpStatus.CREATED,"CM001", "메시지 생성 성공"),
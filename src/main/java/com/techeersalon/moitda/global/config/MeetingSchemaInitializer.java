@@ -0,0 +1,100 @@
+package com.techeersalon.moitda.global.config;
+
+import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * ddl-auto: update 는 SPATIAL, FULLTEXT, 함수 기반 INDEX 생성을 하지 않으므로
+ * 애플리케이션 시작 시 meeting, meeting_participant 테이블의 인덱스를 직접 확인하고 생성한다.
+ *
+ * 데이터나 컬럼 정의는 바꾸지 않는다. 위치 검색은 SRID 4326 좌표로 조회하므로 기존 DB 의 location_point 가
+ * NULL 허용이거나 SRID 가 없으면(SRID 0 좌표와 섞이면 MySQL 이 ST_Distance_Sphere, MBRContains 를 거부) 기동을 중단한다.
+ * 배포 전에 helpers/mysql/migration/meeting_location_point_srid.sql 을 실행해야 한다.
+ * */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MeetingSchemaInitializer implements CommandLineRunner {
+
+    private static final String LOCATION_INDEX_NAME = "idx_meeting_location_point";
+    private static final String FULLTEXT_INDEX_NAME = "ft_meeting_title_content";
+    private static final String ACTIVE_PARTICIPANT_INDEX_NAME = "ux_meeting_participant_active";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        if (locationColumnChecked()) {
+            createIndexIfMissing("meeting", LOCATION_INDEX_NAME, this::createLocationIndex);
+        }
+        createIndexIfMissing("meeting", FULLTEXT_INDEX_NAME, this::createFullTextIndex);
+        createIndexIfMissing("meeting_participant", ACTIVE_PARTICIPANT_INDEX_NAME, this::createActiveParticipantIndex);
+    }
+
+    private void createIndexIfMissing(String tableName, String indexName, Runnable creator) {
+        try {
+            if (indexExists(tableName, indexName)) {
+                return;
+            }
+            creator.run();
+            log.info("{} 인덱스 생성 완료: {}", tableName, indexName);
+        } catch (DataAccessException e) {
+            // 인덱스가 없어도 기존 기능은 동작하므로 애플리케이션 기동은 막지 않음
+            log.warn("{} 인덱스 생성 실패: {}, {}", tableName, indexName, e.getMessage());
+        }
+    }
+
+    private boolean indexExists(String tableName, String indexName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, tableName, indexName);
+        return count != null && count > 0;
+    }
+
+    /*
+     * location_point 가 NOT NULL SRID 4326 인지 확인 (새로 만든 DB 는 엔티티 정의대로 생성됨)
+     * 아니면 위치 검색이 모두 실패하므로 예외로 기동을 중단하고, 컬럼을 확인하지 못하면 인덱스 생성만 건너뛴다.
+     * */
+    private boolean locationColumnChecked() {
+        Integer count;
+        try {
+            count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.columns " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'meeting' AND column_name = 'location_point' " +
+                            "AND is_nullable = 'NO' AND srs_id = ?",
+                    Integer.class, Meeting.LOCATION_SRID);
+        } catch (DataAccessException e) {
+            log.warn("meeting.location_point 컬럼 확인 실패: {}", e.getMessage());
+            return false;
+        }
+        if (count == null || count == 0) {
+            throw new IllegalStateException("meeting.location_point 가 POINT NOT NULL SRID " + Meeting.LOCATION_SRID + " 가 아닙니다. " +
+                    "helpers/mysql/migration/meeting_location_point_srid.sql 을 실행한 뒤 다시 시작하세요.");
+        }
+        return true;
+    }
+
+    private void createLocationIndex() {
+        jdbcTemplate.execute("CREATE SPATIAL INDEX " + LOCATION_INDEX_NAME + " ON meeting (location_point)");
+    }
+
+    // 한글 제목은 공백 기준 단어 분리가 맞지 않으므로 ngram 파서 사용 (기본 ngram_token_size = 2)
+    private void createFullTextIndex() {
+        jdbcTemplate.execute("CREATE FULLTEXT INDEX " + FULLTEXT_INDEX_NAME + " ON meeting (title, content) WITH PARSER ngram");
+    }
+
+    /*
+     * 같은 유저가 같은 미팅에 동시에 신청해도 한 건만 저장되도록 삭제되지 않은 신청에 대해서만 유니크 인덱스 생성
+     * 삭제된(is_deleted = true) 신청은 meeting_id 대신 NULL로 색인되어 나간 뒤 다시 신청할 수 있다. (MySQL 8.0.13 이상)
+     * */
+    private void createActiveParticipantIndex() {
+        jdbcTemplate.execute("CREATE UNIQUE INDEX " + ACTIVE_PARTICIPANT_INDEX_NAME +
+                " ON meeting_participant ((IF(is_deleted, NULL, meeting_id)), user_id)");
+    }
+}
@@ -2,12 +2,15 @@ package com.techeersalon.moitda.global.config;
 
 import com.techeersalon.moitda.domain.chat.service.RedisListSubscriber;
 import com.techeersalon.moitda.domain.chat.service.RedisMessageSubscriber;
+import com.techeersalon.moitda.domain.meetings.service.AdmissionResultSubscriber;
+import com.techeersalon.moitda.domain.meetings.service.MeetingAdmissionQueue;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -27,13 +30,24 @@ public class RedisConfig {
         return new LettuceConnectionFactory(host, port);
     }
 
+    @Value("${chat.redis-subscription.per-destination:true}")
+    private boolean perDestinationSubscription;
+
+    /*
+     * per-destination 이면 채널 구독은 RedisChannelSubscriptionManager 가 로컬 STOMP 구독에 맞춰 추가/제거한다.
+     * false 면 이전처럼 패턴으로 모든 채널을 구독한다.
+     * */
     @Bean
     RedisMessageListenerContainer redisContainer(RedisMessageSubscriber redisSubscriber1,
-                                                 RedisListSubscriber redisSubscriber2) {
+                                                 RedisListSubscriber redisSubscriber2,
+                                                 AdmissionResultSubscriber admissionResultSubscriber) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(redisConnectionFactory());
-        container.addMessageListener(redisSubscriber1, new RoomIdPatternTopic());
-        container.addMessageListener(redisSubscriber2, new MemberIdPatternTopic());
+        if (!perDestinationSubscription) {
+            container.addMessageListener(redisSubscriber1, new RoomIdPatternTopic());
+            container.addMessageListener(redisSubscriber2, new MemberIdPatternTopic());
+            container.addMessageListener(admissionResultSubscriber, new AdmissionMemberIdPatternTopic());
+        }
         return container;
     }
 
@@ -50,6 +64,12 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    // GEO, 캐시 등 문자열 키/값만 다루는 용도
+    @Bean
+    public StringRedisTemplate stringRedisTemplate() {
+        return new StringRedisTemplate(redisConnectionFactory());
+    }
+
     class RoomIdPatternTopic extends PatternTopic {
         public RoomIdPatternTopic() {
             super("roomId*");
@@ -62,6 +82,13 @@ public class RedisConfig {
         }
     }
 
+    // 선착순 대기열 처리 결과
+    class AdmissionMemberIdPatternTopic extends PatternTopic {
+        public AdmissionMemberIdPatternTopic() {
+            super(MeetingAdmissionQueue.RESULT_CHANNEL_PREFIX + "*");
+        }
+    }
+
 
 
 }
@@ -1,8 +1,10 @@
 package com.techeersalon.moitda.global.config;
 
 import com.techeersalon.moitda.domain.user.repository.UserRepository;
+import com.techeersalon.moitda.global.jwt.AuthUserCache;
 import com.techeersalon.moitda.global.jwt.JwtAuthenticationFilter;
 import com.techeersalon.moitda.global.jwt.Service.JwtService;
+import com.techeersalon.moitda.global.jwt.TokenDenylist;
 import com.techeersalon.moitda.global.jwt.exception.JwtAccessDeniedHandler;
 import com.techeersalon.moitda.global.jwt.exception.JwtAuthenticationEntryPoint;
 import com.techeersalon.moitda.global.oauth.OAuth2LoginFailureHandler;
@@ -36,6 +38,8 @@ public class SecurityConfig {
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final AuthUserCache authUserCache;
+    private final TokenDenylist tokenDenylist;
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -96,7 +100,7 @@ public class SecurityConfig {
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                         .accessDeniedHandler(jwtAccessDeniedHandler)
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtService, userRepository), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService, userRepository, authUserCache, tokenDenylist), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -25,11 +25,14 @@ public enum ErrorCode {
     MEETING_IS_FULL(HttpStatus.BAD_REQUEST, "M004", "참여자가 가득 찼습니다."),
     MEETING_NOT_ENDED(HttpStatus.BAD_REQUEST, "M005", "미팅이 아직 종료되지 않았습니다."),
     MEETING_OWNER_LEAVING_EXCEPTION(HttpStatus.BAD_REQUEST, "M006", "방장은 모임에서 나갈 수 없습니다."),
+    INVALID_SEARCH_CURSOR(HttpStatus.BAD_REQUEST, "M007", "잘못된 페이지 커서입니다."),
+    INVALID_SEARCH_MODE(HttpStatus.BAD_REQUEST, "M008", "지원하지 않는 검색 방식입니다."),
 
     // 참여자
     PARTICIPANT_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "참여자을 찾을 수 없습니다."),
     ALREADY_PARTICIPATING_OR_APPLIED(HttpStatus.NOT_FOUND, "P002", "이미 모임에 신청한 상태 거나 참가자 입니다."),
     NOT_AUTHORIZED_TO_APPROVE(HttpStatus.UNAUTHORIZED, "P003", "다른 미팅에서 보낸 승인이기 때문에 권한이 없습니다."),
+    ADMISSION_QUEUE_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "P004", "승인이 필요한 모임은 대기열로 신청할 수 없습니다."),
 
     // 채팅방
     CHATROOM_NOT_FOUND(HttpStatus.NOT_FOUND,"CR001","채팅방을 찾을 수 없습니다."),
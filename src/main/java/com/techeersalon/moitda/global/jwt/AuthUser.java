@@ -0,0 +1,81 @@
+package com.techeersalon.moitda.global.jwt;
+
+import com.techeersalon.moitda.domain.user.entity.Role;
+import com.techeersalon.moitda.domain.user.entity.SocialType;
+import com.techeersalon.moitda.domain.user.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/*
+ * SecurityContext에 저장하는 로그인 유저 정보 (요청마다 users 테이블을 다시 조회하지 않도록 id, 권한을 함께 보관)
+ * 기존 UserDetails 사용처와 맞추기 위해 username은 email, password는 socialType 이름을 반환한다.
+ * access token 의 claim 으로 만든 경우 로그아웃 시 폐기할 수 있도록 토큰 id(jti)와 만료 시각도 가진다.
+ * */
+@Getter
+public class AuthUser implements UserDetails {
+
+    private final Long userId;
+    private final String email;
+    private final SocialType socialType;
+    private final Role role;
+    private final String tokenId;
+    private final Date tokenExpiration;
+
+    public AuthUser(Long userId, String email, SocialType socialType, Role role) {
+        this(userId, email, socialType, role, null, null);
+    }
+
+    public AuthUser(Long userId, String email, SocialType socialType, Role role, String tokenId, Date tokenExpiration) {
+        this.userId = userId;
+        this.email = email;
+        this.socialType = socialType;
+        this.role = role;
+        this.tokenId = tokenId;
+        this.tokenExpiration = tokenExpiration;
+    }
+
+    public static AuthUser from(User user) {
+        return new AuthUser(user.getId(), user.getEmail(), user.getSocialType(), user.getRole());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return socialType.name();
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+package com.techeersalon.moitda.global.jwt;
+
+import com.techeersalon.moitda.domain.user.entity.SocialType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/*
+ * (socialType, email) -> AuthUser 캐시
+ * 인증 필터가 요청마다 users 테이블을 조회하지 않도록 짧은 시간 동안 재사용한다.
+ * 권한이 바뀌는 회원가입, 회원정보 수정, 로그아웃 시 UserService에서 삭제하고,
+ * 다른 인스턴스에 남은 값은 TTL이 지나면 다시 조회된다.
+ * */
+@Component
+public class AuthUserCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final long ttlMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public AuthUserCache(@Value("${jwt.auth-user-cache-ttl-ms:60000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    public Optional<AuthUser> get(SocialType socialType, String email, Supplier<Optional<AuthUser>> loader) {
+        String key = key(socialType, email);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return Optional.of(entry.authUser);
+        }
+
+        Optional<AuthUser> loaded = loader.get();
+        if (loaded.isEmpty()) {
+            entries.remove(key);
+            return loaded;
+        }
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(cached -> cached.expiresAt <= now);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(loaded.get(), now + ttlMillis));
+        return loaded;
+    }
+
+    public void evict(SocialType socialType, String email) {
+        entries.remove(key(socialType, email));
+    }
+
+    private String key(SocialType socialType, String email) {
+        return socialType.name() + ":" + email;
+    }
+
+    private static class Entry {
+        private final AuthUser authUser;
+        private final long expiresAt;
+
+        private Entry(AuthUser authUser, long expiresAt) {
+            this.authUser = authUser;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
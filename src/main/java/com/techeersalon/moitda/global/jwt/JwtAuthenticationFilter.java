@@ -4,6 +4,7 @@ import com.techeersalon.moitda.domain.user.entity.SocialType;
 import com.techeersalon.moitda.domain.user.entity.User;
 import com.techeersalon.moitda.domain.user.repository.UserRepository;
 import com.techeersalon.moitda.global.jwt.Service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,10 +16,10 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
 import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -26,6 +27,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final AuthUserCache authUserCache;
+    private final TokenDenylist tokenDenylist;
 
     private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
@@ -47,31 +50,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                                   FilterChain filterChain) throws ServletException, IOException {
         log.info("checkAccessTokenAndAuthentication() 호출");
         jwtService.extractAccessToken(request)
-                .filter(jwtService::isTokenValid)
-                .ifPresent(accessToken -> {
-                    Object[] emailAndSocialType = jwtService.extractEmailAndSocialType(accessToken);
-                    if (emailAndSocialType.length >= 2) {
-                        String email = (String) emailAndSocialType[0];
-                        SocialType socialType = (SocialType) emailAndSocialType[1];
-                        userRepository.findBySocialTypeAndEmail(socialType, email)
-                                .ifPresent(this::saveAuthentication);
-                    }
-                });
+                .flatMap(jwtService::verifyAccessToken)
+                // 로그아웃으로 폐기된 토큰은 인증하지 않음
+                .filter(claims -> !tokenDenylist.isDenied(claims.getId()))
+                .flatMap(this::resolveAuthUser)
+                .ifPresent(this::saveAuthentication);
 
         filterChain.doFilter(request, response);
     }
 
-    public void saveAuthentication(User user) {
+    /*
+     * userId, role claim 이 있는 토큰은 DB 조회 없이 claim 으로 인증 정보 생성
+     * claim 이 없는 이전 형식의 토큰은 email, socialType 으로 조회 (캐시에 없을 때만 users 테이블 조회)
+     * */
+    private Optional<AuthUser> resolveAuthUser(Claims claims) {
+        Optional<AuthUser> authUser = jwtService.toAuthUser(claims);
+        if (authUser.isPresent()) {
+            return authUser;
+        }
+
+        String email = jwtService.extractEmail(claims);
+        SocialType socialType = jwtService.extractSocialType(claims);
+        if (email == null || socialType == null) {
+            return Optional.empty();
+        }
+        return authUserCache.get(socialType, email,
+                () -> userRepository.findBySocialTypeAndEmail(socialType, email).map(AuthUser::from));
+    }
 
-        UserDetails userDetailsUser = org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getSocialType().name())
-                .roles(user.getRole().name())
-                .build();
+    public void saveAuthentication(AuthUser authUser) {
 
         Authentication authentication =
-                new UsernamePasswordAuthenticationToken(userDetailsUser, null,
-                        authoritiesMapper.mapAuthorities(userDetailsUser.getAuthorities()));
+                new UsernamePasswordAuthenticationToken(authUser, null,
+                        authoritiesMapper.mapAuthorities(authUser.getAuthorities()));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
@@ -1,9 +1,14 @@
 package com.techeersalon.moitda.global.jwt.Service;
 
+import com.techeersalon.moitda.domain.user.entity.Role;
 import com.techeersalon.moitda.domain.user.entity.SocialType;
+import com.techeersalon.moitda.domain.user.entity.User;
 import com.techeersalon.moitda.domain.user.repository.UserRepository;
+import com.techeersalon.moitda.global.jwt.AuthUser;
+import com.techeersalon.moitda.global.jwt.VerifiedTokenCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -20,6 +25,7 @@ import org.springframework.stereotype.Service;
 import java.security.Key;
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -46,26 +52,38 @@ public class JwtService {
     private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
     private static final String EMAIL_CLAIM = "email";
     private static final String SOCIAL_TYPE_CLAIM = "socialType";
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String ROLE_CLAIM = "role";
     private static final String BEARER = "Bearer ";
 
 
     private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
     private Key key;
+    // 불변 객체라 여러 스레드에서 공유 가능, 요청마다 parser를 새로 만들지 않도록 한 번만 생성
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
         key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
     /**
      * AccessToken 생성 메소드
+     * 인증 필터가 DB 조회 없이 인증 정보를 만들 수 있도록 userId, role 을 함께 담고,
+     * 로그아웃 시 토큰 단위로 폐기할 수 있도록 jti(토큰 id)를 부여한다.
+     * role 은 발급 시점 기준이므로 회원가입 등으로 바뀌면 재발급 이후에 반영된다.
      */
-    public String createAccessToken(String email, SocialType socialType) {
+    public String createAccessToken(User user) {
         Date now = new Date();
         return Jwts.builder() // JWT 토큰을 생성하는 빌더 반환
                 .setSubject(ACCESS_TOKEN_SUBJECT) // JWT의 Subject 지정 -> AccessToken이므로 AccessToken
+                .setId(UUID.randomUUID().toString())
                 .setExpiration(new Date(now.getTime() + accessTokenExpirationPeriod)) // 토큰 만료 시간 설정
-                .claim(EMAIL_CLAIM, email)
-                .claim(SOCIAL_TYPE_CLAIM, socialType)
+                .claim(EMAIL_CLAIM, user.getEmail())
+                .claim(SOCIAL_TYPE_CLAIM, user.getSocialType())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole())
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
@@ -106,7 +124,7 @@ public class JwtService {
 
     public boolean isTokenValid(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (Exception e) {
             log.error("유효하지 않은 토큰입니다. {}", e.getMessage());
@@ -115,6 +133,51 @@ public class JwtService {
     }
 
 
+    /*
+     * 서명, 만료를 검증하고 Claims 반환 (검증에 실패하면 empty)
+     * 인증 필터에서 검증과 claim 추출을 한 번의 파싱으로 처리하기 위해 사용
+     * 최근에 검증한 토큰은 만료 전까지 VerifiedTokenCache의 결과를 재사용한다.
+     * */
+    public Optional<Claims> verifyAccessToken(String accessToken) {
+        Optional<Claims> cached = verifiedTokenCache.get(accessToken);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        try {
+            Claims claims = jwtParser.parseClaimsJws(accessToken).getBody();
+            verifiedTokenCache.put(accessToken, claims);
+            return Optional.of(claims);
+        } catch (Exception e) {
+            log.error("유효하지 않은 토큰입니다. {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // userId, role claim 으로 로그인 유저 정보 생성, 이전에 발급된 토큰처럼 claim이 없으면 empty
+    public Optional<AuthUser> toAuthUser(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new AuthUser(
+                userId,
+                extractEmail(claims),
+                extractSocialType(claims),
+                Role.valueOf(role),
+                claims.getId(),
+                claims.getExpiration()));
+    }
+
+    public String extractEmail(Claims claims) {
+        return claims.get(EMAIL_CLAIM, String.class);
+    }
+
+    public SocialType extractSocialType(Claims claims) {
+        String socialType = claims.get(SOCIAL_TYPE_CLAIM, String.class);
+        return socialType == null ? null : deserializeSocialType(socialType);
+    }
+
     public Object[] extractEmailAndSocialType(String accessToken) {
         try {
             Claims claims = decodeAccessToken(accessToken);
@@ -138,11 +201,7 @@ public class JwtService {
 
     private Claims decodeAccessToken(String accessToken) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             // 만료된 토큰 예외 처리
             return e.getClaims();
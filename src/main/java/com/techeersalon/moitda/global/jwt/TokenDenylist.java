@@ -0,0 +1,58 @@
+package com.techeersalon.moitda.global.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+/*
+ * 로그아웃 등으로 만료 전에 폐기한 access token 목록 (Redis)
+ * 토큰 id(jti)를 남은 유효 시간만큼만 저장하므로 토큰이 만료되면 자동으로 삭제된다.
+ * Redis 장애 시에는 인증 자체가 막히지 않도록 폐기되지 않은 토큰으로 취급한다.
+ * */
+@Component
+@Slf4j
+public class TokenDenylist {
+
+    private static final String KEY_PREFIX = "jwt:denylist:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+
+    public TokenDenylist(StringRedisTemplate stringRedisTemplate,
+                         @Value("${jwt.denylist.enabled:true}") boolean enabled) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+    }
+
+    public void deny(String tokenId, Date expiration) {
+        if (!enabled || tokenId == null || expiration == null) {
+            return;
+        }
+        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", Duration.ofMillis(remainingMillis));
+        } catch (DataAccessException e) {
+            log.warn("토큰 폐기 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    public boolean isDenied(String tokenId) {
+        if (!enabled || tokenId == null) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + tokenId));
+        } catch (DataAccessException e) {
+            log.warn("토큰 폐기 여부 조회 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+}
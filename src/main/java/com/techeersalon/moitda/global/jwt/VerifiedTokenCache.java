@@ -0,0 +1,95 @@
+package com.techeersalon.moitda.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 서명 검증을 마친 access token -> Claims 캐시
+ * 같은 토큰으로 연속 요청이 들어올 때 서명 검증과 JSON 파싱을 반복하지 않도록 짧은 시간 동안 재사용한다.
+ * 토큰 원문 대신 SHA-256 해시를 key로 쓰고, 토큰 만료 시각이 지나면 TTL과 관계없이 사용하지 않는다.
+ * 로그아웃 폐기 여부는 캐시와 별개로 요청마다 TokenDenylist에서 확인한다.
+ * */
+@Component
+public class VerifiedTokenCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(@Value("${jwt.verified-token-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.verified-token-cache.ttl-ms:30000}") long ttlMillis) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public Optional<Claims> get(String token) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.claims);
+    }
+
+    public void put(String token, Claims claims) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMillis;
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            expiresAt = Math.min(expiresAt, expiration.getTime());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(cached -> cached.expiresAt <= now);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(hash(token), new Entry(claims, expiresAt));
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM이 SHA-256을 지원하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Entry {
+        private final Claims claims;
+        private final long expiresAt;
+
+        private Entry(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
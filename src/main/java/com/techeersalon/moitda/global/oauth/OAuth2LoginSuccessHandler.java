@@ -1,6 +1,8 @@
 package com.techeersalon.moitda.global.oauth;
 
 import com.techeersalon.moitda.domain.user.entity.Role;
+import com.techeersalon.moitda.domain.user.entity.User;
+import com.techeersalon.moitda.domain.user.exception.UserNotFoundException;
 import com.techeersalon.moitda.domain.user.repository.UserRepository;
 import com.techeersalon.moitda.global.jwt.Service.JwtService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,26 +33,22 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
             // User의 Role이 GUEST일 경우 처음 요청한 회원이므로 회원가입 페이지로 리다이렉트
             if (role == Role.GUEST) {
-                String accessToken = jwtService.createAccessToken(oAuth2User.getEmail(), oAuth2User.getSocialType());
+                User user = findLoginUser(oAuth2User);
+                String accessToken = jwtService.createAccessToken(user);
                 String refreshToken = jwtService.createRefreshToken();
-                userRepository.findBySocialTypeAndEmail(oAuth2User.getSocialType(), oAuth2User.getEmail())
-                        .ifPresent(user -> {
-                            user.updateRefreshToken(refreshToken);
-                            userRepository.saveAndFlush(user);
-                        });
+                user.updateRefreshToken(refreshToken);
+                userRepository.saveAndFlush(user);
 
                 String redirectUrl = "https://moitda.site/auth/signup?accessToken=" + accessToken + "&refreshToken=" + refreshToken;
 
                 response.sendRedirect(redirectUrl); // 프론트의 회원가입 추가 정보 입력 폼으로 리다이렉트
 
             } else {
-                String accessToken = jwtService.createAccessToken(oAuth2User.getEmail(), oAuth2User.getSocialType());
+                User user = findLoginUser(oAuth2User);
+                String accessToken = jwtService.createAccessToken(user);
                 String refreshToken = jwtService.createRefreshToken();
-                userRepository.findBySocialTypeAndEmail(oAuth2User.getSocialType(), oAuth2User.getEmail())
-                        .ifPresent(user -> {
-                            user.updateRefreshToken(refreshToken);
-                            userRepository.saveAndFlush(user);
-                        });
+                user.updateRefreshToken(refreshToken);
+                userRepository.saveAndFlush(user);
 
                 String redirectUrl = "https://moitda.site/auth/login?accessToken=" + accessToken + "&refreshToken=" + refreshToken;
 
@@ -60,4 +58,10 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
             throw e;
         }
     }
+
+    // access token 에 userId, role 을 담기 위해 로그인한 유저를 조회
+    private User findLoginUser(CustomOAuth2User oAuth2User) {
+        return userRepository.findBySocialTypeAndEmail(oAuth2User.getSocialType(), oAuth2User.getEmail())
+                .orElseThrow(UserNotFoundException::new);
+    }
 }
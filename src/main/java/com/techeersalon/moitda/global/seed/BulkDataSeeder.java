@@ -0,0 +1,77 @@
+package com.techeersalon.moitda.global.seed;
+
+import com.techeersalon.moitda.global.common.SnowflakeIdGenerator;
+import com.techeersalon.moitda.global.seed.SyntheticDataGenerator.IdRange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * 성능 측정 환경 데이터 생성 (seed 프로필에서만 실행)
+ *
+ * ./gradlew bootRun --args='--spring.profiles.active=seed --seed.users=1000000 --seed.meetings=2000000'
+ * SPRING_DATASOURCE_URL 에 rewriteBatchedStatements=true 를 붙여야 batch insert 가 빠르다.
+ * 기본으로 생성이 끝나면 애플리케이션을 종료한다. (seed.exit-on-finish=false 면 그대로 서버 실행)
+ * */
+@Component
+@Profile("seed")
+@Slf4j
+public class BulkDataSeeder implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${seed.users:10000}")
+    private int users;
+
+    @Value("${seed.meetings:10000}")
+    private int meetings;
+
+    @Value("${seed.first-come-meetings:0}")
+    private int firstComeMeetings;
+
+    @Value("${seed.max-participants-per-meeting:10}")
+    private int maxParticipantsPerMeeting;
+
+    @Value("${seed.messages-per-room:20}")
+    private int messagesPerRoom;
+
+    @Value("${seed.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${seed.exit-on-finish:true}")
+    private boolean exitOnFinish;
+
+    public BulkDataSeeder(JdbcTemplate jdbcTemplate, SnowflakeIdGenerator snowflakeIdGenerator,
+                          ConfigurableApplicationContext applicationContext) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(String... args) {
+        long start = System.currentTimeMillis();
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(jdbcTemplate, snowflakeIdGenerator, batchSize, randomSeed);
+
+        IdRange userIds = generator.insertUsers(users);
+        IdRange meetingIds = generator.insertMeetings(meetings, userIds, firstComeMeetings, maxParticipantsPerMeeting, messagesPerRoom);
+
+        log.info("데이터 생성 완료: users {}~{}, meetings {}~{}, messages per room {} ({}ms)",
+                userIds.getFirstId(), userIds.getLastId(), meetingIds.getFirstId(), meetingIds.getLastId(),
+                messagesPerRoom, System.currentTimeMillis() - start);
+
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.techeersalon.moitda.global.seed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Random;
+
+/*
+ * 대량 데이터 생성 시 미팅 위치를 모을 도시 (중심 좌표, 대략적인 인구 비율 가중치, 구 이름)
+ * 미팅 좌표는 도시 중심에서 정규분포(표준편차 SPREAD_DEGREES)로 흩어지게 생성한다.
+ * */
+@Getter
+@RequiredArgsConstructor
+public enum SeedCity {
+    SEOUL("서울", 37.5665, 126.9780, 40, new String[]{"강남구", "마포구", "송파구", "종로구", "영등포구", "강동구"}),
+    BUSAN("부산", 35.1796, 129.0756, 13, new String[]{"해운대구", "부산진구", "동래구", "수영구"}),
+    INCHEON("인천", 37.4563, 126.7052, 10, new String[]{"남동구", "연수구", "부평구", "미추홀구"}),
+    DAEGU("대구", 35.8714, 128.6014, 9, new String[]{"중구", "수성구", "달서구", "북구"}),
+    SUWON("경기 수원시", 37.2636, 127.0286, 9, new String[]{"팔달구", "영통구", "장안구"}),
+    CHANGWON("경남 창원시", 35.2280, 128.6811, 7, new String[]{"성산구", "의창구", "마산회원구"}),
+    DAEJEON("대전", 36.3504, 127.3845, 6, new String[]{"서구", "유성구", "중구"}),
+    GWANGJU("광주", 35.1595, 126.8526, 6, new String[]{"서구", "북구", "광산구"});
+
+    // 표준편차 약 3km (위도 0.03도)
+    public static final double SPREAD_DEGREES = 0.03;
+
+    private static final int TOTAL_WEIGHT = totalWeight();
+
+    private final String name;
+    private final double latitude;
+    private final double longitude;
+    private final int weight;
+    private final String[] districts;
+
+    // 가중치에 비례해 도시 선택
+    public static SeedCity pick(Random random) {
+        int pick = random.nextInt(TOTAL_WEIGHT);
+        for (SeedCity city : values()) {
+            pick -= city.weight;
+            if (pick < 0) {
+                return city;
+            }
+        }
+        return SEOUL;
+    }
+
+    public double randomLatitude(Random random) {
+        return latitude + random.nextGaussian() * SPREAD_DEGREES;
+    }
+
+    public double randomLongitude(Random random) {
+        return longitude + random.nextGaussian() * SPREAD_DEGREES;
+    }
+
+    // GetLatestMeetingListRes 가 앞의 두 단어를 지역명으로 쓰므로 "{도시} {구} ..." 형식
+    public String randomRoadAddress(Random random) {
+        return name + " " + districts[random.nextInt(districts.length)] + " " + (random.nextInt(900) + 100) + "-" + (random.nextInt(50) + 1);
+    }
+
+    private static int totalWeight() {
+        int total = 0;
+        for (SeedCity city : values()) {
+            total += city.weight;
+        }
+        return total;
+    }
+}
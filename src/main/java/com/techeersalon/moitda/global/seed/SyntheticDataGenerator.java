@@ -0,0 +1,282 @@
+package com.techeersalon.moitda.global.seed;
+
+import com.techeersalon.moitda.domain.chat.entity.ChatMessage;
+import com.techeersalon.moitda.global.common.SnowflakeIdGenerator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/*
+ * 성능 측정 환경용 대량 데이터 생성 (users, meeting, meeting_participant, chat_room, chatroom_user, chat_message)
+ *
+ * 엔티티 저장 대신 JDBC batch insert 로 넣고, id 는 현재 최대값 이후로 직접 지정해
+ * 생성한 row 를 다시 조회하지 않고도 참가자, 채팅방, 메세지를 연결한다.
+ * 채팅 메세지 id 는 앱과 같이 Snowflake 로 보낸 시각에 맞춰 만들어, 운영 중인 DB 에 넣어도 id 순서가 시간 순서와 같다.
+ * MySQL 에서는 datasource url 에 rewriteBatchedStatements=true 를 주어야 batch 가 multi-row INSERT 로 전송된다.
+ *
+ * 같은 randomSeed 로 빈 DB 에 생성하면 항상 같은 데이터가 만들어진다.
+ * */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    private static final int MIN_MAX_PARTICIPANTS = 2;
+    private static final int MAX_MAX_PARTICIPANTS = 31;
+    private static final int CATEGORY_COUNT = 19;
+    private static final String[] PLACE_NAMES = {"스타벅스", "투썸플레이스", "한강공원", "도서관", "헬스장", "보드게임카페", "풋살장"};
+    private static final String[] MESSAGES = {"안녕하세요!", "몇 시에 만나나요?", "조금 늦을 것 같아요", "도착했습니다", "다음에 또 봬요", "좋아요 👍"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Random random;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    // 지금까지 만든 채팅 메세지 수 (같은 ms 에 만든 메세지의 Snowflake 순번이 겹치지 않도록 사용)
+    private long messageCount = 0;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, SnowflakeIdGenerator snowflakeIdGenerator, int batchSize, long randomSeed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.batchSize = batchSize;
+        this.random = new Random(randomSeed);
+    }
+
+    // 유저 생성, username 은 name{userId}
+    public IdRange insertUsers(int count) {
+        long firstId = nextId("users", "user_id");
+        Timestamp now = now();
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int i = 0; i < count; i++) {
+            long userId = firstId + i;
+            rows.add(new Object[]{
+                    userId,
+                    username(userId),
+                    "seed" + userId + "@naver.com",
+                    "profileImage",
+                    "bannerImage",
+                    Date.valueOf(LocalDate.now().minusYears(20 + random.nextInt(20)).minusDays(random.nextInt(365))),
+                    random.nextBoolean() ? "M" : "F",
+                    40 + random.nextInt(21),
+                    "USER",
+                    "NAVER",
+                    now, now});
+            if (rows.size() == batchSize) {
+                insertUserRows(rows);
+                log.info("users {} / {}", i + 1, count);
+            }
+        }
+        insertUserRows(rows);
+        return new IdRange(firstId, firstId + count - 1);
+    }
+
+    /*
+     * 미팅 생성, 미팅마다 방장 참가자, 채팅방, 채팅 메세지까지 함께 생성
+     * - 앞의 firstComeCount 개는 승인 없는 선착순 미팅이고 방장 외 참가자가 없음 (참가 신청 부하 측정용)
+     * - 나머지는 최대 maxParticipantsPerMeeting 명의 참가자(승인 필요 미팅은 일부 대기)를 가짐
+     * - 채팅방 멤버는 방장과 승인된 참가자, 메세지는 멤버가 messagesPerRoom 개를 1분 간격으로 보낸 것으로 생성
+     * */
+    public IdRange insertMeetings(int count, IdRange users, int firstComeCount, int maxParticipantsPerMeeting, int messagesPerRoom) {
+        long firstMeetingId = nextId("meeting", "meeting_id");
+        long nextChatRoomId = nextId("chat_room", "chatroom_id");
+
+        MeetingBatch batch = new MeetingBatch();
+        for (int i = 0; i < count; i++) {
+            long meetingId = firstMeetingId + i;
+            boolean firstCome = i < firstComeCount;
+            long hostId = users.random(random);
+            int maxParticipantsCount = MIN_MAX_PARTICIPANTS + random.nextInt(MAX_MAX_PARTICIPANTS - MIN_MAX_PARTICIPANTS + 1);
+            boolean approvalRequired = !firstCome && random.nextInt(10) < 7;
+            LocalDateTime createdAt = LocalDateTime.now().minusDays(random.nextInt(30)).truncatedTo(ChronoUnit.MINUTES);
+
+            // 참가자 (방장 포함), 중복 신청 없이 선택
+            List<Long> members = new ArrayList<>();
+            members.add(hostId);
+            batch.participants.add(participantRow(meetingId, hostId, false, createdAt));
+            int extraParticipants = firstCome ? 0 : random.nextInt(Math.min(maxParticipantsPerMeeting, maxParticipantsCount - 1) + 1);
+            Set<Long> applicants = new HashSet<>();
+            applicants.add(hostId);
+            for (int p = 0; p < extraParticipants && applicants.size() < users.count(); p++) {
+                long userId = users.random(random);
+                if (!applicants.add(userId)) {
+                    p--;
+                    continue;
+                }
+                boolean waiting = approvalRequired && random.nextInt(10) < 3;
+                batch.participants.add(participantRow(meetingId, userId, waiting, createdAt));
+                if (!waiting) {
+                    members.add(userId);
+                }
+            }
+
+            SeedCity city = SeedCity.pick(random);
+            batch.meetings.add(new Object[]{
+                    meetingId,
+                    hostId,
+                    username(hostId),
+                    (long) random.nextInt(CATEGORY_COUNT),
+                    city.getName() + " " + PLACE_NAMES[random.nextInt(PLACE_NAMES.length)] + " 모임 " + i,
+                    members.size(),
+                    maxParticipantsCount,
+                    city.randomRoadAddress(random),
+                    PLACE_NAMES[random.nextInt(PLACE_NAMES.length)],
+                    point(city.randomLongitude(random), city.randomLatitude(random)),
+                    "같이 하실 분 구합니다. (" + i + ")",
+                    approvalRequired,
+                    createdAt.plusDays(random.nextInt(30) + 1)
+                            .withHour(12 + random.nextInt(10))
+                            .withMinute(0)
+                            .toString(),
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt)});
+
+            // 채팅방, 멤버, 메세지 (앱과 같이 chat_message.meeting_id 에는 채팅방 id 저장)
+            long chatRoomId = nextChatRoomId++;
+            for (Long member : members) {
+                batch.chatRoomMembers.add(new Object[]{chatRoomId, member});
+            }
+            Long lastMessageId = null;
+            for (int m = 0; m < messagesPerRoom; m++) {
+                long senderId = members.get(random.nextInt(members.size()));
+                Timestamp sentAt = messageSentAt(createdAt.plusMinutes(m + 1));
+                long messageId = snowflakeIdGenerator.idAt(sentAt.getTime(), messageCount++ & SnowflakeIdGenerator.MAX_SEQUENCE);
+                batch.messages.add(new Object[]{
+                        messageId,
+                        senderId,
+                        username(senderId),
+                        "profileImage",
+                        MESSAGES[random.nextInt(MESSAGES.length)],
+                        chatRoomId,
+                        ChatMessage.MessageType.TALK.ordinal(),
+                        sentAt, sentAt});
+                lastMessageId = messageId;
+            }
+            batch.chatRooms.add(new Object[]{chatRoomId, meetingId, lastMessageId, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt)});
+
+            if (batch.meetings.size() == batchSize) {
+                batch.flush();
+                log.info("meetings {} / {}", i + 1, count);
+            }
+        }
+        batch.flush();
+        return new IdRange(firstMeetingId, firstMeetingId + count - 1);
+    }
+
+    // 참가 신청 부하 측정 전에 선착순 미팅의 정원을 지정
+    public void updateMaxParticipants(Long meetingId, int maxParticipantsCount) {
+        jdbcTemplate.update("UPDATE meeting SET max_participants_count = ? WHERE meeting_id = ?", maxParticipantsCount, meetingId);
+    }
+
+    private void insertUserRows(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_id, username, email, profile_image, banner_image, data_of_birth, gender, " +
+                "manner_stat, role, social_type, create_at, update_at, is_deleted) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)", rows);
+        rows.clear();
+    }
+
+    private Object[] participantRow(long meetingId, long userId, boolean waiting, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        return new Object[]{meetingId, userId, username(userId), waiting, timestamp, timestamp};
+    }
+
+    private long nextId(String tableName, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + tableName, Long.class);
+        return maxId == null ? 1 : maxId + 1;
+    }
+
+    /*
+     * 메세지를 보낸 시각 (분 단위 시각 + 분 안의 ms)
+     * 순번은 메세지 수의 하위 12bit, 분 안의 ms 는 그 위 자리로 정해 같은 분에 보낸 메세지의 (시각, 순번)이 겹치지 않게 한다. (한 번에 약 2억 개까지)
+     * 같은 채팅방의 메세지는 1분 간격이므로 보낸 순서대로 id 가 증가한다.
+     * */
+    private Timestamp messageSentAt(LocalDateTime minute) {
+        long millisInMinute = (messageCount / (SnowflakeIdGenerator.MAX_SEQUENCE + 1)) % 60_000;
+        return Timestamp.valueOf(minute.plus(millisInMinute, ChronoUnit.MILLIS));
+    }
+
+    private String username(long userId) {
+        return "name" + userId;
+    }
+
+    // axis-order 를 지정해 JTS Point(x=경도, y=위도)와 같은 순서로 저장
+    private String point(double longitude, double latitude) {
+        return "POINT(" + longitude + " " + latitude + ")";
+    }
+
+    private Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    // 미팅 batchSize 개 단위로 관련 테이블을 함께 insert
+    private class MeetingBatch {
+        private final List<Object[]> meetings = new ArrayList<>();
+        private final List<Object[]> participants = new ArrayList<>();
+        private final List<Object[]> chatRooms = new ArrayList<>();
+        private final List<Object[]> chatRoomMembers = new ArrayList<>();
+        private final List<Object[]> messages = new ArrayList<>();
+
+        private void flush() {
+            if (meetings.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO meeting (meeting_id, user_id, username, category_id, title, participants_count, " +
+                    "max_participants_count, road_address_name, place_name, location_point, content, approval_required, " +
+                    "appointment_time, create_at, update_at, is_deleted) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ST_GeomFromText(?, 4326, 'axis-order=long-lat'), ?, ?, ?, ?, ?, false)", meetings);
+            insertInBatches("INSERT INTO meeting_participant (meeting_id, user_id, username, is_waiting, is_reviewed, " +
+                    "create_at, update_at, is_deleted) VALUES (?, ?, ?, ?, false, ?, ?, false)", participants);
+            jdbcTemplate.batchUpdate("INSERT INTO chat_room (chatroom_id, meeting_id, last_message_id, create_at, update_at, is_deleted) " +
+                    "VALUES (?, ?, ?, ?, ?, false)", chatRooms);
+            insertInBatches("INSERT INTO chatroom_user (chatroom_id, user_id) VALUES (?, ?)", chatRoomMembers);
+            insertInBatches("INSERT INTO chat_message (id, user_id, sender_name, sender_profile_image, message, meeting_id, " +
+                    "message_type, create_at, update_at, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false)", messages);
+
+            meetings.clear();
+            participants.clear();
+            chatRooms.clear();
+            chatRoomMembers.clear();
+            messages.clear();
+        }
+
+        // 참가자, 멤버, 메세지는 미팅 수보다 많으므로 batchSize 단위로 나눠 전송
+        private void insertInBatches(String sql, List<Object[]> rows) {
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())));
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class IdRange {
+        private final long firstId;
+        private final long lastId;
+
+        public long count() {
+            return lastId - firstId + 1;
+        }
+
+        public long random(Random random) {
+            return firstId + (long) (random.nextDouble() * count());
+        }
+
+        public List<Long> toList() {
+            List<Long> ids = new ArrayList<>((int) count());
+            for (long id = firstId; id <= lastId; id++) {
+                ids.add(id);
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.techeersalon.moitda.domain.chat.dto.mapper;
+
+import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageRes;
+import com.techeersalon.moitda.domain.chat.entity.ChatMessage;
+import com.techeersalon.moitda.domain.user.dto.response.UserProfileRes;
+import com.techeersalon.moitda.domain.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMapperTest {
+
+    @Mock
+    private UserService userService;
+    @InjectMocks
+    private ChatMapper chatMapper;
+
+    private ChatMessage message(long id, long userId, String senderName, String senderProfileImage) {
+        return ChatMessage.builder()
+                .id(id)
+                .userid(userId)
+                .meetingId(1L)
+                .message("message" + id)
+                .senderName(senderName)
+                .senderProfileImage(senderProfileImage)
+                .messageType(ChatMessage.MessageType.TALK)
+                .build();
+    }
+
+    @Test
+    @DisplayName("발신자 정보가 저장된 메세지는 유저 조회 없이 저장된 이름, 프로필 이미지로 응답")
+    void toChatMessageDto_usesSenderSnapshot() {
+        ChatMessageRes result = chatMapper.toChatMessageDto(message(1L, 2L, "snapshot-name", "snapshot-image"));
+
+        assertThat(result.getSender()).isEqualTo("snapshot-name");
+        assertThat(result.getProfileImage()).isEqualTo("snapshot-image");
+        verify(userService, never()).findUserProfileForChat(any());
+    }
+
+    @Test
+    @DisplayName("발신자 정보가 없는 이전 메세지의 발신자만 중복 없이 한 번에 조회")
+    void toChatMessageDtoList_resolvesOnlyLegacyMessages() {
+        when(userService.findUserProfilesForChat(Set.of(3L))).thenReturn(Map.of(3L,
+                UserProfileRes.builder().username("current-name").profileImage("current-image").build()));
+
+        List<ChatMessageRes> result = chatMapper.toChatMessageDtoList(List.of(
+                message(1L, 2L, "snapshot-name", null),
+                message(2L, 3L, null, null),
+                message(3L, 3L, null, null)));
+
+        assertThat(result).extracting(ChatMessageRes::getSender)
+                .containsExactly("snapshot-name", "current-name", "current-name");
+        assertThat(result).extracting(ChatMessageRes::getProfileImage)
+                .containsExactly(null, "current-image", "current-image");
+        verify(userService).findUserProfilesForChat(Set.of(3L));
+    }
+}
@@ -0,0 +1,33 @@
+package com.techeersalon.moitda.domain.chat.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatMessageResTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 2^53 보다 큰 Snowflake id
+    private static final long MESSAGE_ID = 380_000_000_000_000_123L;
+
+    @Test
+    @DisplayName("메세지 id 는 문자열 하나로 응답하고 다시 읽어도 값이 유지됨 (최근 메세지 캐시)")
+    void id_isSerializedAsString() throws Exception {
+        ChatMessageRes message = ChatMessageRes.builder()
+                .Id(MESSAGE_ID)
+                .userid(1L)
+                .content("hi")
+                .build();
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(message));
+
+        assertThat(json.get("id").isTextual()).isTrue();
+        assertThat(json.get("id").asText()).isEqualTo(String.valueOf(MESSAGE_ID));
+        assertThat(json.has("Id")).isFalse();
+        assertThat(objectMapper.readValue(json.toString(), ChatMessageRes.class).getId()).isEqualTo(MESSAGE_ID);
+    }
+}
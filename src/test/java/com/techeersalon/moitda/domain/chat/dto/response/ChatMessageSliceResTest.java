@@ -0,0 +1,50 @@
+package com.techeersalon.moitda.domain.chat.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatMessageSliceResTest {
+
+    private ChatMessageRes message(long id) {
+        return ChatMessageRes.builder().Id(id).content("message" + id).build();
+    }
+
+    @Test
+    @DisplayName("size + 1 개를 받으면 size 개만 담고 마지막 메세지 id 가 다음 커서")
+    void of_hasNext() {
+        ChatMessageSliceRes slice = ChatMessageSliceRes.of(List.of(message(5L), message(4L), message(3L)), 2);
+
+        assertThat(slice.getMessageList()).extracting(ChatMessageRes::getId).containsExactly(5L, 4L);
+        assertThat(slice.getElementsPerPage()).isEqualTo(2);
+        assertThat(slice.getHasNext()).isTrue();
+        assertThat(slice.getNextCursor()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("size 개 이하면 마지막 페이지, 커서 없음")
+    void of_lastPage() {
+        ChatMessageSliceRes slice = ChatMessageSliceRes.of(List.of(message(5L), message(4L)), 2);
+
+        assertThat(slice.getMessageList()).hasSize(2);
+        assertThat(slice.getHasNext()).isFalse();
+        assertThat(slice.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("다음 커서는 2^53 보다 큰 id 도 값이 바뀌지 않도록 문자열로 응답")
+    void nextCursor_isSerializedAsString() throws Exception {
+        long id = 380_000_000_000_000_123L;
+        ChatMessageSliceRes slice = ChatMessageSliceRes.of(List.of(message(id + 1), message(id), message(id - 1)), 2);
+
+        JsonNode json = new ObjectMapper().readTree(new ObjectMapper().writeValueAsString(slice));
+
+        assertThat(json.get("next_cursor").isTextual()).isTrue();
+        assertThat(json.get("next_cursor").asText()).isEqualTo(String.valueOf(id));
+    }
+}
@@ -0,0 +1,70 @@
+package com.techeersalon.moitda.domain.chat.repository;
+
+import com.techeersalon.moitda.domain.chat.entity.ChatMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageBatchRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @InjectMocks
+    private ChatMessageBatchRepository chatMessageBatchRepository;
+
+    private ChatMessageRow row(long id, long roomId) {
+        return ChatMessageRow.builder()
+                .id(id)
+                .userId(1L)
+                .senderName("name1")
+                .roomId(roomId)
+                .message("hi")
+                .messageType(ChatMessage.MessageType.TALK)
+                .createAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("중복 id 만 무시하고 채팅방마다 가장 큰 메세지 id 로 한 번 갱신")
+    @SuppressWarnings("unchecked")
+    void saveAll_ignoresOnlyDuplicateIds() {
+        chatMessageBatchRepository.saveAll(List.of(row(10L, 1L), row(12L, 1L), row(11L, 2L)));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(sql.capture(), args.capture());
+
+        assertThat(sql.getAllValues().get(0))
+                .startsWith("INSERT INTO chat_message")
+                .doesNotContain("IGNORE")
+                .endsWith("ON DUPLICATE KEY UPDATE id = id");
+        assertThat(args.getAllValues().get(0)).hasSize(3);
+
+        List<Object[]> rooms = args.getAllValues().get(1);
+        assertThat(rooms).hasSize(2);
+        assertThat(rooms).anySatisfy(room -> assertThat(room).containsExactly(12L, 1L, 12L));
+        assertThat(rooms).anySatisfy(room -> assertThat(room).containsExactly(11L, 2L, 11L));
+    }
+
+    @Test
+    @DisplayName("저장할 메세지가 없으면 쿼리를 보내지 않음")
+    void saveAll_empty() {
+        chatMessageBatchRepository.saveAll(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,183 @@
+package com.techeersalon.moitda.domain.chat.service;
+
+import com.techeersalon.moitda.domain.chat.dto.mapper.ChatMapper;
+import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageRes;
+import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageSliceRes;
+import com.techeersalon.moitda.domain.chat.entity.ChatMessage;
+import com.techeersalon.moitda.domain.chat.exception.MessageNotFoundException;
+import com.techeersalon.moitda.domain.chat.repository.ChatMessageRepository;
+import com.techeersalon.moitda.domain.chat.repository.ChatMessageRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatMessageServiceTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final int CACHE_SIZE = 50;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private ChatMapper chatMapper;
+    @Mock
+    private ChatMessageStream chatMessageStream;
+    @Mock
+    private ChatRecentMessageCache chatRecentMessageCache;
+    @InjectMocks
+    private ChatMessageService chatMessageService;
+
+    @BeforeEach
+    void setUp() {
+        when(chatRecentMessageCache.size()).thenReturn(CACHE_SIZE);
+        when(chatRecentMessageCache.getLatest(anyLong(), anyInt())).thenReturn(Optional.empty());
+    }
+
+    private ChatMessageRes message(long id) {
+        return ChatMessageRes.builder().Id(id).userid(1L).content("message" + id).build();
+    }
+
+    private List<Long> ids(List<ChatMessageRes> messages) {
+        return messages.stream().map(ChatMessageRes::getId).toList();
+    }
+
+    // DB 에 저장된 최신 메세지 (엔티티 변환 결과만 사용)
+    private void givenSavedMessages(long... ids) {
+        List<ChatMessage> entities = Arrays.stream(ids).mapToObj(id -> ChatMessage.builder().id(id).build()).toList();
+        when(chatMessageRepository.findByMeetingIdAndIdLessThanOrderByIdDesc(ROOM_ID, Long.MAX_VALUE, PageRequest.of(0, CACHE_SIZE)))
+                .thenReturn(entities);
+        when(chatMapper.toChatMessageDtoList(entities))
+                .thenReturn(Arrays.stream(ids).mapToObj(this::message).toList());
+    }
+
+    private ChatMessageRow unsavedRow(long id) {
+        return ChatMessageRow.builder()
+                .id(id)
+                .userId(1L)
+                .roomId(ROOM_ID)
+                .message("message" + id)
+                .messageType(ChatMessage.MessageType.TALK)
+                .createAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 캐시가 있으면 DB 를 조회하지 않음")
+    void getLatestMessageList_cacheHit() {
+        when(chatRecentMessageCache.getLatest(ROOM_ID, 10)).thenReturn(Optional.of(List.of(message(2L), message(1L))));
+
+        List<ChatMessageRes> result = chatMessageService.getLatestMessageList(ROOM_ID, 0, 10);
+
+        assertThat(ids(result)).containsExactly(2L, 1L);
+        verify(chatMessageRepository, never()).findByMeetingIdAndIdLessThanOrderByIdDesc(anyLong(), anyLong(), any());
+        verify(chatRecentMessageCache, never()).fill(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 저장 대기 메세지를 먼저, DB 를 다음에 읽어 합친 뒤 캐시를 채움")
+    void getLatestMessageList_fillsFromStreamAndDb() {
+        ReflectionTestUtils.setField(chatMessageService, "writeBehindEnabled", true);
+        when(chatMessageStream.unsavedRows(eq(ROOM_ID), anyInt())).thenReturn(List.of(unsavedRow(30L), unsavedRow(20L)));
+        givenSavedMessages(20L, 10L);
+
+        List<ChatMessageRes> result = chatMessageService.getLatestMessageList(ROOM_ID, 0, 2);
+
+        assertThat(ids(result)).containsExactly(30L, 20L);
+        InOrder order = inOrder(chatMessageStream, chatMessageRepository, chatRecentMessageCache);
+        order.verify(chatMessageStream).unsavedRows(eq(ROOM_ID), anyInt());
+        order.verify(chatMessageRepository).findByMeetingIdAndIdLessThanOrderByIdDesc(anyLong(), anyLong(), any());
+        order.verify(chatRecentMessageCache).fill(eq(ROOM_ID), argThat(
+                messages -> ids(messages).equals(List.of(30L, 20L, 10L))));
+    }
+
+    @Test
+    @DisplayName("write-behind 를 쓰지 않으면 저장 대기 메세지를 조회하지 않음")
+    void getLatestMessageList_withoutWriteBehind() {
+        givenSavedMessages(2L, 1L);
+
+        List<ChatMessageRes> result = chatMessageService.getLatestMessageList(ROOM_ID, 0, 10);
+
+        assertThat(ids(result)).containsExactly(2L, 1L);
+        verify(chatMessageStream, never()).unsavedRows(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("메세지가 없는 채팅방의 첫 페이지는 이전과 같이 MessageNotFoundException")
+    void getLatestMessageList_emptyRoom() {
+        givenSavedMessages();
+
+        assertThatThrownBy(() -> chatMessageService.getLatestMessageList(ROOM_ID, 0, 10))
+                .isInstanceOf(MessageNotFoundException.class);
+        verify(chatRecentMessageCache).fill(ROOM_ID, List.of());
+    }
+
+    @Test
+    @DisplayName("커서 없는 첫 스크롤은 최근 메세지 캐시에서 size + 1 개로 다음 페이지 여부 판단")
+    void scrollMessageList_firstPageFromCache() {
+        when(chatRecentMessageCache.getLatest(ROOM_ID, 3))
+                .thenReturn(Optional.of(List.of(message(30L), message(20L), message(10L))));
+
+        ChatMessageSliceRes slice = chatMessageService.scrollMessageList(ROOM_ID, null, 2);
+
+        assertThat(ids(slice.getMessageList())).containsExactly(30L, 20L);
+        assertThat(slice.getHasNext()).isTrue();
+        assertThat(slice.getNextCursor()).isEqualTo(20L);
+        verify(chatMessageRepository, never()).findByMeetingIdAndIdLessThanOrderByIdDesc(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 DB 에서 before 이전 메세지를 조회")
+    void scrollMessageList_withCursorReadsDb() {
+        List<ChatMessage> entities = List.of(ChatMessage.builder().id(9L).build());
+        when(chatMessageRepository.findByMeetingIdAndIdLessThanOrderByIdDesc(ROOM_ID, 10L, PageRequest.of(0, 3)))
+                .thenReturn(entities);
+        when(chatMapper.toChatMessageDtoList(entities)).thenReturn(List.of(message(9L)));
+
+        ChatMessageSliceRes slice = chatMessageService.scrollMessageList(ROOM_ID, 10L, 2);
+
+        assertThat(ids(slice.getMessageList())).containsExactly(9L);
+        assertThat(slice.getHasNext()).isFalse();
+        assertThat(slice.getNextCursor()).isNull();
+        verify(chatRecentMessageCache, never()).getLatest(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("size 는 1 ~ MAX_SCROLL_SIZE 로 제한하고, 캐시보다 큰 첫 페이지는 DB 에서 조회")
+    void scrollMessageList_clampsSize() {
+        chatMessageService.scrollMessageList(ROOM_ID, null, 1_000);
+        chatMessageService.scrollMessageList(ROOM_ID, 10L, 0);
+
+        verify(chatMessageRepository).findByMeetingIdAndIdLessThanOrderByIdDesc(ROOM_ID, Long.MAX_VALUE, PageRequest.of(0, 101));
+        verify(chatMessageRepository).findByMeetingIdAndIdLessThanOrderByIdDesc(ROOM_ID, 10L, PageRequest.of(0, 2));
+        verify(chatRecentMessageCache, never()).getLatest(anyLong(), anyInt());
+    }
+}
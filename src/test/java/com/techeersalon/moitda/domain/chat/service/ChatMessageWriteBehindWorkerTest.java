@@ -0,0 +1,116 @@
+package com.techeersalon.moitda.domain.chat.service;
+
+import com.techeersalon.moitda.domain.chat.entity.ChatMessage;
+import com.techeersalon.moitda.domain.chat.repository.ChatMessageBatchRepository;
+import com.techeersalon.moitda.domain.chat.repository.ChatMessageRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatMessageWriteBehindWorkerTest {
+
+    private static final String CONSUMER = "node-1";
+    private static final int BATCH_SIZE = 2;
+
+    private ChatMessageStream chatMessageStream;
+    private ChatMessageBatchRepository chatMessageBatchRepository;
+    private ChatMessageWriteBehindWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageStream = mock(ChatMessageStream.class);
+        chatMessageBatchRepository = mock(ChatMessageBatchRepository.class);
+        worker = new ChatMessageWriteBehindWorker(chatMessageStream, chatMessageBatchRepository, CONSUMER, BATCH_SIZE, 60_000);
+        when(chatMessageStream.readPending(anyString(), anyInt())).thenReturn(List.of());
+        when(chatMessageStream.claimIdle(anyString(), any(), anyInt())).thenReturn(List.of());
+        when(chatMessageStream.readNew(anyString(), anyInt())).thenReturn(List.of());
+    }
+
+    private MapRecord<String, Object, Object> record(String recordId, long messageId) {
+        MapRecord<String, Object, Object> record = StreamRecords.newRecord()
+                .in("chat:message:stream")
+                .withId(RecordId.of(recordId))
+                .ofMap(Map.<Object, Object>of("id", String.valueOf(messageId)));
+        when(chatMessageStream.toRow(record)).thenReturn(ChatMessageRow.builder()
+                .id(messageId)
+                .userId(1L)
+                .roomId(1L)
+                .message("hi")
+                .messageType(ChatMessage.MessageType.TALK)
+                .createAt(LocalDateTime.now())
+                .build());
+        return record;
+    }
+
+    @Test
+    @DisplayName("pending, 다른 consumer 의 메세지를 먼저 저장하고 batch 가 가득 차면 새 메세지를 계속 읽음")
+    void flush_savesPendingFirstThenDrainsNew() {
+        MapRecord<String, Object, Object> pending = record("1-0", 1L);
+        MapRecord<String, Object, Object> first = record("2-0", 2L);
+        MapRecord<String, Object, Object> second = record("3-0", 3L);
+        MapRecord<String, Object, Object> third = record("4-0", 4L);
+        when(chatMessageStream.readPending(CONSUMER, BATCH_SIZE)).thenReturn(List.of(pending));
+        when(chatMessageStream.readNew(CONSUMER, BATCH_SIZE)).thenReturn(List.of(first, second), List.of(third));
+
+        worker.flush();
+
+        InOrder order = inOrder(chatMessageBatchRepository, chatMessageStream);
+        order.verify(chatMessageBatchRepository).saveAll(any());
+        order.verify(chatMessageStream).acknowledge(List.of(RecordId.of("1-0")));
+        order.verify(chatMessageStream).acknowledge(List.of(RecordId.of("2-0"), RecordId.of("3-0")));
+        order.verify(chatMessageStream).acknowledge(List.of(RecordId.of("4-0")));
+    }
+
+    @Test
+    @DisplayName("DB 연결 실패 시 ack 하지 않아 다음 주기에 다시 저장")
+    void flush_keepsPendingOnConnectionFailure() {
+        MapRecord<String, Object, Object> message = record("1-0", 1L);
+        when(chatMessageStream.readNew(CONSUMER, BATCH_SIZE)).thenReturn(List.of(message));
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(chatMessageBatchRepository).saveAll(any());
+
+        worker.flush();
+
+        verify(chatMessageStream, never()).acknowledge(any());
+        verify(chatMessageStream, never()).moveToDeadLetter(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("데이터 오류로 batch 가 실패하면 한 건씩 저장하고 실패한 메세지만 dead letter 로 이동")
+    void flush_movesOnlyInvalidMessageToDeadLetter() {
+        MapRecord<String, Object, Object> valid = record("1-0", 1L);
+        MapRecord<String, Object, Object> invalid = record("2-0", 2L);
+        when(chatMessageStream.readNew(CONSUMER, BATCH_SIZE)).thenReturn(List.of(valid, invalid), List.of());
+        doThrow(new DataIntegrityViolationException("Data too long for column 'message'"))
+                .when(chatMessageBatchRepository).saveAll(argThat(rows ->
+                        rows.stream().anyMatch(row -> row.getId() == 2L)));
+
+        worker.flush();
+
+        verify(chatMessageStream).moveToDeadLetter(eq(invalid), anyString());
+        verify(chatMessageStream, never()).moveToDeadLetter(eq(valid), anyString());
+        verify(chatMessageStream).acknowledge(List.of(RecordId.of("1-0"), RecordId.of("2-0")));
+    }
+}
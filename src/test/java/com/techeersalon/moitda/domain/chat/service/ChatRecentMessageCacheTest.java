@@ -0,0 +1,101 @@
+package com.techeersalon.moitda.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techeersalon.moitda.domain.chat.dto.response.ChatMessageRes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ChatRecentMessageCacheTest {
+
+    private static final int SIZE = 3;
+    private static final long TTL_SECONDS = 600;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StringRedisTemplate stringRedisTemplate;
+    private ChatRecentMessageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        cache = new ChatRecentMessageCache(stringRedisTemplate, objectMapper, SIZE, TTL_SECONDS);
+    }
+
+    private ChatMessageRes message(long id) {
+        return ChatMessageRes.builder().Id(id).userid(1L).content("message" + id).build();
+    }
+
+    private String member(long id) throws Exception {
+        return String.format("%019d", id) + objectMapper.writeValueAsString(message(id));
+    }
+
+    @Test
+    @DisplayName("캐시 크기보다 많이 요청하면 Redis 를 조회하지 않음")
+    void getLatest_countLargerThanSize() {
+        assertThat(cache.getLatest(1L, SIZE + 1)).isEmpty();
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("DB 에서 채우지 않은 캐시(nil)는 empty, 채운 캐시는 id 를 떼고 최신순 그대로 반환")
+    @SuppressWarnings("unchecked")
+    void getLatest_parsesFilledCache() throws Exception {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("chat:recent-messages:1")), any(Object[].class)))
+                .thenReturn(List.of(member(3L), member(2L)));
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("chat:recent-messages:2")), any(Object[].class)))
+                .thenReturn(null);
+
+        Optional<List<ChatMessageRes>> filled = cache.getLatest(1L, 2);
+        Optional<List<ChatMessageRes>> notFilled = cache.getLatest(2L, 2);
+
+        assertThat(filled).isPresent();
+        assertThat(filled.get()).extracting(ChatMessageRes::getId).containsExactly(3L, 2L);
+        assertThat(filled.get()).extracting(ChatMessageRes::getContent).containsExactly("message3", "message2");
+        assertThat(notFilled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 오류는 삼키고 캐시가 없는 것으로 처리")
+    @SuppressWarnings("unchecked")
+    void getLatest_redisFailure() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(cache.getLatest(1L, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB 에서 채울 때는 표시와 함께, 새 메세지는 표시 없이 같은 스크립트로 합침")
+    @SuppressWarnings("unchecked")
+    void fillAndAppend_passMembersWithPaddedId() throws Exception {
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+
+        cache.fill(1L, List.of(message(12L), message(11L)));
+        cache.append(1L, message(13L));
+
+        verify(stringRedisTemplate, times(2))
+                .execute(any(RedisScript.class), eq(List.of("chat:recent-messages:1")), args.capture());
+        assertThat(args.getAllValues().get(0))
+                .containsExactly(String.valueOf(TTL_SECONDS), String.valueOf(SIZE), "1", member(12L), member(11L));
+        assertThat(args.getAllValues().get(1))
+                .containsExactly(String.valueOf(TTL_SECONDS), String.valueOf(SIZE), "0", member(13L));
+    }
+}
@@ -0,0 +1,60 @@
+package com.techeersalon.moitda.domain.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatSenderSnapshotUpdaterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ChatRecentMessageCache chatRecentMessageCache;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        chatRecentMessageCache = mock(ChatRecentMessageCache.class);
+        when(jdbcTemplate.queryForList(startsWith("SELECT username"), eq(1L)))
+                .thenReturn(List.of(Map.of("username", "new-name", "profile_image", "new-image")));
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(3);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1L))).thenReturn(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("프로필 변경 시 현재 프로필로 갱신하고, 저장 대기 중이던 메세지를 위해 예약 시각 이후 한 번 더 갱신")
+    void refresh_rerunsOnceAfterDelay() {
+        ChatSenderSnapshotUpdater updater = new ChatSenderSnapshotUpdater(jdbcTemplate, chatRecentMessageCache, 0);
+
+        updater.refresh(1L);
+        updater.rerunPending();
+        updater.rerunPending();
+
+        verify(jdbcTemplate, times(2)).update(anyString(),
+                eq("new-name"), eq("new-image"), eq(1L), eq("new-name"), eq("new-image"));
+        verify(chatRecentMessageCache, times(2)).evict(7L);
+    }
+
+    @Test
+    @DisplayName("예약 시각 전에는 다시 갱신하지 않음")
+    void rerunPending_waitsForDelay() {
+        ChatSenderSnapshotUpdater updater = new ChatSenderSnapshotUpdater(jdbcTemplate, chatRecentMessageCache, 60_000);
+
+        updater.refresh(1L);
+        updater.rerunPending();
+
+        verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+        verify(chatRecentMessageCache, times(1)).evict(7L);
+    }
+}
@@ -0,0 +1,60 @@
+package com.techeersalon.moitda.domain.chat.service;
+
+import com.techeersalon.moitda.domain.meetings.service.AdmissionResultSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RedisChannelSubscriptionManagerTest {
+
+    private RedisMessageListenerContainer container;
+    private RedisMessageSubscriber redisMessageSubscriber;
+    private RedisListSubscriber redisListSubscriber;
+    private AdmissionResultSubscriber admissionResultSubscriber;
+    private RedisChannelSubscriptionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        container = mock(RedisMessageListenerContainer.class);
+        redisMessageSubscriber = mock(RedisMessageSubscriber.class);
+        redisListSubscriber = mock(RedisListSubscriber.class);
+        admissionResultSubscriber = mock(AdmissionResultSubscriber.class);
+        manager = new RedisChannelSubscriptionManager(container, redisMessageSubscriber, redisListSubscriber, admissionResultSubscriber);
+    }
+
+    @Test
+    @DisplayName("같은 채팅방의 첫 구독에서만 Redis 채널을 구독하고 마지막 구독 해제에서 해제")
+    void subscribe_countsLocalSubscriptions() {
+        manager.subscribe("s1", "sub-0", "/sub/chat/room/7");
+        manager.subscribe("s2", "sub-0", "/sub/chat/room/7");
+
+        verify(container, times(1)).addMessageListener(eq(redisMessageSubscriber), eq(ChannelTopic.of("roomId7")));
+        assertThat(manager.subscriberCount("/sub/chat/room/7")).isEqualTo(2);
+
+        manager.unsubscribe("s1", "sub-0");
+        verify(container, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        manager.releaseSession("s2");
+        verify(container).removeMessageListener(eq(redisMessageSubscriber), eq(ChannelTopic.of("roomId7")));
+        assertThat(manager.subscriberCount("/sub/chat/room/7")).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자 채널 구독은 채팅방 목록과 대기열 결과 채널을 함께 구독")
+    void subscribe_userDestination() {
+        manager.subscribe("s1", "sub-1", "/sub/room/3");
+
+        verify(container).addMessageListener(eq(redisListSubscriber), eq(ChannelTopic.of("memberId3")));
+        verify(container).addMessageListener(eq(admissionResultSubscriber), eq(ChannelTopic.of("admissionMemberId3")));
+    }
+}
@@ -0,0 +1,100 @@
+package com.techeersalon.moitda.domain.meetings.index;
+
+import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalMeetingLocationIndexTest {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), Meeting.LOCATION_SRID);
+    // 서울 시청
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+
+    private LocalMeetingLocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new LocalMeetingLocationIndex();
+    }
+
+    private MeetingLocation location(Long id, Long categoryId, double latitude, double longitude) {
+        Meeting meeting = Meeting.builder()
+                .id(id)
+                .categoryId(categoryId)
+                .participantsCount(1)
+                .maxParticipantsCount(10)
+                .appointmentTime("2024-06-01T12:00")
+                .locationPoint(GEOMETRY_FACTORY.createPoint(new Coordinate(longitude, latitude)))
+                .build();
+        return MeetingLocation.from(meeting);
+    }
+
+    @Test
+    @DisplayName("반경 내 미팅만 가까운 순으로 조회")
+    void findNearby_sortedByDistance() {
+        //given
+        index.rebuild(List.of(
+                location(1L, 1L, LATITUDE + 0.010, LONGITUDE),   // 약 1.1km
+                location(2L, 1L, LATITUDE + 0.001, LONGITUDE),   // 약 0.1km
+                location(3L, 2L, LATITUDE, LONGITUDE + 0.012),   // 약 1.1km
+                location(4L, 1L, LATITUDE + 0.020, LONGITUDE)    // 약 2.2km, 반경 밖
+        ));
+
+        //when
+        List<Long> result = index.findNearby(LATITUDE, LONGITUDE, 1500, null);
+
+        //then
+        assertThat(index.isReady()).isTrue();
+        assertThat(result).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("카테고리 필터와 갱신, 삭제 반영")
+    void findNearby_categoryAndUpdates() {
+        //given
+        index.rebuild(List.of(
+                location(1L, 1L, LATITUDE + 0.001, LONGITUDE),
+                location(2L, 2L, LATITUDE + 0.002, LONGITUDE)
+        ));
+
+        //when
+        index.upsert(location(1L, 1L, LATITUDE + 0.050, LONGITUDE)); // 반경 밖으로 이동
+        index.upsert(location(3L, 2L, LATITUDE + 0.001, LONGITUDE));
+        index.remove(2L);
+
+        //then
+        assertThat(index.findNearby(LATITUDE, LONGITUDE, 1500, 2L)).containsExactly(3L);
+        assertThat(index.findNearby(LATITUDE, LONGITUDE, 1500, null)).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DB 조회 이후 변경된 미팅은 재생성, 정합성 검사에서 이전 값으로 되돌리지 않음")
+    void rebuild_keepsChangesAfterSnapshot() {
+        //given
+        index.rebuild(List.of(location(1L, 1L, LATITUDE + 0.001, LONGITUDE)));
+        long snapshotVersion = index.snapshotVersion();
+        // DB 조회 결과: 1번은 이동 전, 2번은 아직 없음
+        List<MeetingLocation> loaded = List.of(location(1L, 1L, LATITUDE + 0.001, LONGITUDE));
+
+        //when
+        index.upsert(location(1L, 1L, LATITUDE + 0.050, LONGITUDE)); // 반경 밖으로 이동
+        index.upsert(location(2L, 1L, LATITUDE + 0.002, LONGITUDE));
+        long drift = index.reconcile(loaded, snapshotVersion);
+        index.rebuild(loaded, snapshotVersion);
+
+        //then
+        assertThat(drift).isZero();
+        assertThat(index.findNearby(LATITUDE, LONGITUDE, 1500, null)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
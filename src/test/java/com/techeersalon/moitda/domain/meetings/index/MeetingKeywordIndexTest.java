@@ -0,0 +1,111 @@
+package com.techeersalon.moitda.domain.meetings.index;
+
+import com.techeersalon.moitda.domain.meetings.index.MeetingKeywordIndex.KeywordDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeetingKeywordIndexTest {
+
+    private MeetingKeywordIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MeetingKeywordIndex();
+        index.rebuild(List.of(
+                KeywordDocument.of(1, "보드게임 번개", "홈즈앤루팡", "서울 마포구 양화로 2"),
+                KeywordDocument.of(2, "강남 보드 게임 모임", "레드버튼", "서울 강남구 테헤란로 1"),
+                KeywordDocument.of(3, "한강 러닝", null, "서울 영등포구 여의동로 330"),
+                KeywordDocument.of(4, "보드게임 카페 투어", null, "서울 강남구 강남대로 2")
+        ));
+    }
+
+    private List<Integer> autocompleteIds(String keyword) {
+        return index.autocomplete(keyword, 10).stream()
+                .map(KeywordDocument::getMeetingId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("제목이 검색어로 시작하는 미팅이 먼저, 공백과 관계없이 포함된 미팅이 다음")
+    void autocomplete_prefixFirst() {
+        assertThat(autocompleteIds("보드게임")).containsExactly(4, 1, 2);
+        assertThat(autocompleteIds("보드 게")).containsExactly(4, 1, 2);
+    }
+
+    @Test
+    @DisplayName("장소명, 주소도 검색하고 한 글자 검색어도 지원")
+    void autocomplete_placeAndSingleCharacter() {
+        assertThat(autocompleteIds("여의")).containsExactly(3);
+        assertThat(autocompleteIds("강남")).containsExactly(2, 4);
+        assertThat(autocompleteIds("런")).isEmpty();
+        assertThat(autocompleteIds("러")).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("수정, 삭제가 바로 반영")
+    void autocomplete_incrementalUpdate() {
+        index.upsert(KeywordDocument.of(3, "한강 보드게임", null, "서울 영등포구 여의동로 330"));
+        index.remove(1);
+
+        assertThat(autocompleteIds("보드게임")).containsExactly(4, 3, 2);
+        assertThat(autocompleteIds("러닝")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷 저장 후 다시 읽으면 같은 결과")
+    void snapshot_roundTrip(@TempDir File directory) throws IOException {
+        File snapshot = new File(directory, "keyword.snapshot");
+        index.writeSnapshot(snapshot);
+
+        MeetingKeywordIndex restored = new MeetingKeywordIndex();
+        int loaded = restored.loadSnapshot(snapshot);
+
+        assertThat(loaded).isEqualTo(4);
+        assertThat(restored.isReady()).isTrue();
+        assertThat(restored.autocomplete("보드게임", 10).stream().map(KeywordDocument::getMeetingId).toList())
+                .containsExactly(4, 1, 2);
+    }
+
+    @Test
+    @DisplayName("DB 조회 이후 반영된 수정, 삭제는 재생성에서 되돌리지 않음")
+    void rebuild_keepsChangesAfterSnapshot() {
+        long snapshotVersion = index.snapshotVersion();
+        // DB 조회 결과에는 3번 수정, 1번 삭제, 5번 생성이 반영되지 않음
+        List<KeywordDocument> loaded = List.of(
+                KeywordDocument.of(1, "보드게임 번개", "홈즈앤루팡", "서울 마포구 양화로 2"),
+                KeywordDocument.of(3, "한강 러닝", null, "서울 영등포구 여의동로 330"));
+
+        index.upsert(KeywordDocument.of(3, "한강 보드게임", null, "서울 영등포구 여의동로 330"));
+        index.remove(1);
+        index.upsert(KeywordDocument.of(5, "보드게임 정모", null, "서울 종로구 종로 1"));
+        index.rebuild(loaded, snapshotVersion);
+
+        assertThat(autocompleteIds("보드게임")).containsExactly(5, 3);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정합성 검사는 DB와 다른 미팅(다른 인스턴스의 변경)을 세고 재생성")
+    void reconcile_appliesOtherInstanceChanges() {
+        List<KeywordDocument> active = List.of(
+                KeywordDocument.of(1, "보드게임 번개", "홈즈앤루팡", "서울 마포구 양화로 2"),
+                KeywordDocument.of(2, "강남 보드 게임 모임", "레드버튼", "서울 강남구 테헤란로 1"),
+                KeywordDocument.of(3, "한강 러닝 크루", null, "서울 영등포구 여의동로 330"),
+                KeywordDocument.of(6, "보드게임 입문", null, "서울 송파구 올림픽로 300"));
+
+        long drift = index.reconcile(active, index.snapshotVersion());
+
+        // 3번 제목 변경, 4번 종료, 6번 생성
+        assertThat(drift).isEqualTo(3);
+        assertThat(autocompleteIds("보드게임")).containsExactly(6, 1, 2);
+        assertThat(index.reconcile(active, index.snapshotVersion())).isZero();
+    }
+}
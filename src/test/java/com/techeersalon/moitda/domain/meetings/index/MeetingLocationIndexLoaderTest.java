@@ -0,0 +1,56 @@
+package com.techeersalon.moitda.domain.meetings.index;
+
+import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingIndexRow;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class MeetingLocationIndexLoaderTest {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), Meeting.LOCATION_SRID);
+    // 서울 시청
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+
+    private MeetingIndexRow row(Long id, Point locationPoint) {
+        MeetingIndexRow row = mock(MeetingIndexRow.class);
+        doReturn(id).when(row).getId();
+        doReturn(locationPoint).when(row).getLocationPoint();
+        doReturn(1L).when(row).getCategoryId();
+        doReturn(1).when(row).getParticipantsCount();
+        doReturn(10).when(row).getMaxParticipantsCount();
+        doReturn("2024-06-01T12:00").when(row).getAppointmentTime();
+        return row;
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 미팅은 건너뛰고 위치 인덱스 생성")
+    void rebuild_skipsMeetingWithoutLocationPoint() {
+        //given
+        MeetingRepository meetingRepository = mock(MeetingRepository.class);
+        LocalMeetingLocationIndex index = new LocalMeetingLocationIndex();
+        // 2번 미팅은 location_point 이관 전 데이터
+        doReturn(List.of(
+                row(1L, GEOMETRY_FACTORY.createPoint(new Coordinate(LONGITUDE, LATITUDE + 0.001))),
+                row(2L, null)
+        )).when(meetingRepository).findAllIndexRowsByEndTimeIsNull();
+
+        //when
+        new MeetingLocationIndexLoader(meetingRepository, index).rebuild();
+
+        //then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.findNearby(LATITUDE, LONGITUDE, 1500, null)).containsExactly(1L);
+    }
+}
@@ -0,0 +1,29 @@
+package com.techeersalon.moitda.domain.meetings.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class RedisMeetingLocationIndexTest {
+
+    @Test
+    @DisplayName("Redis 장애 시 커밋 이후의 인덱스 갱신은 예외를 던지지 않음")
+    void remove_redisDown() {
+        //given
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        doThrow(new RedisConnectionFailureException("connection refused"))
+                .when(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        RedisMeetingLocationIndex index = new RedisMeetingLocationIndex(stringRedisTemplate);
+
+        //when, then
+        assertDoesNotThrow(() -> index.remove(1L));
+    }
+}
@@ -0,0 +1,322 @@
+package com.techeersalon.moitda.domain.meetings.service;
+
+import com.techeersalon.moitda.domain.meetings.dto.mapper.PointMapper;
+import com.techeersalon.moitda.domain.meetings.dto.mapper.SearchCursor;
+import com.techeersalon.moitda.domain.meetings.dto.response.AdmissionStatus;
+import com.techeersalon.moitda.domain.meetings.dto.response.GetMeetingDetailRes;
+import com.techeersalon.moitda.domain.meetings.dto.response.GetSearchPageRes;
+import com.techeersalon.moitda.domain.meetings.entity.Meeting;
+import com.techeersalon.moitda.domain.meetings.entity.MeetingParticipant;
+import com.techeersalon.moitda.domain.meetings.exception.meeting.MeetingIsFullException;
+import com.techeersalon.moitda.domain.meetings.index.MeetingLocationIndex;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingDistanceRow;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingImageRepository;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingParticipantRepository;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingRepository;
+import com.techeersalon.moitda.domain.user.entity.Role;
+import com.techeersalon.moitda.domain.user.entity.User;
+import com.techeersalon.moitda.domain.user.exception.UserNotFoundException;
+import com.techeersalon.moitda.domain.user.repository.UserRepository;
+import com.techeersalon.moitda.domain.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+    @Mock
+    private MeetingParticipantRepository meetingParticipantRepository;
+    @Mock
+    private UserService userService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private MeetingImageRepository meetingImageRepository;
+    @Mock
+    private MeetingDetailCache meetingDetailCache;
+    @Mock
+    private MeetingLocationIndex meetingLocationIndex;
+    @InjectMocks
+    private MeetingService meetingService;
+
+    private Meeting meeting(Long ownerId) {
+        return Meeting.builder()
+                .id(1L)
+                .userId(ownerId)
+                .username("owner")
+                .categoryId(1L)
+                .title("title")
+                .participantsCount(100)
+                .maxParticipantsCount(100)
+                .roadAddressName("서울 강동구 성내동 550")
+                .approvalRequired(true)
+                .appointmentTime("2024-06-01T12:00")
+                .build();
+    }
+
+    private User user(Long id) {
+        return User.builder()
+                .id(id)
+                .username("name" + id)
+                .email("user" + id + "@naver.com")
+                .profileImage("profile" + id)
+                .role(Role.USER)
+                .mannerStat(40)
+                .build();
+    }
+
+    private MeetingParticipant participant(Long userId, boolean isWaiting) {
+        return MeetingParticipant.builder()
+                .id(userId)
+                .meetingId(1L)
+                .userId(userId)
+                .username("name" + userId)
+                .isWaiting(isWaiting)
+                .isReviewed(false)
+                .build();
+    }
+
+    @Test
+    @DisplayName("모임 상세 조회 시 참가자 수와 관계없이 쿼리 수가 고정")
+    void findMeetingById_queryCountIsFixed() {
+        //given
+        List<MeetingParticipant> participants = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        LongStream.rangeClosed(1, 150).forEach(id -> {
+            participants.add(participant(id, id > 100));
+            users.add(user(id));
+        });
+
+        doReturn(Optional.of(meeting(1L))).when(meetingRepository).findById(1L);
+        doReturn(1L).when(userService).getLoginUserId();
+        doReturn(Collections.emptyList()).when(meetingImageRepository).findByMeetingId(1L);
+        doReturn(participants).when(meetingParticipantRepository).findAllByMeetingId(1L);
+        doReturn(users).when(userRepository).findAllById(anyIterable());
+
+        //when
+        GetMeetingDetailRes result = meetingService.findMeetingById(1L);
+
+        //then
+        assertThat(result.getParticipantList()).hasSize(100);
+        assertThat(result.getWaitingList()).hasSize(50);
+        assertThat(result.getProfileImage()).isEqualTo("profile1");
+        assertThat(result.getParticipantValid()).isTrue();
+
+        verify(meetingRepository, times(1)).findById(any());
+        verify(meetingImageRepository, times(1)).findByMeetingId(any());
+        verify(meetingParticipantRepository, times(1)).findAllByMeetingId(any());
+        verify(meetingParticipantRepository, never()).findByMeetingIdAndIsWaiting(any(), any());
+        verify(userRepository, times(1)).findAllById(anyIterable());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("모임 상세 캐시는 DB 조회 전에 받은 버전으로 저장")
+    void findMeetingById_putsWithVersionReadBeforeLoad() {
+        //given
+        doReturn("3").when(meetingDetailCache).version(1L);
+        doReturn(Optional.of(meeting(1L))).when(meetingRepository).findById(1L);
+        doReturn(1L).when(userService).getLoginUserId();
+        doReturn(Collections.emptyList()).when(meetingImageRepository).findByMeetingId(1L);
+        doReturn(List.of(participant(1L, false))).when(meetingParticipantRepository).findAllByMeetingId(1L);
+        doReturn(List.of(user(1L))).when(userRepository).findAllById(anyIterable());
+
+        //when
+        meetingService.findMeetingById(1L);
+
+        //then
+        InOrder inOrder = inOrder(meetingDetailCache, meetingRepository);
+        inOrder.verify(meetingDetailCache).version(1L);
+        inOrder.verify(meetingRepository).findById(1L);
+        inOrder.verify(meetingDetailCache).put(eq(1L), any(GetMeetingDetailRes.class), eq("3"));
+    }
+
+    @Test
+    @DisplayName("모임 상세 조회 시 참가자 유저가 없으면 예외")
+    void findMeetingById_participantUserNotFound() {
+        //given
+        doReturn(Optional.of(meeting(1L))).when(meetingRepository).findById(1L);
+        doReturn(Collections.emptyList()).when(meetingImageRepository).findByMeetingId(1L);
+        doReturn(List.of(participant(1L, false), participant(2L, true))).when(meetingParticipantRepository).findAllByMeetingId(1L);
+        doReturn(List.of(user(1L))).when(userRepository).findAllById(anyIterable());
+
+        //when, then
+        assertThrows(UserNotFoundException.class, () -> meetingService.findMeetingById(1L));
+    }
+
+    private Meeting firstComeMeeting(int participantsCount) {
+        return Meeting.builder()
+                .id(1L)
+                .userId(1L)
+                .username("owner")
+                .categoryId(1L)
+                .title("title")
+                .participantsCount(participantsCount)
+                .maxParticipantsCount(10)
+                .roadAddressName("서울 강동구 성내동 550")
+                .locationPoint(new GeometryFactory(new PrecisionModel(), Meeting.LOCATION_SRID)
+                        .createPoint(new Coordinate(127.1, 37.5)))
+                .approvalRequired(false)
+                .appointmentTime("2024-06-01T12:00")
+                .build();
+    }
+
+    @Test
+    @DisplayName("선착순 참가 신청 시 조회 이후 자리가 찼으면 참가자 수를 늘리지 않고 예외")
+    void addParticipantOfMeeting_seatTakenConcurrently() {
+        //given
+        // 조회 시점에는 자리가 있지만 조건부 UPDATE 시점에는 다른 신청이 마지막 자리를 가져간 상황
+        doReturn(user(2L)).when(userService).getLoginUser();
+        doReturn(Optional.of(firstComeMeeting(9))).when(meetingRepository).findById(1L);
+        doReturn(participant(2L, false)).when(meetingParticipantRepository).saveAndFlush(any());
+        doReturn(0).when(meetingRepository).increaseParticipantsCountIfAvailable(1L);
+
+        //when, then
+        assertThrows(MeetingIsFullException.class, () -> meetingService.addParticipantOfMeeting(1L));
+        verify(meetingLocationIndex, never()).upsert(any());
+        verify(meetingDetailCache, never()).evict(anyLong());
+    }
+
+    @Test
+    @DisplayName("참가 취소 시 조회 이후 승인된 신청이면 참가자 수 감소")
+    void removeParticipantFromMeeting_approvedConcurrently() {
+        //given
+        doReturn(participant(2L, true)).when(meetingParticipantRepository).findByMeetingIdAndUserId(1L, 2L);
+        doReturn(Optional.of(firstComeMeeting(5))).when(meetingRepository).findById(1L);
+        doReturn(0).when(meetingParticipantRepository).deleteIfWaitingStatus(2L, true);
+        doReturn(1).when(meetingParticipantRepository).deleteIfWaitingStatus(2L, false);
+
+        //when
+        meetingService.removeParticipantFromMeeting(1L, 2L);
+
+        //then
+        verify(meetingRepository, times(1)).decreaseParticipantsCount(1L);
+        verify(meetingLocationIndex, times(1)).upsert(argThat(location -> location.getParticipantsCount() == 4));
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 미팅은 참가 취소해도 위치 인덱스를 갱신하지 않고 정상 처리")
+    void removeParticipantFromMeeting_withoutLocationPoint() {
+        //given
+        // location_point 이관 전 데이터
+        doReturn(participant(2L, false)).when(meetingParticipantRepository).findByMeetingIdAndUserId(1L, 2L);
+        doReturn(Optional.of(meeting(1L))).when(meetingRepository).findById(1L);
+        doReturn(1).when(meetingParticipantRepository).deleteIfWaitingStatus(2L, false);
+
+        //when
+        meetingService.removeParticipantFromMeeting(1L, 2L);
+
+        //then
+        verify(meetingRepository, times(1)).decreaseParticipantsCount(1L);
+        verify(meetingLocationIndex, never()).upsert(any());
+    }
+
+    @Test
+    @DisplayName("대기열 입장 처리 시 남은 자리만큼 신청 순서대로 등록하고 참가자 수는 한 번에 증가")
+    void admitQueuedParticipants_admitsInOrderUntilFull() {
+        //given
+        // 남은 자리 2개, 2번 유저는 이미 참가자
+        doReturn(Optional.of(firstComeMeeting(8))).when(meetingRepository).findByIdForUpdate(1L);
+        doReturn(List.of(participant(1L, false), participant(2L, false))).when(meetingParticipantRepository).findAllByMeetingId(1L);
+        doReturn(List.of(user(2L), user(3L), user(4L), user(5L))).when(userRepository).findAllById(anyIterable());
+        doReturn(1).when(meetingRepository).increaseParticipantsCountIfAvailable(1L, 2);
+
+        //when
+        Map<Long, AdmissionStatus> results = meetingService.admitQueuedParticipants(1L, List.of(3L, 2L, 4L, 5L));
+
+        //then
+        assertThat(results).containsExactly(
+                Map.entry(3L, AdmissionStatus.ADMITTED),
+                Map.entry(2L, AdmissionStatus.ALREADY_JOINED),
+                Map.entry(4L, AdmissionStatus.ADMITTED),
+                Map.entry(5L, AdmissionStatus.FULL));
+        verify(meetingParticipantRepository, times(1)).saveAll(argThat((List<MeetingParticipant> participants) -> participants.size() == 2));
+        verify(meetingRepository, times(1)).increaseParticipantsCountIfAvailable(1L, 2);
+        verify(meetingLocationIndex, times(1)).upsert(argThat(location -> location.getParticipantsCount() == 10));
+    }
+
+    private MeetingDistanceRow distanceRow(Long meetingId, double distance) {
+        return new MeetingDistanceRow() {
+            @Override
+            public Long getMeetingId() {
+                return meetingId;
+            }
+
+            @Override
+            public Double getDistance() {
+                return distance;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("거리순 전체 스크롤은 반경 안에서 size + 1 개를 채울 때까지 반경을 넓혀 조회")
+    void scrollAllMeetings_growsRadiusUntilFilled() {
+        //given
+        PointMapper seoul = PointMapper.from(37.5665, 126.9780);
+        doReturn(List.of(distanceRow(1L, 100.0))).when(meetingRepository)
+                .findSliceByDistanceWithin(any(), any(), eq(1500.0), eq(-1.0), eq(0L), eq(3));
+        doReturn(List.of(distanceRow(1L, 100.0), distanceRow(2L, 2000.0), distanceRow(3L, 5000.0))).when(meetingRepository)
+                .findSliceByDistanceWithin(any(), any(), eq(6000.0), eq(-1.0), eq(0L), eq(3));
+        doReturn(Collections.emptyList()).when(meetingRepository).findAllById(anyIterable());
+
+        //when
+        GetSearchPageRes result = meetingService.scrollAllMeetings(seoul, null, 2);
+
+        //then
+        assertThat(result.getHasNext()).isTrue();
+        SearchCursor next = SearchCursor.decode(result.getNextCursor());
+        assertThat(next.getDistance()).isEqualTo(2000.0);
+        assertThat(next.getMeetingId()).isEqualTo(2L);
+        verify(meetingRepository, never()).findSliceByDistance(any(), anyDouble(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("반경을 넓혀도 모자라면 범위 없이 거리순 조회")
+    void scrollAllMeetings_fallsBackToUnbounded() {
+        //given
+        PointMapper seoul = PointMapper.from(37.5665, 126.9780);
+        String cursor = SearchCursor.of(3000.0, 7L).encode();
+        doReturn(Collections.emptyList()).when(meetingRepository)
+                .findSliceByDistanceWithin(any(), any(), anyDouble(), eq(3000.0), eq(7L), eq(3));
+        doReturn(List.of(distanceRow(8L, 9_000_000.0))).when(meetingRepository)
+                .findSliceByDistance(any(), eq(3000.0), eq(7L), eq(3));
+        doReturn(Collections.emptyList()).when(meetingRepository).findAllById(anyIterable());
+
+        //when
+        GetSearchPageRes result = meetingService.scrollAllMeetings(seoul, cursor, 2);
+
+        //then
+        assertThat(result.getHasNext()).isFalse();
+        // 6km 에서 시작해 4배씩, 서울 기준 북극에 걸리기 전(1536km)까지
+        verify(meetingRepository, times(5)).findSliceByDistanceWithin(any(), any(), anyDouble(), anyDouble(), anyLong(), anyInt());
+        verify(meetingRepository, times(1)).findSliceByDistance(any(), eq(3000.0), eq(7L), eq(3));
+    }
+}
@@ -1,5 +1,9 @@
 package com.techeersalon.moitda.domain.user.service;
 
+import com.techeersalon.moitda.domain.chat.service.ChatSenderSnapshotUpdater;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingParticipantRepository;
+import com.techeersalon.moitda.domain.meetings.repository.MeetingRepository;
+import com.techeersalon.moitda.domain.meetings.service.MeetingDetailCache;
 import com.techeersalon.moitda.domain.user.dto.mapper.UserMapper;
 import com.techeersalon.moitda.domain.user.dto.request.SignUpReq;
 import com.techeersalon.moitda.domain.user.dto.request.UpdateUserReq;
@@ -10,6 +14,8 @@ import com.techeersalon.moitda.domain.user.entity.Role;
 import com.techeersalon.moitda.domain.user.entity.User;
 import com.techeersalon.moitda.domain.user.exception.UserAlreadyRegisteredException;
 import com.techeersalon.moitda.domain.user.repository.UserRepository;
+import com.techeersalon.moitda.global.jwt.AuthUserCache;
+import com.techeersalon.moitda.global.jwt.TokenDenylist;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,7 +30,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.techeersalon.moitda.global.error.ErrorCode.USER_ALREADY_REGISTERED;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +46,18 @@ class UserServiceTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private AuthUserCache authUserCache;
+    @Mock
+    private TokenDenylist tokenDenylist;
+    @Mock
+    private ChatSenderSnapshotUpdater chatSenderSnapshotUpdater;
+    @Mock
+    private MeetingRepository meetingRepository;
+    @Mock
+    private MeetingParticipantRepository meetingParticipantRepository;
+    @Mock
+    private MeetingDetailCache meetingDetailCache;
     @InjectMocks
     @Spy
     private UserService userService;
@@ -155,6 +176,24 @@ class UserServiceTest {
         assertThat(result.getUserId()).isEqualTo(user.getId());
     }
 
+    @Test
+    @DisplayName("채팅 발신자 프로필은 중복 없이 한 번에 조회")
+    void findUserProfilesForChat() {
+        //given
+        User first = User.builder().id(1L).username("first").build();
+        User second = User.builder().id(2L).username("second").build();
+        doReturn(List.of(first, second)).when(userRepository).findAllById(any());
+
+        //when
+        Map<Long, UserProfileRes> result = userService.findUserProfilesForChat(List.of(1L, 2L, 1L, 1L));
+
+        //then
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(result.get(2L).getUsername()).isEqualTo("second");
+        verify(userRepository, times(1)).findAllById(Set.of(1L, 2L));
+        verify(userRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("현재 접속자가 다른 사용자 조회")
     void findUserProfile() {
@@ -332,4 +371,57 @@ class UserServiceTest {
         assertThat(user.getProfileImage()).isEqualTo("existingProfileImageUrl");
         assertThat(user.getBannerImage()).isEqualTo("existingBannerImageUrl");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이름이나 프로필 이미지가 바뀌면 채팅 메세지의 발신자 정보 갱신 요청")
+    void updateUserProfile_refreshesChatSenderSnapshot() throws IOException {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .username("before")
+                .email("email")
+                .profileImage("profile")
+                .role(Role.USER)
+                .mannerStat(40)
+                .build();
+        UpdateUserReq updateUserReq = UpdateUserReq.builder()
+                .username("after")
+                .build();
+
+        doReturn(user).when(userService).getLoginUser();
+        doReturn(user).when(userRepository).save(any());
+
+        //when
+        userService.updateUserProfile(updateUserReq, "profile", null, null, null);
+
+        //then
+        verify(chatSenderSnapshotUpdater, times(1)).refresh(1L);
+    }
+
+    @Test
+    @DisplayName("이름과 프로필 이미지가 그대로면 발신자 정보 갱신을 요청하지 않음")
+    void updateUserProfile_sameSenderInfo() throws IOException {
+        //given
+        User user = User.builder()
+                .id(1L)
+                .username("same")
+                .email("email")
+                .profileImage("profile")
+                .role(Role.USER)
+                .mannerStat(40)
+                .build();
+        UpdateUserReq updateUserReq = UpdateUserReq.builder()
+                .username("same")
+                .introduce("changed introduce")
+                .build();
+
+        doReturn(user).when(userService).getLoginUser();
+        doReturn(user).when(userRepository).save(any());
+
+        //when
+        userService.updateUserProfile(updateUserReq, "profile", null, null, null);
+
+        //then
+        verify(chatSenderSnapshotUpdater, never()).refresh(any());
+    }
+}
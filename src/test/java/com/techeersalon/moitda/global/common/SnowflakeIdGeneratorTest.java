@@ -0,0 +1,64 @@
+package com.techeersalon.moitda.global.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("같은 ms 안에서도 id 는 계속 증가")
+    void nextId_isStrictlyIncreasing() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("노드가 다르면 같은 시각에 생성해도 id 가 겹치지 않음")
+    void nextId_containsNodeId() {
+        long first = new SnowflakeIdGenerator(1).nextId();
+        long second = new SnowflakeIdGenerator(2).nextId();
+
+        assertThat((first >> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(1);
+        assertThat((second >> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("노드 id 를 할당받기 전에는 id 를 생성하지 않음")
+    void nextId_requiresAssignedNodeId() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator();
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+
+        generator.assignNodeId(3);
+        assertThat((generator.nextId() >> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("지정한 시각으로 만든 id 는 시각 순서를 따르고 그 시각에 생성한 id 보다 작음")
+    void idAt_followsTimestamp() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        long now = System.currentTimeMillis();
+
+        long older = generator.idAt(now - 60_000, SnowflakeIdGenerator.MAX_SEQUENCE);
+        long newer = generator.idAt(now - 59_999, 0);
+
+        assertThat(older).isLessThan(newer);
+        assertThat(newer).isLessThan(generator.nextId());
+    }
+
+    @Test
+    @DisplayName("노드 id 범위를 벗어나면 생성 실패")
+    void constructor_rejectsInvalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
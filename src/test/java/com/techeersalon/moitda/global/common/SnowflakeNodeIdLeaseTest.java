@@ -0,0 +1,68 @@
+package com.techeersalon.moitda.global.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SnowflakeNodeIdLeaseTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private SnowflakeIdGenerator generator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        generator = new SnowflakeIdGenerator();
+    }
+
+    private long nodeIdOf(long id) {
+        return (id >> 12) & SnowflakeIdGenerator.MAX_NODE_ID;
+    }
+
+    @Test
+    @DisplayName("node-id 를 지정하면 Redis 를 사용하지 않고 그 값을 사용")
+    void init_usesConfiguredNodeId() {
+        new SnowflakeNodeIdLease(stringRedisTemplate, generator, "5", 60).init();
+
+        assertThat(nodeIdOf(generator.nextId())).isEqualTo(5);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 사용 중인 번호는 건너뛰고 비어 있는 번호를 할당")
+    void init_acquiresFreeNodeId() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.setIfAbsent(eq("id-generator:node:42"), anyString(), any(Duration.class))).thenReturn(true);
+
+        new SnowflakeNodeIdLease(stringRedisTemplate, generator, "", 60).init();
+
+        assertThat(nodeIdOf(generator.nextId())).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("비어 있는 번호가 없으면 시작 실패")
+    void init_failsWhenAllNodeIdsAreTaken() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        SnowflakeNodeIdLease lease = new SnowflakeNodeIdLease(stringRedisTemplate, generator, "", 60);
+
+        assertThatThrownBy(lease::init).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.techeersalon.moitda.global.jwt;
+
+import com.techeersalon.moitda.domain.user.entity.Role;
+import com.techeersalon.moitda.domain.user.entity.SocialType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthUserCacheTest {
+
+    private final AuthUserCache cache = new AuthUserCache(60_000);
+
+    @Test
+    @DisplayName("같은 유저는 한 번만 조회하고 삭제 후에는 다시 조회")
+    void get_loadsOnceUntilEvicted() {
+        AtomicInteger loadCount = new AtomicInteger();
+        AuthUser authUser = new AuthUser(1L, "user@naver.com", SocialType.NAVER, Role.USER);
+
+        for (int i = 0; i < 3; i++) {
+            Optional<AuthUser> result = cache.get(SocialType.NAVER, "user@naver.com", () -> {
+                loadCount.incrementAndGet();
+                return Optional.of(authUser);
+            });
+            assertThat(result).contains(authUser);
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        cache.evict(SocialType.NAVER, "user@naver.com");
+        cache.get(SocialType.NAVER, "user@naver.com", () -> {
+            loadCount.incrementAndGet();
+            return Optional.of(authUser);
+        });
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("없는 유저는 캐시하지 않음")
+    void get_doesNotCacheMissingUser() {
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.get(SocialType.KAKAO, "none@kakao.com", () -> {
+            loadCount.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.get(SocialType.KAKAO, "none@kakao.com", () -> {
+            loadCount.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
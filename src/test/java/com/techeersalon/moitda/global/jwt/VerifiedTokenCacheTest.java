@@ -0,0 +1,38 @@
+package com.techeersalon.moitda.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(true, 60_000);
+
+    @Test
+    @DisplayName("검증한 토큰은 같은 토큰으로만 재사용")
+    void get_returnsClaimsOfSameToken() {
+        Claims claims = Jwts.claims().setId("jti");
+        claims.setExpiration(new Date(System.currentTimeMillis() + 60_000));
+
+        cache.put("token", claims);
+
+        assertThat(cache.get("token")).contains(claims);
+        assertThat(cache.get("other-token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지난 토큰은 캐시하지 않음")
+    void put_ignoresExpiredToken() {
+        Claims claims = Jwts.claims().setId("jti");
+        claims.setExpiration(new Date(System.currentTimeMillis() - 1));
+
+        cache.put("token", claims);
+
+        assertThat(cache.get("token")).isEmpty();
+    }
+}